@@ -0,0 +1,19 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.attachment")
+@Getter
+@Setter
+public class AttachmentConfig {
+    private String spoolDir = "uploads/.spool"; // 요청이 끝난 뒤 처리할 업로드 파일을 임시로 두는 위치 (저장소와 같은 디스크 권장)
+    private int workers = 2; // 첨부파일을 저장소로 옮기는 작업 스레드 수
+    private int queueCapacity = 64; // 대기 중인 게시글 수 (가득 차면 요청 스레드에서 직접 처리)
+    private Duration statusRetention = Duration.ofMinutes(10); // 처리 완료 후 상태를 메모리에 보관하는 시간
+}
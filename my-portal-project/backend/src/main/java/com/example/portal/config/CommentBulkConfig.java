@@ -0,0 +1,14 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.comment-bulk")
+@Getter
+@Setter
+public class CommentBulkConfig {
+    private int batchSize = 500; // JDBC 배치 하나에 담을 최대 문장 수 (IN 조회의 최대 ID 수)
+}
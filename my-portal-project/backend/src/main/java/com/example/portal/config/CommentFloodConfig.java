@@ -0,0 +1,27 @@
+package com.example.portal.config;
+
+import com.example.portal.enums.CommentFloodMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.comment-flood")
+@Getter
+@Setter
+public class CommentFloodConfig {
+    private boolean enabled = true;
+    private CommentFloodMode mode = CommentFloodMode.REJECT;
+    private long windowMillis = 60000; // 작성 횟수를 세는 슬라이딩 윈도 길이
+    private int buckets = 12; // 윈도를 나누는 구간 수 (구간 하나가 5초)
+    private int userLimit = 10; // 윈도 안에서 사용자 한 명이 작성할 수 있는 댓글 수
+    private int postLimit = 300; // 윈도 안에서 게시글 하나에 작성될 수 있는 댓글 수
+    private int fingerprintHistory = 4096; // 중복 비교에 쓰는 최근 댓글 지문 수
+    private long duplicateTtl = 600000; // 이보다 오래된 지문은 비교하지 않음 (밀리초)
+    private int minFingerprintLength = 20; // 공백/기호를 뺀 내용이 이보다 짧으면 중복 검사 생략
+    private int maxDistance = 3; // SimHash 해밍 거리가 이 이하이면 같은 내용으로 판단
+    private int duplicateThreshold = 2; // 같은 사용자나 같은 게시글의 유사 댓글이 이만큼 있으면 차단
+    private int shadowQueueSize = 1000; // SHADOW 모드 검토 대기열 크기 (넘치면 오래된 것부터 버림)
+    private long cleanupInterval = 60000; // 유휴 카운터 정리 주기 (밀리초)
+}
@@ -0,0 +1,16 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.comment-stream")
+@Getter
+@Setter
+public class CommentStreamConfig {
+    private int fetchSize = 500; // JDBC 커서가 한 번에 가져올 행 수
+    private int flushEvery = 200; // 이 행 수마다 응답을 내보냄
+    private int maxRows = 100000; // 한 번의 스트림에서 내보낼 최대 행 수
+}
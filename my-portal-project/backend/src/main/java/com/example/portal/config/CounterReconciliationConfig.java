@@ -0,0 +1,17 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.counter-reconciliation")
+@Getter
+@Setter
+public class CounterReconciliationConfig {
+    private boolean enabled = true;
+    private long interval = 600000; // 밀리초
+    private long initialDelay = 60000; // 밀리초
+    private int batchSize = 500; // 한 번에 검사할 게시글 ID 범위
+}
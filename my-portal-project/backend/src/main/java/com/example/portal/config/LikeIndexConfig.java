@@ -0,0 +1,15 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.like-index")
+@Getter
+@Setter
+public class LikeIndexConfig {
+    private boolean enabled = true;
+    private long maxBytes = 64L * 1024 * 1024; // 게시글별 좋아요 비트맵에 사용할 최대 메모리 (초과 시 오래 사용하지 않은 게시글부터 제거)
+}
@@ -0,0 +1,14 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.main-page")
+@Getter
+@Setter
+public class MainPageConfig {
+    private long refreshInterval = 10000; // 밀리초, 조회수/좋아요 수 반영 주기
+}
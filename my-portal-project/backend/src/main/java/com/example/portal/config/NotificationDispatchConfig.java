@@ -0,0 +1,18 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.notification-dispatch")
+@Getter
+@Setter
+public class NotificationDispatchConfig {
+    private int queueCapacity = 10000; // 처리 대기 중인 활동 수
+    private int batchSize = 500; // 한 번에 묶어서 처리할 최대 활동 수
+    private long offerTimeout = 50; // 대기열이 가득 찼을 때 기다리는 시간, 지나면 요청 스레드에서 직접 기록 (밀리초)
+    private long pollTimeout = 1000; // 작업 스레드가 새 활동을 기다리는 시간 (밀리초)
+    private long shutdownTimeout = 5000; // 종료 시 남은 활동을 기록하기 위해 기다리는 시간 (밀리초)
+}
@@ -0,0 +1,19 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.post")
+@Getter
+@Setter
+public class PostCacheConfig {
+    private boolean enabled = true;
+    private int maxSize = 10000; // 캐시할 최대 게시글 수
+    private Duration ttl = Duration.ofMinutes(5); // 쓰기 무효화가 누락된 경우를 대비한 만료 시간
+    private int segments = 16; // 락 경합을 줄이기 위한 세그먼트 수
+}
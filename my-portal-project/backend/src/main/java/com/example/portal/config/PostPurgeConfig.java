@@ -0,0 +1,21 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.post-purge")
+@Getter
+@Setter
+public class PostPurgeConfig {
+    private boolean enabled = true;
+    private long interval = 60000; // 밀리초
+    private Duration gracePeriod = Duration.ofMinutes(5); // 삭제 표시 후 정리 대상이 되기까지의 유예 기간
+    private int postsPerRun = 20; // 한 번의 실행에서 정리할 최대 게시글 수
+    private int batchSize = 500; // 한 트랜잭션에서 삭제할 최대 하위 행 수
+    private long batchPause = 50; // 배치 사이 대기 시간 (밀리초) - 다른 쓰기 요청이 잠금을 얻을 틈을 줌
+}
@@ -0,0 +1,16 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.schema-migration")
+@Getter
+@Setter
+public class SchemaMigrationConfig {
+    private boolean enabled = true;
+    private String location = "classpath*:db/migration/{vendor}/"; // {vendor} 는 sqlite / oracle 로 치환
+    private boolean verifyIndexes = true; // 필수 인덱스가 없으면 애플리케이션 시작을 중단
+}
@@ -0,0 +1,20 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class SearchConfig {
+    private String engine = "memory"; // memory | sqlite-fts
+    private boolean rebuildOnStartup = true; // 색인이 비어 있거나 메모리 색인이면 시작 시 재색인
+    private int rebuildBatchSize = 1000; // 재색인 시 한 번에 기록할 문서 수
+    private String tokenizer = "ngram"; // word | ngram (메모리 색인에서 사용)
+    private int maxPrefixExpansions = 64; // 접두어 검색 시 확장할 최대 토큰 수
+    private int suggestLimit = 10; // 자동완성 최대 결과 수
+    private int suggestMaxEdits = 2; // 자동완성 오타 허용 편집 거리
+}
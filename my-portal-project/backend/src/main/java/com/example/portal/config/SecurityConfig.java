@@ -48,10 +48,19 @@ public class SecurityConfig {
         private final CustomOAuth2UserService customOAuth2UserService;
         private final UserDetailsServiceImpl userDetailsService;
 
+        /**
+         * 관리자만 호출할 수 있는 API (댓글 일괄 작업, 도배 판정 댓글 조회, 검색 색인 재생성)
+         */
+        private static final String[] ADMIN_PATHS = {
+                        "/api/comments/bulk/**",
+                        "/api/comments/shadowed",
+                        "/api/search-index/rebuild"
+        };
+
         /**
          * 보안 필터 체인 설정
          * - CSRF 보호 비활성화 (JWT 사용으로 인해)
-         * - 엔드포인트별 접근 권한 설정
+         * - 엔드포인트별 접근 권한 설정 (관리자 API 는 ROLE_ADMIN 필요)
          * - JWT 필터 등록
          */
         @Bean
@@ -75,6 +84,7 @@ public class SecurityConfig {
                                                                 "/js/**",
                                                                 "/images/**")
                                                 .permitAll()
+                                                .requestMatchers(ADMIN_PATHS).hasRole("ADMIN")
                                                 .anyRequest().authenticated())
                                 .oauth2Login(oauth2 -> oauth2
                                                 .authorizationEndpoint(endpoint -> endpoint
@@ -110,6 +120,7 @@ public class SecurityConfig {
                                                                 "/js/**",
                                                                 "/images/**")
                                                 .permitAll()
+                                                .requestMatchers(ADMIN_PATHS).hasRole("ADMIN")
                                                 .anyRequest().authenticated())
                                 .authenticationProvider(authenticationProvider())
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,19 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.trending")
+@Getter
+@Setter
+public class TrendingConfig {
+    private double viewWeight = 1.0;
+    private double likeWeight = 5.0;
+    private double commentWeight = 3.0;
+    private int topK = 100; // 구간별로 유지할 상위 게시글 수
+    private double pruneBelow = 0.05; // 감쇠된 점수가 이보다 작으면 추적 중단
+    private long pruneInterval = 600000; // 밀리초
+}
@@ -0,0 +1,16 @@
+package com.example.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.view-count")
+@Getter
+@Setter
+public class ViewCountConfig {
+    private boolean writeBehind = true; // false 이면 조회 시마다 바로 DB 에 반영
+    private long flushInterval = 5000; // 밀리초
+    private int batchSize = 500; // 한 번의 JDBC 배치에 담을 게시글 수
+}
@@ -1,19 +1,34 @@
 // CommentController.java
 package com.example.portal.controller;
 
+import com.example.portal.dto.CursorResponse;
+import com.example.portal.dto.comment.CommentBulkCreateRequest;
+import com.example.portal.dto.comment.CommentBulkDeleteRequest;
+import com.example.portal.dto.comment.CommentBulkResponse;
 import com.example.portal.dto.comment.CommentRequestDto;
 import com.example.portal.dto.comment.CommentResponse;
+import com.example.portal.dto.comment.CommentTreeResponse;
+import com.example.portal.dto.comment.ShadowedComment;
+import com.example.portal.enums.CursorDirection;
+import com.example.portal.service.CommentBulkService;
 import com.example.portal.service.CommentService;
+import com.example.portal.service.CommentStreamService;
+import com.example.portal.service.comment.CommentFloodDetector;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -21,6 +36,9 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "댓글", description = "댓글 관련 API")
 public class CommentController {
         private final CommentService commentService;
+        private final CommentStreamService commentStreamService;
+        private final CommentBulkService commentBulkService;
+        private final CommentFloodDetector commentFloodDetector;
 
         @GetMapping("/post/{postId}")
         @Operation(summary = "게시글의 댓글 목록 조회", description = "특정 게시글의 모든 댓글을 조회합니다.")
@@ -35,6 +53,60 @@ public class CommentController {
                 return ResponseEntity.ok(commentService.getCommentsByPost(postId, pageable));
         }
 
+        @GetMapping("/post/{postId}/cursor")
+        @Operation(summary = "게시글의 댓글 커서 조회", description = "댓글을 (작성 시각, ID) 커서 기준으로 조회합니다. COUNT 쿼리를 실행하지 않습니다. "
+                        + "direction=BEFORE 는 커서보다 오래된 댓글을 최신순으로, AFTER 는 커서 이후 새로 작성된 댓글을 작성순으로 조회합니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+                        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 조회 방향"),
+                        @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+        })
+        public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+                        @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+                        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "조회 방향 (BEFORE, AFTER)") @RequestParam(defaultValue = "BEFORE") String direction,
+                        @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+                return ResponseEntity.ok(commentService.getCommentsByCursor(postId, cursor,
+                                CursorDirection.from(direction), size));
+        }
+
+        @GetMapping(value = "/post/{postId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        @Operation(summary = "게시글의 댓글 스트리밍", description = "댓글을 한 줄에 하나씩 NDJSON 으로 스트리밍합니다. "
+                        + "정렬과 시작 위치는 커서 조회와 같습니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "댓글 스트리밍 시작"),
+                        @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 조회 방향"),
+                        @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+        })
+        public ResponseEntity<StreamingResponseBody> streamComments(
+                        @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+                        @Parameter(description = "시작 위치 커서 (생략하면 처음부터)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "조회 방향 (BEFORE, AFTER)") @RequestParam(defaultValue = "BEFORE") String direction,
+                        @Parameter(description = "최대 행 수 (생략하면 서버 설정값)") @RequestParam(required = false) Integer limit) {
+                return ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .body(commentStreamService.open(postId, cursor, CursorDirection.from(direction), limit));
+        }
+
+        @GetMapping("/post/{postId}/tree")
+        @Operation(summary = "게시글의 댓글 트리 조회", description = "게시글의 댓글을 답글 트리 형태로 한 번의 쿼리로 조회합니다. "
+                        + "size 를 지정하면 최신 루트 댓글 size 개의 스레드와 스레드별 앞쪽 답글 replies 개만 조회합니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "댓글 트리 조회 성공"),
+                        @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음"),
+                        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+        })
+        public ResponseEntity<CommentTreeResponse> getCommentTree(
+                        @Parameter(description = "게시글 ID", required = true) @PathVariable Long postId,
+                        @Parameter(description = "페이지당 루트 댓글 스레드 수 (생략하면 전체 트리, 최대 100)") @RequestParam(required = false) Integer size,
+                        @Parameter(description = "스레드 페이지 번호") @RequestParam(defaultValue = "0") int page,
+                        @Parameter(description = "스레드별 답글 수 (최대 100)") @RequestParam(defaultValue = "3") int replies) {
+                if (size == null) {
+                        return ResponseEntity.ok(commentService.getCommentTree(postId));
+                }
+                return ResponseEntity.ok(commentService.getCommentThreads(postId, page, size, replies));
+        }
+
         @PostMapping("/post/{postId}")
         @Operation(summary = "댓글 작성", description = "새로운 댓글을 작성합니다.")
         @ApiResponses({
@@ -81,6 +153,53 @@ public class CommentController {
                 return ResponseEntity.noContent().build();
         }
 
+        @PostMapping("/bulk")
+        @Operation(summary = "댓글 일괄 작성 (관리자)", description = "댓글을 한 번에 최대 5000개까지 작성합니다. 이전 시스템에서 가져온 댓글처럼 작성 시각을 지정할 수 있으며, 답글의 부모 댓글은 이미 저장된 댓글이어야 합니다. 하나라도 실패하면 전체가 취소됩니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "일괄 작성 성공"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+                        @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+                        @ApiResponse(responseCode = "404", description = "게시글, 사용자 또는 부모 댓글을 찾을 수 없음")
+        })
+        public ResponseEntity<CommentBulkResponse> createComments(
+                        @Parameter(description = "일괄 작성 요청", required = true) @Valid @RequestBody CommentBulkCreateRequest request) {
+                return ResponseEntity.ok(commentBulkService.create(request.getComments()));
+        }
+
+        @PostMapping("/bulk/delete")
+        @Operation(summary = "댓글 일괄 삭제 (관리자)", description = "댓글과 그 답글 전체를 삭제합니다. 존재하지 않는 ID 는 건너뜁니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "일괄 삭제 성공"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+                        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+        })
+        public ResponseEntity<CommentBulkResponse> deleteComments(
+                        @Parameter(description = "일괄 삭제 요청", required = true) @Valid @RequestBody CommentBulkDeleteRequest request) {
+                return ResponseEntity.ok(commentBulkService.delete(request.getIds()));
+        }
+
+        @PostMapping("/bulk/soft-delete")
+        @Operation(summary = "댓글 일괄 삭제 표시 (관리자)", description = "댓글에 삭제 표시를 합니다. 답글은 유지되고 내용은 가려지며 댓글 수에서 제외됩니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "일괄 삭제 표시 성공"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+                        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+        })
+        public ResponseEntity<CommentBulkResponse> softDeleteComments(
+                        @Parameter(description = "일괄 삭제 표시 요청", required = true) @Valid @RequestBody CommentBulkDeleteRequest request) {
+                return ResponseEntity.ok(commentBulkService.softDelete(request.getIds()));
+        }
+
+        @GetMapping("/shadowed")
+        @Operation(summary = "도배 판정 댓글 조회 (관리자)", description = "SHADOW 모드에서 도배로 판정되어 저장되지 않은 최근 댓글을 오래된 순으로 조회합니다.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "조회 성공"),
+                        @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+        })
+        public ResponseEntity<List<ShadowedComment>> getShadowedComments() {
+                return ResponseEntity.ok(commentFloodDetector.getShadowedComments());
+        }
+
         @Operation(summary = "게시글의 댓글 수 조회", description = "특정 게시글의 댓글 수를 조회합니다.")
         @GetMapping("/posts/{postId}/count")
         public ResponseEntity<Long> getCommentCount(@PathVariable Long postId) {
@@ -1,22 +1,43 @@
 package com.example.portal.controller;
 
 import com.example.portal.dto.MainPageResponseDto;
-import com.example.portal.service.MainPageService;
+import com.example.portal.service.ContentVersionService;
+import com.example.portal.service.MainPageSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/main")
 @RequiredArgsConstructor
 public class MainPageController {
 
-    private final MainPageService mainPageService;
+    private final MainPageSnapshotService mainPageSnapshotService;
+    private final ContentVersionService contentVersionService;
 
-    @GetMapping
-    public ResponseEntity<MainPageResponseDto> getMainPageData() {
-        return ResponseEntity.ok(mainPageService.getMainPageData());
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "메인 페이지 조회", description = "미리 만들어 둔 메인 페이지 스냅샷(최근/인기 게시물, 공지사항, 카테고리)을 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = MainPageResponseDto.class)))
+    @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같아 변경 없음")
+    public ResponseEntity<byte[]> getMainPageData(WebRequest webRequest) {
+        MainPageSnapshotService.Snapshot snapshot = mainPageSnapshotService.getSnapshot();
+        String eTag = contentVersionService.mainPageETag(snapshot.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getJson());
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.example.portal.controller;
+
+import com.example.portal.service.CommentBulkService;
+import com.example.portal.service.CommentStreamService;
+import com.example.portal.service.CounterReconciliationService;
+import com.example.portal.service.EntityCacheStatisticsService;
+import com.example.portal.service.MainPageSnapshotService;
+import com.example.portal.service.PostAttachmentService;
+import com.example.portal.service.PostCacheService;
+import com.example.portal.service.PostPurgeService;
+import com.example.portal.service.TrendingService;
+import com.example.portal.service.ViewCountService;
+import com.example.portal.service.category.CategoryRegistry;
+import com.example.portal.service.comment.CommentFloodDetector;
+import com.example.portal.service.like.PostLikerIndex;
+import com.example.portal.service.notification.NotificationDispatcher;
+import com.example.portal.service.schema.SchemaMigrationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@Tag(name = "메트릭", description = "내부 캐시 및 처리 통계 API")
+public class MetricsController {
+
+    private final PostCacheService postCacheService;
+    private final ViewCountService viewCountService;
+    private final CounterReconciliationService counterReconciliationService;
+    private final MainPageSnapshotService mainPageSnapshotService;
+    private final TrendingService trendingService;
+    private final PostLikerIndex postLikerIndex;
+    private final PostAttachmentService postAttachmentService;
+    private final SchemaMigrationService schemaMigrationService;
+    private final PostPurgeService postPurgeService;
+    private final CategoryRegistry categoryRegistry;
+    private final EntityCacheStatisticsService entityCacheStatisticsService;
+    private final CommentStreamService commentStreamService;
+    private final CommentBulkService commentBulkService;
+    private final CommentFloodDetector commentFloodDetector;
+    private final NotificationDispatcher notificationDispatcher;
+
+    @GetMapping("/post-cache")
+    @Operation(summary = "게시글 캐시 통계", description = "게시글 캐시의 적중/미스/제거 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getPostCacheStatistics() {
+        return ResponseEntity.ok(postCacheService.getStatistics());
+    }
+
+    @GetMapping("/view-count")
+    @Operation(summary = "조회수 카운터 통계", description = "반영 대기 중인 조회수와 배치 반영 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getViewCountStatistics() {
+        return ResponseEntity.ok(viewCountService.getStatistics());
+    }
+
+    @GetMapping("/counter-reconciliation")
+    @Operation(summary = "카운터 보정 통계", description = "좋아요/댓글 수 보정 작업의 실행 및 보정 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCounterReconciliationStatistics() {
+        return ResponseEntity.ok(counterReconciliationService.getStatistics());
+    }
+
+    @GetMapping("/main-page")
+    @Operation(summary = "메인 페이지 스냅샷 통계", description = "메인 페이지 스냅샷의 버전, 생성 시각, 재생성 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getMainPageStatistics() {
+        return ResponseEntity.ok(mainPageSnapshotService.getStatistics());
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "인기 급상승 통계", description = "집계 구간별로 점수를 추적 중인 게시글 수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getTrendingStatistics() {
+        return ResponseEntity.ok(trendingService.getStatistics());
+    }
+
+    @GetMapping("/like-index")
+    @Operation(summary = "좋아요 비트맵 통계", description = "게시글별 좋아요 사용자 비트맵의 개수, 메모리 사용량, 적중/로딩/제거 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getLikeIndexStatistics() {
+        return ResponseEntity.ok(postLikerIndex.getStatistics());
+    }
+
+    @GetMapping("/attachments")
+    @Operation(summary = "첨부파일 처리 통계", description = "첨부파일 작업 풀의 대기/처리 현황과 성공/실패 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getAttachmentStatistics() {
+        return ResponseEntity.ok(postAttachmentService.getStatistics());
+    }
+
+    @GetMapping("/schema")
+    @Operation(summary = "스키마 마이그레이션 현황", description = "적용된 마이그레이션 버전과 시작 시 검증하는 필수 인덱스 목록을 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getSchemaStatistics() {
+        return ResponseEntity.ok(schemaMigrationService.getStatistics());
+    }
+
+    @GetMapping("/post-purge")
+    @Operation(summary = "삭제 게시글 정리 통계", description = "정리 대기 중인 삭제 게시글 수와 정리된 게시글/댓글/좋아요/첨부파일 수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getPostPurgeStatistics() {
+        return ResponseEntity.ok(postPurgeService.getStatistics());
+    }
+
+    @GetMapping("/categories")
+    @Operation(summary = "카테고리 레지스트리 통계", description = "메모리 카테고리 스냅샷의 버전, 카테고리 수, 적재 시각을 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCategoryRegistryStatistics() {
+        return ResponseEntity.ok(categoryRegistry.getStatistics());
+    }
+
+    @GetMapping("/entity-cache")
+    @Operation(summary = "2차 캐시 통계", description = "사용자/카테고리 엔티티 캐시와 이메일 자연 키 캐시의 영역별 적중/미스/저장 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getEntityCacheStatistics() {
+        return ResponseEntity.ok(entityCacheStatisticsService.getStatistics());
+    }
+
+    @GetMapping("/comment-stream")
+    @Operation(summary = "댓글 스트리밍 통계", description = "진행 중/완료/중단된 댓글 스트림 수와 내보낸 댓글 수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCommentStreamStatistics() {
+        return ResponseEntity.ok(commentStreamService.getStatistics());
+    }
+
+    @GetMapping("/comment-bulk")
+    @Operation(summary = "댓글 일괄 처리 통계", description = "일괄 작성/삭제/삭제 표시된 댓글 수와 실행한 JDBC 배치 수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCommentBulkStatistics() {
+        return ResponseEntity.ok(commentBulkService.getStatistics());
+    }
+
+    @GetMapping("/comment-flood")
+    @Operation(summary = "댓글 도배 감지 통계", description = "도배 검사 횟수와 판정별 횟수, 추적 중인 사용자/게시글 수, SHADOW 대기열 크기를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCommentFloodStatistics() {
+        return ResponseEntity.ok(commentFloodDetector.getStatistics());
+    }
+
+    @GetMapping("/notification-dispatch")
+    @Operation(summary = "알림 발송 통계", description = "알림 대기열 크기와 접수/직접 기록/배치/기록/실패 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getNotificationDispatchStatistics() {
+        return ResponseEntity.ok(notificationDispatcher.getStatistics());
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.portal.controller;
 
+import com.example.portal.dto.CursorResponse;
+import com.example.portal.dto.post.PostAttachmentResponse;
+import com.example.portal.dto.post.PostBatchGetRequest;
+import com.example.portal.dto.post.PostBatchGetResponse;
+import com.example.portal.dto.post.PostLikeResponse;
 import com.example.portal.dto.post.PostRequest;
 import com.example.portal.dto.post.PostResponse;
 import com.example.portal.dto.post.PostFileResponse;
 import com.example.portal.entity.User;
+import com.example.portal.enums.TrendingWindow;
 import com.example.portal.security.UserPrincipal;
 import com.example.portal.security.SecurityUtil;
+import com.example.portal.service.ContentVersionService;
 import com.example.portal.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,9 +24,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.validation.Valid;
@@ -33,9 +44,10 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final ContentVersionService contentVersionService;
 
     @PostMapping(consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
-    @Operation(summary = "게시글 작성", description = "새로운 게시글을 작성합니다.")
+    @Operation(summary = "게시글 작성", description = "새로운 게시글을 작성합니다. 첨부파일은 게시글 저장 후 비동기로 처리되며 attachments 에 처리 상태가 포함됩니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "게시글 작성 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -47,25 +59,59 @@ public class PostController {
         return ResponseEntity.ok(postService.createPost(request, files));
     }
 
+    @GetMapping("/{postId}/attachments")
+    @Operation(summary = "첨부파일 처리 상태 조회", description = "게시글 첨부파일별 처리 상태(PENDING, READY, FAILED)를 조회합니다.")
+    public ResponseEntity<List<PostAttachmentResponse>> getAttachmentStatus(@PathVariable Long postId) {
+        return ResponseEntity.ok(postService.getAttachmentStatus(postId));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "게시글 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같아 변경 없음"),
             @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
     })
     public ResponseEntity<PostResponse> getPost(
-            @Parameter(description = "게시글 ID", required = true) @PathVariable Long id) {
-        return ResponseEntity.ok(postService.getPost(id));
+            @Parameter(description = "게시글 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
+        Long viewerId = SecurityUtil.findCurrentUserId().orElse(null);
+        String eTag = contentVersionService.postETag(id, viewerId);
+        if (webRequest.checkNotModified(eTag)) {
+            // 캐시된 본문을 다시 보여준 것도 조회이므로 조회수에 포함
+            postService.recordView(id);
+            return conditional(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag, viewerId).build();
+        }
+        return conditional(ResponseEntity.ok(), eTag, viewerId).body(postService.getPost(id));
     }
 
     @GetMapping
     @Operation(summary = "게시글 목록 조회", description = "게시글 목록을 페이지네이션하여 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공")
+            @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같아 변경 없음")
     })
     public ResponseEntity<Page<PostResponse>> getPosts(
-            @Parameter(description = "페이지네이션 정보") Pageable pageable) {
-        return ResponseEntity.ok(postService.getPosts(pageable));
+            @Parameter(description = "페이지네이션 정보") Pageable pageable,
+            WebRequest webRequest) {
+        Long viewerId = SecurityUtil.findCurrentUserId().orElse(null);
+        String eTag = contentVersionService.postListETag(viewerId);
+        if (webRequest.checkNotModified(eTag)) {
+            return conditional(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag, viewerId).build();
+        }
+        return conditional(ResponseEntity.ok(), eTag, viewerId).body(postService.getPosts(pageable));
+    }
+
+    /**
+     * likedByMe 가 로그인한 사용자마다 달라지므로 인증 헤더별로 캐시를 구분하고, 로그인한 응답은 공유 캐시에 저장하지 않게 합니다.
+     */
+    private static ResponseEntity.BodyBuilder conditional(ResponseEntity.BodyBuilder builder, String eTag,
+            Long viewerId) {
+        builder.eTag(eTag).varyBy(HttpHeaders.AUTHORIZATION);
+        if (viewerId != null) {
+            builder.cacheControl(CacheControl.empty().cachePrivate());
+        }
+        return builder;
     }
 
     @PutMapping("/{id}")
@@ -97,18 +143,16 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "게시글 좋아요", description = "게시글에 좋아요를 추가합니다.")
+    @Operation(summary = "게시글 좋아요", description = "게시글에 좋아요를 추가하고 현재 좋아요 상태를 반환합니다. 이미 좋아요한 경우에도 같은 결과를 반환합니다.")
     @PostMapping("/{postId}/like")
-    public ResponseEntity<Void> addLike(@PathVariable Long postId) {
-        postService.addLike(postId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<PostLikeResponse> addLike(@PathVariable Long postId) {
+        return ResponseEntity.ok(postService.addLike(postId));
     }
 
-    @Operation(summary = "게시글 좋아요 취소", description = "게시글의 좋아요를 취소합니다.")
+    @Operation(summary = "게시글 좋아요 취소", description = "게시글의 좋아요를 취소하고 현재 좋아요 상태를 반환합니다. 좋아요하지 않은 경우에도 같은 결과를 반환합니다.")
     @DeleteMapping("/{postId}/like")
-    public ResponseEntity<Void> removeLike(@PathVariable Long postId) {
-        postService.removeLike(postId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<PostLikeResponse> removeLike(@PathVariable Long postId) {
+        return ResponseEntity.ok(postService.removeLike(postId));
     }
 
     @Operation(summary = "게시글 검색", description = "키워드로 게시글을 검색합니다.")
@@ -119,6 +163,21 @@ public class PostController {
         return ResponseEntity.ok(postService.searchPosts(keyword, pageable));
     }
 
+    @Operation(summary = "게시글 일괄 조회", description = "ID 목록으로 여러 게시글을 한 번에 조회합니다. 요청한 순서대로 반환하며 존재하지 않는 ID 는 missingIds 로 알려줍니다.")
+    @PostMapping("/batch-get")
+    public ResponseEntity<PostBatchGetResponse> getPostsByIds(
+            @Parameter(description = "조회할 게시글 ID 목록", required = true) @Valid @RequestBody PostBatchGetRequest request) {
+        return ResponseEntity.ok(postService.getPostsByIds(request.getIds()));
+    }
+
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 게시글 제목을 제안합니다. 오타가 있어도 비슷한 제목을 찾습니다.")
+    @GetMapping("/search/suggest")
+    public ResponseEntity<List<String>> suggestTitles(
+            @Parameter(description = "입력 중인 검색어", required = true) @RequestParam String q,
+            @Parameter(description = "최대 결과 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(postService.suggestTitles(q, limit));
+    }
+
     @Operation(summary = "카테고리별 게시글 검색", description = "특정 카테고리에서 키워드로 게시글을 검색합니다.")
     @GetMapping("/search/category/{categoryId}")
     public ResponseEntity<Page<PostResponse>> searchPostsByCategory(
@@ -148,6 +207,14 @@ public class PostController {
         return ResponseEntity.ok(postService.getPopularPosts(pageable));
     }
 
+    @Operation(summary = "인기 급상승 게시글 조회", description = "최근 조회/좋아요/댓글에 시간 감쇠를 적용한 점수로 게시글을 조회합니다. window 는 hour, day, week 중 하나입니다.")
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostResponse>> getTrendingPosts(
+            @Parameter(description = "집계 구간 (hour, day, week)") @RequestParam(defaultValue = "day") String window,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getTrendingPosts(TrendingWindow.from(window), size));
+    }
+
     @Operation(summary = "카테고리별 최근 게시글 조회", description = "특정 카테고리의 최근 게시글을 조회합니다.")
     @GetMapping("/category/{categoryName}/recent")
     public ResponseEntity<Page<PostResponse>> getRecentPostsByCategory(
@@ -156,6 +223,48 @@ public class PostController {
         return ResponseEntity.ok(postService.getRecentPostsByCategory(categoryName, pageable));
     }
 
+    @Operation(summary = "게시글 목록 커서 조회", description = "최신순 게시글 목록을 커서 기반으로 조회합니다. COUNT 쿼리를 실행하지 않습니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<PostResponse>> getPostsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getPostsByCursor(cursor, size));
+    }
+
+    @Operation(summary = "최근 게시글 커서 조회", description = "최근 작성된 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/recent/cursor")
+    public ResponseEntity<CursorResponse<PostResponse>> getRecentPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getRecentPostsByCursor(cursor, size));
+    }
+
+    @Operation(summary = "인기 게시글 커서 조회", description = "조회수가 높은 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<CursorResponse<PostResponse>> getPopularPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getPopularPostsByCursor(cursor, size));
+    }
+
+    @Operation(summary = "카테고리별 최근 게시글 커서 조회", description = "특정 카테고리의 최근 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/category/{categoryName}/recent/cursor")
+    public ResponseEntity<CursorResponse<PostResponse>> getRecentPostsByCategoryByCursor(
+            @PathVariable String categoryName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getRecentPostsByCategoryByCursor(categoryName, cursor, size));
+    }
+
+    @Operation(summary = "작성자별 게시글 커서 조회", description = "특정 작성자의 게시글을 최신순으로 커서 기반 조회합니다. COUNT 쿼리를 실행하지 않습니다.")
+    @GetMapping("/user/{username}/cursor")
+    public ResponseEntity<CursorResponse<PostResponse>> getPostsByUsernameByCursor(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getPostsByUsernameByCursor(username, cursor, size));
+    }
+
     @Operation(summary = "게시글 첨부파일 업로드", description = "게시글에 첨부할 파일을 업로드합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "업로드 성공"),
@@ -0,0 +1,35 @@
+package com.example.portal.controller;
+
+import com.example.portal.service.search.PostSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search-index")
+@RequiredArgsConstructor
+@Tag(name = "검색 색인", description = "게시글 검색 색인 관리 API")
+public class SearchIndexController {
+
+    private final PostSearchService postSearchService;
+
+    @GetMapping
+    @Operation(summary = "검색 색인 상태", description = "검색 엔진 종류와 색인된 문서 수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        return ResponseEntity.ok(postSearchService.getStatistics());
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "검색 색인 재생성 (관리자)", description = "전체 게시글로 검색 색인을 다시 만듭니다. 재생성 중에도 검색은 기존 색인으로 동작합니다.")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        int indexed = postSearchService.rebuild();
+        return ResponseEntity.ok(Map.of("indexed", indexed));
+    }
+}
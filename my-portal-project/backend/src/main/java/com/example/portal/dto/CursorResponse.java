@@ -0,0 +1,29 @@
+package com.example.portal.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorResponse<T> {
+
+    @Schema(description = "조회 결과 목록")
+    private List<T> content;
+
+    @Schema(description = "요청한 페이지 크기")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회에 사용할 커서 (마지막 페이지이면 null)")
+    private String nextCursor;
+}
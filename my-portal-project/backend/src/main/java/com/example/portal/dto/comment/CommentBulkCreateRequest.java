@@ -0,0 +1,51 @@
+package com.example.portal.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "댓글 일괄 작성 요청")
+public class CommentBulkCreateRequest {
+    @Valid
+    @NotEmpty(message = "작성할 댓글은 하나 이상이어야 합니다.")
+    @Size(max = 5000, message = "한 번에 최대 5000개의 댓글만 작성할 수 있습니다.")
+    @Schema(description = "작성할 댓글 목록 (응답의 ids 는 이 순서를 따름)")
+    private List<Item> comments;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "일괄 작성할 댓글")
+    public static class Item {
+        @NotNull(message = "게시글 ID 는 필수입니다.")
+        @Schema(description = "게시글 ID")
+        private Long postId;
+
+        @NotNull(message = "작성자 ID 는 필수입니다.")
+        @Schema(description = "작성자 ID")
+        private Long userId;
+
+        @Schema(description = "부모 댓글 ID (이미 저장된 댓글이어야 함)")
+        private Long parentId;
+
+        @NotBlank(message = "내용은 필수입니다.")
+        @Size(max = 1000, message = "내용은 1000자를 초과할 수 없습니다.")
+        @Schema(description = "댓글 내용")
+        private String content;
+
+        @Schema(description = "작성 시간 (가져오기 시 원래 시간 유지, 생략하면 현재 시간)")
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.portal.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "댓글 일괄 삭제 요청")
+public class CommentBulkDeleteRequest {
+    @NotEmpty(message = "삭제할 댓글 ID 는 하나 이상이어야 합니다.")
+    @Size(max = 5000, message = "한 번에 최대 5000개의 댓글만 삭제할 수 있습니다.")
+    @Schema(description = "삭제할 댓글 ID 목록", example = "[3, 1, 2]")
+    private List<Long> ids;
+}
@@ -0,0 +1,29 @@
+package com.example.portal.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "댓글 일괄 처리 응답")
+public class CommentBulkResponse {
+
+    @Schema(description = "작성/삭제/삭제 표시된 댓글 수 (삭제 시 함께 삭제된 답글 포함)")
+    private int affected;
+
+    @Schema(description = "작성된 댓글 ID 목록 (요청 순서, 일괄 작성 시에만 포함)")
+    private List<Long> ids;
+
+    @Schema(description = "존재하지 않는 댓글 ID 목록 (일괄 삭제 시에만 포함)")
+    private List<Long> missingIds;
+
+    @Schema(description = "댓글 수가 갱신된 게시글 수")
+    private int posts;
+}
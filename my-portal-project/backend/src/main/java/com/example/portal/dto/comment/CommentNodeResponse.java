@@ -0,0 +1,67 @@
+package com.example.portal.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "댓글 트리 노드 응답 DTO")
+public class CommentNodeResponse {
+
+    @Schema(description = "댓글 ID")
+    private Long id;
+
+    @Schema(description = "내용")
+    private String content;
+
+    @Schema(description = "작성자")
+    private String author;
+
+    @Schema(description = "작성일")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "수정일")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "부모 댓글 ID (대댓글인 경우)")
+    private Long parentId;
+
+    @Schema(description = "삭제 표시 여부 (답글이 있는 삭제된 댓글은 내용만 가려진 채 남음)")
+    private boolean deleted;
+
+    @Schema(description = "깊이 (루트 댓글은 0)")
+    private int depth;
+
+    @Schema(description = "응답에 포함되지 않은 답글이 더 있는지 여부 (스레드 페이지 조회 시 루트 댓글에만 표시)")
+    private boolean hasMoreReplies;
+
+    @Builder.Default
+    @Schema(description = "답글 목록 (작성 순)")
+    private List<CommentNodeResponse> replies = new ArrayList<>();
+
+    public static CommentNodeResponse from(CommentRow row) {
+        return CommentNodeResponse.builder()
+                .id(row.getId())
+                .content(row.getContent())
+                .author(row.getAuthor())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .parentId(row.getParentId())
+                .deleted(row.isDeleted())
+                .depth(row.getDepth())
+                .build();
+    }
+
+    public void markHasMoreReplies() {
+        this.hasMoreReplies = true;
+    }
+}
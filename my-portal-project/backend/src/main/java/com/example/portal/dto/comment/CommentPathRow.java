@@ -0,0 +1,16 @@
+package com.example.portal.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 처리 시 댓글의 게시글/경로/삭제 표시만 읽는 JPQL 생성자 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class CommentPathRow {
+    private final Long id;
+    private final Long postId;
+    private final String path;
+    private final boolean deleted;
+}
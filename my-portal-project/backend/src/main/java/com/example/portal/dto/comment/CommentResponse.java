@@ -38,6 +38,9 @@ public class CommentResponse {
     @Schema(description = "부모 댓글 ID (대댓글인 경우)")
     private Long parentId;
 
+    @Schema(description = "삭제 표시 여부 (삭제된 댓글은 내용이 가려짐)")
+    private boolean deleted;
+
     public static CommentResponse from(Comment comment) {
         return CommentResponse.builder()
                 .id(comment.getId())
@@ -49,4 +52,17 @@ public class CommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
+
+    public static CommentResponse from(CommentRow row) {
+        return CommentResponse.builder()
+                .id(row.getId())
+                .content(row.getContent())
+                .author(row.getAuthor())
+                .postId(row.getPostId())
+                .parentId(row.getParentId())
+                .deleted(row.isDeleted())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
 }
\ No newline at end of file
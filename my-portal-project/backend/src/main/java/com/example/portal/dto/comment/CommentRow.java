@@ -0,0 +1,44 @@
+package com.example.portal.dto.comment;
+
+import com.example.portal.entity.common.MaterializedPaths;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 한 행을 작성자 이름과 함께 한 번의 SQL 로 조회하기 위한 JPQL 생성자 프로젝션
+ *
+ * 게시글/부모 댓글은 외래 키 값만 읽으므로 CommentResponse 변환 시 지연 로딩이 발생하지 않습니다.
+ * 삭제 표시된 댓글은 답글 스레드를 유지하기 위해 행은 남기고 내용만 가립니다.
+ */
+@Getter
+public class CommentRow {
+    public static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+
+    private final Long id;
+    private final Long postId;
+    private final Long parentId;
+    private final String content;
+    private final String author;
+    private final String path;
+    private final boolean deleted;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public CommentRow(Long id, Long postId, Long parentId, String content, String author, String path,
+            boolean deleted, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.postId = postId;
+        this.parentId = parentId;
+        this.content = deleted ? DELETED_CONTENT : content;
+        this.author = author;
+        this.path = path;
+        this.deleted = deleted;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public int getDepth() {
+        return MaterializedPaths.depth(path);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.portal.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "게시글 댓글 트리 응답 DTO")
+public class CommentTreeResponse {
+
+    @Schema(description = "게시글 ID")
+    private Long postId;
+
+    @Schema(description = "루트 댓글 스레드 목록 (최신순)")
+    private List<CommentNodeResponse> threads;
+
+    @Schema(description = "스레드 페이지 번호 (전체 트리 조회 시 0)")
+    private int page;
+
+    @Schema(description = "페이지당 스레드 수 (전체 트리 조회 시 0)")
+    private int size;
+
+    @Schema(description = "다음 스레드 페이지 존재 여부")
+    private boolean hasNext;
+}
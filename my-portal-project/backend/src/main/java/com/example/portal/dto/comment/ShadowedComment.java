@@ -0,0 +1,34 @@
+package com.example.portal.dto.comment;
+
+import com.example.portal.enums.CommentFloodVerdict;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "도배로 판정되어 저장되지 않은 댓글 (SHADOW 모드 검토 대기열)")
+public class ShadowedComment {
+
+    @Schema(description = "작성자 ID")
+    private Long userId;
+
+    @Schema(description = "게시글 ID")
+    private Long postId;
+
+    @Schema(description = "부모 댓글 ID")
+    private Long parentId;
+
+    @Schema(description = "내용")
+    private String content;
+
+    @Schema(description = "판정 사유")
+    private CommentFloodVerdict verdict;
+
+    @Schema(description = "대기열에 들어간 시각")
+    private LocalDateTime queuedAt;
+}
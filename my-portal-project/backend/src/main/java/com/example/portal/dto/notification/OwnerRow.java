@@ -0,0 +1,14 @@
+package com.example.portal.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글/댓글 ID 와 작성자 ID (알림 수신자 조회용)
+ */
+@Getter
+@AllArgsConstructor
+public class OwnerRow {
+    private final Long id;
+    private final Long ownerId;
+}
@@ -0,0 +1,19 @@
+package com.example.portal.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 급상승 점수 초기화용 게시글 활동량
+ */
+@Getter
+@AllArgsConstructor
+public class PostActivityRow {
+    private final Long id;
+    private final int viewCount;
+    private final int likeCount;
+    private final int commentCount;
+    private final LocalDateTime createdAt;
+}
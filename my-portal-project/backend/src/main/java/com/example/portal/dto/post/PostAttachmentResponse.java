@@ -0,0 +1,28 @@
+package com.example.portal.dto.post;
+
+import com.example.portal.enums.AttachmentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 첨부파일 처리 상태")
+public class PostAttachmentResponse {
+
+    @Schema(description = "원본 파일명", example = "example.jpg")
+    private String originalName;
+
+    @Schema(description = "처리 상태 (PENDING, READY, FAILED)")
+    private AttachmentStatus status;
+
+    @Schema(description = "파일 URL (READY 일 때만)")
+    private String url;
+
+    @Schema(description = "파일 크기(바이트)", example = "1024")
+    private long fileSize;
+}
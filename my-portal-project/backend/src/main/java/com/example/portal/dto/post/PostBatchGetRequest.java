@@ -0,0 +1,21 @@
+package com.example.portal.dto.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 일괄 조회 요청")
+public class PostBatchGetRequest {
+    @NotEmpty(message = "조회할 게시글 ID 는 하나 이상이어야 합니다.")
+    @Size(max = 100, message = "한 번에 최대 100개의 게시글만 조회할 수 있습니다.")
+    @Schema(description = "조회할 게시글 ID 목록 (응답은 이 순서를 따름)", example = "[3, 1, 2]")
+    private List<Long> ids;
+}
@@ -0,0 +1,23 @@
+package com.example.portal.dto.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 일괄 조회 응답")
+public class PostBatchGetResponse {
+
+    @Schema(description = "요청한 순서대로 정렬된 게시글 목록 (중복 ID 는 한 번만 포함)")
+    private List<PostResponse> posts;
+
+    @Schema(description = "존재하지 않는 게시글 ID 목록")
+    private List<Long> missingIds;
+}
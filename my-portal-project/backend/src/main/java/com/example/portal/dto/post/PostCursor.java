@@ -0,0 +1,79 @@
+package com.example.portal.dto.post;
+
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 키셋 페이지네이션 커서
+ *
+ * (createdAt, id) 또는 (viewCount, id) 를 정렬 키로 사용하며,
+ * 클라이언트에는 "종류:정렬값:id" 를 Base64(URL-safe) 로 인코딩한 불투명 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+    private static final String CREATED_AT = "c";
+    private static final String VIEW_COUNT = "v";
+
+    private final LocalDateTime createdAt;
+    private final Integer viewCount;
+    private final Long id;
+
+    public static String encodeCreatedAt(LocalDateTime createdAt, Long id) {
+        return encode(CREATED_AT + ":" + createdAt + ":" + id);
+    }
+
+    public static String encodeViewCount(int viewCount, Long id) {
+        return encode(VIEW_COUNT + ":" + viewCount + ":" + id);
+    }
+
+    public static PostCursor decodeCreatedAt(String cursor) {
+        String[] parts = decode(cursor, CREATED_AT);
+        try {
+            return new PostCursor(LocalDateTime.parse(parts[1]), null, Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static PostCursor decodeViewCount(String cursor) {
+        String[] parts = decode(cursor, VIEW_COUNT);
+        try {
+            return new PostCursor(null, Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor, String expectedType) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+        // LocalDateTime 에도 ':' 가 포함되므로 첫 번째와 마지막 구분자만 사용
+        int first = raw.indexOf(':');
+        int last = raw.lastIndexOf(':');
+        if (first < 0 || first == last || !raw.substring(0, first).equals(expectedType)) {
+            throw invalidCursor();
+        }
+        return new String[] { raw.substring(0, first), raw.substring(first + 1, last), raw.substring(last + 1) };
+    }
+
+    private static BusinessException invalidCursor() {
+        return new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.portal.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 게시글의 첨부파일 URL 을 한 번의 IN 쿼리로 조회하기 위한 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class PostFileUrlRow {
+    private final Long postId;
+    private final String url;
+}
@@ -0,0 +1,24 @@
+package com.example.portal.dto.post;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 좋아요 상태 응답")
+public class PostLikeResponse {
+
+    @Schema(description = "게시글 ID")
+    private Long postId;
+
+    @Schema(description = "현재 사용자의 좋아요 여부")
+    private boolean liked;
+
+    @Schema(description = "좋아요 수")
+    private int likeCount;
+}
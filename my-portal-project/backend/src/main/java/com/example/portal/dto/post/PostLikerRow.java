@@ -0,0 +1,14 @@
+package com.example.portal.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 게시글의 좋아요한 사용자 ID 를 한 번의 IN 쿼리로 조회하기 위한 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class PostLikerRow {
+    private final Long postId;
+    private final Long userId;
+}
@@ -0,0 +1,39 @@
+package com.example.portal.dto.post;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 행을 한 번의 SQL 로 조회하기 위한 JPQL 생성자 프로젝션
+ *
+ * 작성자/카테고리 이름은 조인으로, 좋아요/댓글 수는 posts 테이블의 비정규화 컬럼으로 함께 조회하므로
+ * PostResponse 변환 시 지연 로딩이 발생하지 않습니다. 첨부파일 URL 은 별도의 IN 쿼리로 한 번에 조회합니다.
+ */
+@Getter
+public class PostListRow {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String author;
+    private final int viewCount;
+    private final int likeCount;
+    private final String category;
+    private final int commentCount;
+
+    public PostListRow(Long id, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt,
+            String author, int viewCount, int likeCount, String category, int commentCount) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.author = author;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.category = category;
+        this.commentCount = commentCount;
+    }
+}
@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.ArrayList;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "게시글 응답 DTO")
@@ -50,6 +50,12 @@ public class PostResponse {
     @Schema(description = "댓글 수")
     private int commentCount;
 
+    @Schema(description = "현재 사용자의 좋아요 여부")
+    private boolean likedByMe;
+
+    @Schema(description = "첨부파일 처리 상태 (작성 직후 응답에만 포함, 이후에는 첨부파일 상태 API 로 조회)")
+    private List<PostAttachmentResponse> attachments;
+
     public static PostResponse from(com.example.portal.entity.Post post) {
         List<String> urls = new ArrayList<>();
         if (post.getFiles() != null) {
@@ -68,10 +74,26 @@ public class PostResponse {
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .viewCount(post.getViewCount())
-                .likeCount(post.getLikes() != null ? post.getLikes().size() : 0)
+                .likeCount(post.getLikeCount())
                 .category(post.getCategory() != null ? post.getCategory().getName() : "")
                 .fileUrls(urls)
-                .commentCount(post.getComments() != null ? post.getComments().size() : 0)
+                .commentCount(post.getCommentCount())
+                .build();
+    }
+
+    public static PostResponse from(PostListRow row, List<String> fileUrls) {
+        return PostResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .content(row.getContent())
+                .author(row.getAuthor() != null ? row.getAuthor() : "")
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .viewCount(row.getViewCount())
+                .likeCount(row.getLikeCount())
+                .category(row.getCategory() != null ? row.getCategory() : "")
+                .fileUrls(fileUrls != null ? fileUrls : new ArrayList<>())
+                .commentCount(row.getCommentCount())
                 .build();
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.portal.entity;
 
 import com.example.portal.entity.common.BaseTimeEntity;
+import com.example.portal.entity.common.CacheRegions;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORIES)
 @EntityListeners(AuditingEntityListener.class)
 public class Category extends BaseTimeEntity {
     @Id
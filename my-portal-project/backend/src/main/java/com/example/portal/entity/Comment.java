@@ -1,6 +1,10 @@
 package com.example.portal.entity;
 
 import com.example.portal.entity.common.BaseTimeEntity;
+import com.example.portal.entity.common.IdSequences;
+import com.example.portal.entity.common.MaterializedPath;
+import com.example.portal.entity.common.MaterializedPaths;
+import com.example.portal.entity.common.PooledId;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,9 +26,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-public class Comment extends BaseTimeEntity {
+public class Comment extends BaseTimeEntity implements MaterializedPaths.Node<Comment> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId(IdSequences.COMMENTS)
     private Long id;
 
     @Column(nullable = false)
@@ -42,6 +46,11 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // 루트부터 자신까지의 ID 경로 - 게시글의 댓글 트리를 경로 순으로 한 번에 조회
+    @MaterializedPath
+    @Column(length = MaterializedPaths.COLUMN_LENGTH, updatable = false)
+    private String path;
+
     @Column(nullable = false)
     private boolean deleted;
 
@@ -0,0 +1,23 @@
+package com.example.portal.entity;
+
+import com.example.portal.entity.common.IdSequences;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PooledTableIdGenerator 가 사용하는 ID 할당 테이블 (스키마 생성용 매핑)
+ */
+@Entity
+@Table(name = IdSequences.TABLE)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdSequence {
+    @Id
+    @Column(name = IdSequences.NAME_COLUMN, length = 100)
+    private String sequenceName;
+
+    @Column(name = IdSequences.VALUE_COLUMN, nullable = false)
+    private Long nextVal;
+}
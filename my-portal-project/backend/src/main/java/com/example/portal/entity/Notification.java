@@ -1,5 +1,7 @@
 package com.example.portal.entity;
 
+import com.example.portal.entity.common.IdSequences;
+import com.example.portal.entity.common.PooledId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +20,7 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId(IdSequences.NOTIFICATIONS)
     private Long id;
 
     @Column(nullable = false)
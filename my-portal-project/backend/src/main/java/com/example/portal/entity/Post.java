@@ -2,11 +2,14 @@ package com.example.portal.entity;
 
 import com.example.portal.dto.post.PostRequest;
 import com.example.portal.entity.common.BaseTimeEntity;
+import com.example.portal.entity.common.IdSequences;
+import com.example.portal.entity.common.PooledId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
@@ -25,7 +28,7 @@ import java.util.Set;
 @EntityListeners(AuditingEntityListener.class)
 public class Post extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId(IdSequences.POSTS)
     private Long id;
 
     @Column(nullable = false)
@@ -63,9 +66,17 @@ public class Post extends BaseTimeEntity {
     @Column(nullable = false)
     private int likeCount;
 
+    // 댓글 수 비정규화 컬럼 - 댓글 작성/삭제 시 원자적 UPDATE 로 증감
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount;
+
     @Column(nullable = false)
     private boolean isDeleted;
 
+    // 삭제 표시 시각 - 이 시각부터 유예 기간이 지나면 정리 작업이 행과 하위 데이터를 제거
+    private LocalDateTime deletedAt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -100,6 +111,11 @@ public class Post extends BaseTimeEntity {
         this.category = category;
     }
 
+    public void markDeleted() {
+        this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
+    }
+
     public void addComment(Comment comment) {
         comments.add(comment);
         comment.setPost(this);
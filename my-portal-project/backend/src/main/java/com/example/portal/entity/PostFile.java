@@ -1,6 +1,8 @@
 package com.example.portal.entity;
 
 import com.example.portal.entity.common.BaseTimeEntity;
+import com.example.portal.entity.common.IdSequences;
+import com.example.portal.entity.common.PooledId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +15,7 @@ import lombok.*;
 @Builder
 public class PostFile extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId(IdSequences.POST_FILES)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,33 @@
+package com.example.portal.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SchemaMigrationService 가 적용한 마이그레이션 이력 테이블 (스키마 생성용 매핑)
+ */
+@Entity
+@Table(name = "schema_migrations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchemaMigration {
+    @Id
+    @Column(length = 50)
+    private String version;
+
+    @Column(nullable = false, length = 200)
+    private String description;
+
+    @Column(nullable = false)
+    private Long checksum;
+
+    @Column(nullable = false)
+    private LocalDateTime installedAt;
+
+    @Column(nullable = false)
+    private Long executionTimeMs;
+}
@@ -0,0 +1,17 @@
+package com.example.portal.entity.common;
+
+/**
+ * Hibernate 2차 캐시 영역 이름
+ *
+ * 각 영역의 최대 항목 수와 만료 시간은 ehcache.xml 에 정의하며, 정의되지 않은 영역은 시작 시 오류로 처리합니다.
+ * (hibernate.javax.cache.missing_cache_strategy=fail)
+ */
+public final class CacheRegions {
+    public static final String USERS = "users";
+    public static final String USER_EMAILS = "user-emails"; // User.email 자연 키 -> ID
+    public static final String CATEGORIES = "categories";
+
+    private CacheRegions() {
+        throw new IllegalStateException("Utility class");
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.portal.entity.common;
+
+/**
+ * 테이블 기반 ID 생성기 설정
+ *
+ * IDENTITY 전략은 INSERT 를 실행해야 ID 를 알 수 있어 Hibernate 가 INSERT 배치를 끄므로,
+ * 대량으로 쌓이는 엔티티는 id_sequences 테이블에서 ID 를 ALLOCATION_SIZE 개씩 미리 할당받습니다.
+ * 시퀀스를 지원하지 않는 SQLite 에서도 동작하도록 시퀀스 대신 테이블을 사용합니다. 시퀀스 이름은 엔티티 테이블 이름과 같습니다.
+ */
+public final class IdSequences {
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String POSTS = "posts";
+    public static final String POST_FILES = "post_files";
+    public static final String COMMENTS = "comments";
+    public static final String NOTIFICATIONS = "notifications";
+
+    private IdSequences() {
+        throw new IllegalStateException("Utility class");
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.portal.entity.common;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 부모의 경로 뒤에 자신의 ID 를 붙인 계층 경로 (MaterializedPathGenerator)
+ *
+ * INSERT 직전에 계산하므로 엔티티에는 INSERT 전에 ID 가 할당되어 있어야 합니다. (PooledId)
+ */
+@ValueGenerationType(generatedBy = MaterializedPathGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface MaterializedPath {
+}
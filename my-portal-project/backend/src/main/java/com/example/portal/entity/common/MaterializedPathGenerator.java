@@ -0,0 +1,38 @@
+package com.example.portal.entity.common;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * INSERT 할 때 MaterializedPaths.Node 의 경로를 부모 경로와 자신의 ID 로 채우는 생성기
+ *
+ * Hibernate 가 INSERT 값을 만들 때 호출하므로 저장 후 경로를 다시 UPDATE 하지 않습니다.
+ */
+public class MaterializedPathGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        MaterializedPaths.Node<?> node = (MaterializedPaths.Node<?>) owner;
+        if (node.getId() == null) {
+            throw new IllegalStateException("Materialized path requires an id assigned before insert");
+        }
+        MaterializedPaths.Node<?> parent = node.getParent();
+        if (parent == null) {
+            return MaterializedPaths.segment(node.getId());
+        }
+        if (parent.getPath() == null) {
+            throw new IllegalStateException("Parent " + parent.getId() + " has no materialized path");
+        }
+        return MaterializedPaths.append(parent.getPath(), node.getId());
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
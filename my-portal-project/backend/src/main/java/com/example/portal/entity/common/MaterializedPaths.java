@@ -0,0 +1,54 @@
+package com.example.portal.entity.common;
+
+/**
+ * 계층 경로 형식
+ *
+ * 루트부터 자신까지의 ID 를 19자리(long 최대 자릿수)로 0 을 채워 '/' 로 이은 문자열입니다.
+ * 자릿수가 같으므로 문자열 정렬이 곧 트리의 깊이 우선 순서이고, 첫 구간이 스레드(루트 댓글)의 경로이며,
+ * 하위 항목은 모두 "경로/" 로 시작합니다.
+ */
+public final class MaterializedPaths {
+    public static final int SEGMENT_LENGTH = 19;
+    public static final char SEPARATOR = '/';
+    /** 경로 컬럼 길이 - 최대 MAX_DEPTH 단계까지 저장할 수 있음 */
+    public static final int COLUMN_LENGTH = 1000;
+    public static final int MAX_DEPTH = COLUMN_LENGTH / (SEGMENT_LENGTH + 1) - 1;
+
+    /**
+     * 경로를 가진 계층 엔티티
+     */
+    public interface Node<T extends Node<T>> {
+        Long getId();
+
+        T getParent();
+
+        String getPath();
+    }
+
+    private MaterializedPaths() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String segment(long id) {
+        String digits = Long.toString(id);
+        return "0".repeat(SEGMENT_LENGTH - digits.length()) + digits;
+    }
+
+    public static String append(String parentPath, long id) {
+        return parentPath + SEPARATOR + segment(id);
+    }
+
+    /**
+     * 루트는 0
+     */
+    public static int depth(String path) {
+        return path == null ? 0 : path.length() / (SEGMENT_LENGTH + 1);
+    }
+
+    /**
+     * 경로의 첫 구간 (스레드 루트의 경로)
+     */
+    public static String root(String path) {
+        return path.substring(0, SEGMENT_LENGTH);
+    }
+}
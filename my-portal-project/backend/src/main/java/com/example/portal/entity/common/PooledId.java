@@ -0,0 +1,23 @@
+package com.example.portal.entity.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id_sequences 테이블에서 ID 를 구간 단위로 할당받는 식별자 (PooledTableIdGenerator)
+ */
+@IdGeneratorType(PooledTableIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface PooledId {
+    /**
+     * 시퀀스 이름이자 엔티티 테이블 이름 (첫 할당 시 이 테이블의 최대 ID 이후부터 시작)
+     */
+    String value();
+
+    int allocationSize() default IdSequences.ALLOCATION_SIZE;
+}
@@ -0,0 +1,134 @@
+package com.example.portal.entity.common;
+
+import org.hibernate.community.dialect.SQLiteDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.jdbc.AbstractReturningWork;
+
+import java.lang.reflect.Member;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 테이블 기반 pooled-lo ID 생성기
+ *
+ * id_sequences 의 next_val 을 allocationSize 만큼 올려 [next_val, next_val + allocationSize) 구간을 한 번에 받고,
+ * 구간 안에서는 메모리에서 ID 를 나눠 줍니다. INSERT 전에 ID 를 알 수 있으므로 Hibernate 가 INSERT 를 JDBC 배치로 묶습니다.
+ * 시퀀스 행이 없으면 엔티티 테이블의 최대 ID 다음 값으로 만들어, IDENTITY 로 쌓인 기존 데이터와 충돌하지 않습니다.
+ *
+ * Hibernate 의 TableGenerator 는 별도 커넥션(독립 트랜잭션)에서 구간을 할당하는데, SQLite 는 DB 전체에 쓰기 잠금이 하나뿐이라
+ * 현재 트랜잭션이 이미 쓰기를 했다면 별도 커넥션이 그 잠금을 기다리며 멈춥니다. 그래서 SQLite 에서는 현재 커넥션에서 할당하고,
+ * 그 트랜잭션이 롤백돼 테이블 값이 되돌아가도 이미 나눠 준 구간을 다시 쓰지 않도록 이 인스턴스가 할당한 최댓값 이후부터 시작합니다.
+ * 그 밖의 DB 는 TableGenerator 와 같이 독립 트랜잭션에서 할당합니다.
+ */
+public class PooledTableIdGenerator implements IdentifierGenerator {
+    private static final int MAX_ATTEMPTS = 10;
+    private static final String SELECT_SQL = "SELECT " + IdSequences.VALUE_COLUMN + " FROM " + IdSequences.TABLE +
+            " WHERE " + IdSequences.NAME_COLUMN + " = ?";
+    private static final String INSERT_SQL = "INSERT INTO " + IdSequences.TABLE +
+            " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)";
+    private static final String UPDATE_SQL = "UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = ?" +
+            " WHERE " + IdSequences.NAME_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " = ?";
+
+    private final String sequenceName;
+    private final int allocationSize;
+    private final String firstIdSql;
+
+    private long nextId;
+    private long limit;
+
+    public PooledTableIdGenerator(PooledId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        this.sequenceName = config.value();
+        this.allocationSize = Math.max(1, config.allocationSize());
+        this.firstIdSql = "SELECT COALESCE(MAX(id), 0) + 1 FROM " + config.value();
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object object) {
+        if (nextId >= limit) {
+            long start = allocate(session);
+            nextId = start;
+            limit = start + allocationSize;
+        }
+        return nextId++;
+    }
+
+    private long allocate(SharedSessionContractImplementor session) {
+        if (session.getJdbcServices().getDialect() instanceof SQLiteDialect) {
+            Connection connection = session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+            try {
+                return allocate(connection);
+            } catch (SQLException e) {
+                throw session.getJdbcServices().getSqlExceptionHelper()
+                        .convert(e, "Could not allocate ids for " + sequenceName);
+            }
+        }
+        return session.getTransactionCoordinator().createIsolationDelegate()
+                .delegateWork(new AbstractReturningWork<Long>() {
+                    @Override
+                    public Long execute(Connection connection) throws SQLException {
+                        return allocate(connection);
+                    }
+                }, true);
+    }
+
+    /**
+     * 다음 구간의 시작 값을 할당합니다. 다른 인스턴스와 동시에 할당하면 조건부 UPDATE 가 실패하므로 다시 시도합니다.
+     */
+    private long allocate(Connection connection) throws SQLException {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Long stored = queryLong(connection, SELECT_SQL, sequenceName);
+            if (stored == null) {
+                long start = Math.max(queryLong(connection, firstIdSql), limit);
+                if (insert(connection, start + allocationSize)) {
+                    return start;
+                }
+                continue;
+            }
+            long start = Math.max(stored, limit);
+            if (update(connection, stored, start + allocationSize)) {
+                return start;
+            }
+        }
+        throw new IdentifierGenerationException("Could not allocate ids for " + sequenceName
+                + " after " + MAX_ATTEMPTS + " attempts");
+    }
+
+    private Long queryLong(Connection connection, String sql, String... params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setString(i + 1, params[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : null;
+            }
+        }
+    }
+
+    private boolean insert(Connection connection, long nextValue) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            statement.setString(1, sequenceName);
+            statement.setLong(2, nextValue);
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            // 다른 인스턴스가 먼저 행을 만든 경우 - 다시 조회해 UPDATE 로 할당
+            if (queryLong(connection, SELECT_SQL, sequenceName) != null) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private boolean update(Connection connection, long expected, long nextValue) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_SQL)) {
+            statement.setLong(1, nextValue);
+            statement.setString(2, sequenceName);
+            statement.setLong(3, expected);
+            return statement.executeUpdate() == 1;
+        }
+    }
+}
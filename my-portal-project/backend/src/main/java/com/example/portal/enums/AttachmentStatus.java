@@ -0,0 +1,7 @@
+package com.example.portal.enums;
+
+public enum AttachmentStatus {
+    PENDING, // 저장소로 옮기는 중
+    READY, // 저장 후 게시글에 연결됨
+    FAILED // 저장 또는 연결 실패
+}
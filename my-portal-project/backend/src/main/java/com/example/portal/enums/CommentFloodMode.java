@@ -0,0 +1,11 @@
+package com.example.portal.enums;
+
+/**
+ * 도배로 판정된 댓글 처리 방식
+ *
+ * REJECT 는 429 로 거부하고, SHADOW 는 작성에 성공한 것처럼 응답하되 저장하지 않고 검토 대기열에만 남깁니다.
+ */
+public enum CommentFloodMode {
+    REJECT,
+    SHADOW
+}
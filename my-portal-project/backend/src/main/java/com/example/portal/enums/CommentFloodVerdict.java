@@ -0,0 +1,25 @@
+package com.example.portal.enums;
+
+/**
+ * 댓글 도배 검사 결과
+ */
+public enum CommentFloodVerdict {
+    ALLOWED(null),
+    USER_RATE("짧은 시간에 너무 많은 댓글을 작성했습니다. 잠시 후 다시 시도해 주세요."),
+    POST_RATE("이 게시글에 댓글이 너무 많이 작성되고 있습니다. 잠시 후 다시 시도해 주세요."),
+    DUPLICATE("비슷한 내용의 댓글이 반복해서 작성되었습니다.");
+
+    private final String message;
+
+    CommentFloodVerdict(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isBlocked() {
+        return this != ALLOWED;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.portal.enums;
+
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * 커서 기준 조회 방향
+ *
+ * BEFORE 는 커서보다 오래된 항목을 최신순으로, AFTER 는 커서 이후에 작성된 항목을 작성순으로 조회합니다.
+ */
+public enum CursorDirection {
+    BEFORE,
+    AFTER;
+
+    public static CursorDirection from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 조회 방향입니다: " + value);
+        }
+    }
+}
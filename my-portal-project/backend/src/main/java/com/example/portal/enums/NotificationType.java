@@ -0,0 +1,28 @@
+package com.example.portal.enums;
+
+/**
+ * 활동 알림 종류. 같은 수신자/게시글/종류의 활동은 알림 하나로 묶이고 내용에 개수가 표시됩니다.
+ */
+public enum NotificationType {
+    COMMENT("새 댓글", "게시글에 새 댓글이 달렸습니다.", "게시글에 새 댓글 %d개가 달렸습니다."),
+    REPLY("새 답글", "회원님의 댓글에 답글이 달렸습니다.", "회원님의 댓글에 답글 %d개가 달렸습니다."),
+    LIKE("좋아요", "회원님의 게시글을 좋아하는 사람이 있습니다.", "회원님의 게시글을 %d명이 좋아합니다.");
+
+    private final String title;
+    private final String single;
+    private final String multiple;
+
+    NotificationType(String title, String single, String multiple) {
+        this.title = title;
+        this.single = single;
+        this.multiple = multiple;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String content(int count) {
+        return count > 1 ? String.format(multiple, count) : single;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.portal.enums;
+
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 인기 급상승 집계 구간. 점수는 구간 길이를 반감기로 지수 감쇠합니다.
+ */
+public enum TrendingWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private final Duration halfLife;
+
+    TrendingWindow(Duration halfLife) {
+        this.halfLife = halfLife;
+    }
+
+    public Duration getHalfLife() {
+        return halfLife;
+    }
+
+    public static TrendingWindow from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 집계 구간입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.portal.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 생성/수정/삭제 이벤트. 리스너는 트랜잭션 커밋 후에 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+    private final Long categoryId;
+}
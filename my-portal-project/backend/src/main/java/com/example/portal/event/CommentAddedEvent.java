@@ -0,0 +1,16 @@
+package com.example.portal.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글/답글 작성 이벤트. 리스너는 트랜잭션 커밋 후에 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentAddedEvent {
+    private final Long commentId;
+    private final Long postId;
+    private final Long parentId; // 답글이 아니면 null
+    private final Long authorId;
+}
@@ -0,0 +1,18 @@
+package com.example.portal.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트. 리스너는 트랜잭션 커밋 후에 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+    private final ChangeType type;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
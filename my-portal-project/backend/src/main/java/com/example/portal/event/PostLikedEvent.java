@@ -0,0 +1,14 @@
+package com.example.portal.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요 이벤트. 실제로 좋아요가 추가된 경우에만 발행되며 리스너는 트랜잭션 커밋 후에 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostLikedEvent {
+    private final Long postId;
+    private final Long userId;
+}
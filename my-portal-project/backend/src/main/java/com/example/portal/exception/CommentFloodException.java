@@ -0,0 +1,16 @@
+package com.example.portal.exception;
+
+import com.example.portal.enums.CommentFloodVerdict;
+import lombok.Getter;
+
+@Getter
+public class CommentFloodException extends BusinessException {
+    private final CommentFloodVerdict verdict;
+    private final long retryAfterSeconds;
+
+    public CommentFloodException(CommentFloodVerdict verdict, long retryAfterSeconds) {
+        super(ErrorCode.COMMENT_FLOOD, verdict.getMessage());
+        this.verdict = verdict;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -29,6 +29,7 @@ public enum ErrorCode {
     // Comment
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CM001", "Comment not found"),
     COMMENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "CM002", "Comment access denied"),
+    COMMENT_FLOOD(HttpStatus.TOO_MANY_REQUESTS, "CM003", "Too many comments"),
 
     // Category
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "CT001", "Category not found"),
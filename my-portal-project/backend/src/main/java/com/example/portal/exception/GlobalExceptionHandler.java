@@ -3,6 +3,7 @@ package com.example.portal.exception;
 import com.example.portal.dto.error.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -64,6 +65,21 @@ public class GlobalExceptionHandler {
                                                 .build());
         }
 
+        @ExceptionHandler(CommentFloodException.class)
+        public ResponseEntity<ErrorResponse> handleCommentFloodException(CommentFloodException ex,
+                        HttpServletRequest request) {
+                log.warn("CommentFloodException: {} {}", ex.getVerdict(), request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                                .body(ErrorResponse.builder()
+                                                .timestamp(LocalDateTime.now())
+                                                .code(ex.getErrorCode().getCode())
+                                                .message(ex.getMessage())
+                                                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                                                .path(request.getRequestURI())
+                                                .build());
+        }
+
         @ExceptionHandler(BusinessException.class)
         public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex, HttpServletRequest request) {
                 log.warn("BusinessException: {}", ex.getMessage());
@@ -1,11 +1,21 @@
 package com.example.portal.repository;
 
+import com.example.portal.dto.comment.CommentPathRow;
+import com.example.portal.dto.comment.CommentRow;
+import com.example.portal.dto.notification.OwnerRow;
 import com.example.portal.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findByPostIdOrderByCreatedAtDesc(Long postId, Pageable pageable);
@@ -13,4 +23,75 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     void deleteByPostId(Long postId);
 
     long countByPostId(Long postId);
+
+    long countByPostIdAndDeletedFalse(Long postId);
+
+    boolean existsByParentId(Long parentId);
+
+    // 댓글 행 프로젝션 - 작성자 이름은 조인, 게시글/부모 댓글은 외래 키 값만 조회
+    String ROW_SELECT = "SELECT new com.example.portal.dto.comment.CommentRow(" +
+            "c.id, c.post.id, c.parent.id, c.content, u.name, c.path, c.deleted, c.createdAt, c.updatedAt) " +
+            "FROM Comment c JOIN c.user u ";
+
+    @Query(value = ROW_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
+    Page<CommentRow> findRowsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 키셋(커서) 페이지네이션 - (created_at, id) 순서, Slice 반환으로 COUNT 쿼리를 실행하지 않음
+    @Query(ROW_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CommentRow> findLatestSliceByPost(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE c.post.id = :postId AND " +
+            "(c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<CommentRow> findSliceByPostBefore(
+            @Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt, c.id")
+    Slice<CommentRow> findOldestSliceByPost(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE c.post.id = :postId AND " +
+            "(c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    Slice<CommentRow> findSliceByPostAfter(
+            @Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("SELECT new com.example.portal.dto.comment.CommentPathRow(c.id, c.post.id, c.path, c.deleted) " +
+            "FROM Comment c WHERE c.id IN :ids")
+    List<CommentPathRow> findPathRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.example.portal.dto.notification.OwnerRow(c.id, c.user.id) " +
+            "FROM Comment c WHERE c.id IN :ids AND c.deleted = false")
+    List<OwnerRow> findOwnerRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 게시글의 댓글 트리 전체 - 경로 순서가 곧 깊이 우선 순서
+    @Query(ROW_SELECT + "WHERE c.post.id = :postId ORDER BY c.path")
+    List<CommentRow> findTreeRows(@Param("postId") Long postId);
+
+    /**
+     * 최신 루트 댓글 limit 개(offset 부터)의 스레드에서 루트를 포함해 경로 순으로 앞의 perThread 개 행을 조회합니다.
+     * 스레드는 경로의 첫 구간(루트 댓글의 경로)으로 구분합니다.
+     */
+    @Query("SELECT new com.example.portal.dto.comment.CommentRow(" +
+            "t.id, t.postId, t.parentId, t.content, t.author, t.path, t.deleted, t.createdAt, t.updatedAt) FROM (" +
+            "SELECT c.id AS id, c.post.id AS postId, c.parent.id AS parentId, c.content AS content, " +
+            "u.name AS author, c.path AS path, c.deleted AS deleted, c.createdAt AS createdAt, " +
+            "c.updatedAt AS updatedAt, " +
+            "row_number() OVER (PARTITION BY substring(c.path, 1, 19) ORDER BY c.path) AS position " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.id = :postId AND substring(c.path, 1, 19) IN (" +
+            "SELECT r.path FROM Comment r WHERE r.post.id = :postId AND r.parent IS NULL " +
+            "ORDER BY r.createdAt DESC, r.id DESC LIMIT :limit OFFSET :offset)" +
+            ") t WHERE t.position <= :perThread ORDER BY t.path")
+    List<CommentRow> findThreadRows(
+            @Param("postId") Long postId,
+            @Param("offset") int offset,
+            @Param("limit") int limit,
+            @Param("perThread") int perThread);
 }
@@ -1,9 +1,13 @@
 package com.example.portal.repository;
 
+import com.example.portal.dto.post.PostFileUrlRow;
 import com.example.portal.entity.PostFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,4 +15,9 @@ public interface PostFileRepository extends JpaRepository<PostFile, Long> {
     List<PostFile> findByPostId(Long postId);
 
     void deleteByPostId(Long postId);
+
+    // 목록 조회 시 여러 게시글의 첨부파일 URL 을 한 번에 조회
+    @Query("SELECT new com.example.portal.dto.post.PostFileUrlRow(f.post.id, f.url) FROM PostFile f " +
+            "WHERE f.post.id IN :postIds ORDER BY f.id")
+    List<PostFileUrlRow> findUrlsByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
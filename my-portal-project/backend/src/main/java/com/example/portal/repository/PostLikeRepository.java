@@ -3,8 +3,18 @@ package com.example.portal.repository;
 import com.example.portal.entity.PostLike;
 import com.example.portal.entity.Post;
 import com.example.portal.entity.User;
+import com.example.portal.dto.post.PostLikerRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -17,4 +27,23 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByPostAndUser(Post post, User user);
 
     boolean existsByPostAndUser(Post post, User user);
+
+    @Query("SELECT new com.example.portal.dto.post.PostLikerRow(l.post.id, l.user.id) FROM PostLike l " +
+            "WHERE l.post.id IN :postIds")
+    List<PostLikerRow> findLikersByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 게시글/사용자가 존재하고 아직 좋아요가 없을 때만 한 문장으로 삽입 - 삽입된 행 수 반환
+    // 변경 테이블을 지정하지 않은 네이티브 DML 은 2차 캐시 전체를 비우므로 post_likes 만 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_likes"))
+    @Query(value = "INSERT INTO post_likes (post_id, user_id, created_at, updated_at) " +
+            "SELECT p.id, u.id, :now, :now FROM posts p, users u " +
+            "WHERE p.id = :postId AND p.is_deleted = 0 AND u.id = :userId AND NOT EXISTS (" +
+            "SELECT 1 FROM post_likes l WHERE l.post_id = :postId AND l.user_id = :userId)", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 엔티티를 읽지 않고 바로 삭제 - 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.post.id = :postId AND l.user.id = :userId")
+    int deleteByPostIdAndUserIdDirectly(@Param("postId") Long postId, @Param("userId") Long userId);
 }
\ No newline at end of file
@@ -3,13 +3,24 @@ package com.example.portal.repository;
 import com.example.portal.entity.Post;
 import com.example.portal.entity.User;
 import com.example.portal.entity.Category;
+import com.example.portal.dto.notification.OwnerRow;
+import com.example.portal.dto.post.PostActivityRow;
+import com.example.portal.dto.post.PostListRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
         // 카테고리별 게시글 목록 조회
@@ -39,13 +50,30 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         Page<Post> findByEmail(@Param("email") String email, Pageable pageable);
 
         // 최근 게시물 조회
-        Page<Post> findTop10ByOrderByCreatedAtDesc(Pageable pageable);
+        @EntityGraph(attributePaths = "user")
+        Page<Post> findTop10ByIsDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
 
         // 인기 게시물 조회
-        Page<Post> findTop10ByOrderByViewCountDesc(Pageable pageable);
+        @EntityGraph(attributePaths = "user")
+        Page<Post> findTop10ByIsDeletedFalseOrderByViewCountDesc(Pageable pageable);
 
         // 카테고리별 최근 게시물 조회
-        Page<Post> findTop5ByCategoryNameOrderByCreatedAtDesc(String categoryName, Pageable pageable);
+        @EntityGraph(attributePaths = "user")
+        Page<Post> findTop5ByCategoryIdAndIsDeletedFalseOrderByCreatedAtDesc(Long categoryId, Pageable pageable);
+
+        // 삭제 표시되지 않은 게시글 조회
+        @Query("SELECT p FROM Post p WHERE p.id = :id AND p.isDeleted = false")
+        Optional<Post> findActiveById(@Param("id") Long id);
+
+        @Query("SELECT COUNT(p) > 0 FROM Post p WHERE p.id = :id AND p.isDeleted = false")
+        boolean existsActiveById(@Param("id") Long id);
+
+        @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.isDeleted = false")
+        List<Long> findActiveIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query("SELECT new com.example.portal.dto.notification.OwnerRow(p.id, p.user.id) " +
+                        "FROM Post p WHERE p.id IN :ids AND p.isDeleted = false")
+        List<OwnerRow> findOwnerRowsByIdIn(@Param("ids") Collection<Long> ids);
 
         // 추가 메서드들
         Page<Post> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
@@ -60,4 +88,113 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         Page<Post> findByOrderByViewCountDesc(Pageable pageable);
 
         Page<Post> findByCategoryOrderByCreatedAtDesc(Category category, Pageable pageable);
+
+        // 목록 행 프로젝션 - 작성자/카테고리는 조인, 좋아요/댓글 수는 비정규화 컬럼으로 한 번에 조회
+        String LIST_ROW_SELECT = "SELECT new com.example.portal.dto.post.PostListRow(" +
+                        "p.id, p.title, p.content, p.createdAt, p.updatedAt, u.name, p.viewCount, " +
+                        "p.likeCount, c.name, p.commentCount) " +
+                        "FROM Post p JOIN p.user u LEFT JOIN p.category c ";
+
+        @Query(value = LIST_ROW_SELECT + "WHERE p.isDeleted = false",
+                        countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false")
+        Page<PostListRow> findAllRows(Pageable pageable);
+
+        @Query(value = LIST_ROW_SELECT + "WHERE p.id = :id AND p.isDeleted = false")
+        Optional<PostListRow> findRowById(@Param("id") Long id);
+
+        @Query(value = LIST_ROW_SELECT + "WHERE p.id IN :ids AND p.isDeleted = false")
+        List<PostListRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+        @Query(value = LIST_ROW_SELECT + "WHERE p.user.id = :userId AND p.isDeleted = false " +
+                        "ORDER BY p.createdAt DESC, p.id DESC",
+                        countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId AND p.isDeleted = false")
+        Page<PostListRow> findRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+        @Query(value = LIST_ROW_SELECT + "WHERE p.isDeleted = false ORDER BY p.createdAt DESC",
+                        countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false")
+        Page<PostListRow> findRecentRows(Pageable pageable);
+
+        @Query(value = LIST_ROW_SELECT + "WHERE p.isDeleted = false ORDER BY p.viewCount DESC",
+                        countQuery = "SELECT COUNT(p) FROM Post p WHERE p.isDeleted = false")
+        Page<PostListRow> findPopularRows(Pageable pageable);
+
+        @Query(value = LIST_ROW_SELECT + "WHERE p.category.id = :categoryId AND p.isDeleted = false " +
+                        "ORDER BY p.createdAt DESC",
+                        countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId AND p.isDeleted = false")
+        Page<PostListRow> findRecentRowsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+        // 키셋(커서) 페이지네이션 - Slice 반환으로 COUNT 쿼리를 실행하지 않음
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<PostListRow> findLatestSlice(Pageable pageable);
+
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false AND " +
+                        "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<PostListRow> findLatestSliceBefore(
+                        @Param("createdAt") LocalDateTime createdAt,
+                        @Param("id") Long id,
+                        Pageable pageable);
+
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false ORDER BY p.viewCount DESC, p.id DESC")
+        Slice<PostListRow> findPopularSlice(Pageable pageable);
+
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false AND " +
+                        "(p.viewCount < :viewCount OR (p.viewCount = :viewCount AND p.id < :id)) " +
+                        "ORDER BY p.viewCount DESC, p.id DESC")
+        Slice<PostListRow> findPopularSliceBefore(
+                        @Param("viewCount") int viewCount,
+                        @Param("id") Long id,
+                        Pageable pageable);
+
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false AND p.category.id = :categoryId " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<PostListRow> findLatestSliceByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false AND p.category.id = :categoryId AND " +
+                        "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<PostListRow> findLatestSliceByCategoryBefore(
+                        @Param("categoryId") Long categoryId,
+                        @Param("createdAt") LocalDateTime createdAt,
+                        @Param("id") Long id,
+                        Pageable pageable);
+
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false AND p.user.id = :userId " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<PostListRow> findLatestSliceByUser(@Param("userId") Long userId, Pageable pageable);
+
+        @Query(LIST_ROW_SELECT + "WHERE p.isDeleted = false AND p.user.id = :userId AND " +
+                        "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<PostListRow> findLatestSliceByUserBefore(
+                        @Param("userId") Long userId,
+                        @Param("createdAt") LocalDateTime createdAt,
+                        @Param("id") Long id,
+                        Pageable pageable);
+
+        // 비정규화 카운터 원자적 증감 - 읽고 쓰는 사이의 경쟁 없이 DB 에서 바로 계산
+        @Modifying
+        @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
+        int incrementLikeCount(@Param("id") Long id);
+
+        @Modifying
+        @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
+        int decrementLikeCount(@Param("id") Long id);
+
+        @Modifying
+        @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+        int incrementCommentCount(@Param("id") Long id);
+
+        @Modifying
+        @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+        int decrementCommentCount(@Param("id") Long id);
+
+        @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id AND p.isDeleted = false")
+        Optional<Integer> findLikeCountById(@Param("id") Long id);
+
+        // 인기 급상승 점수 초기화 - 최근 작성된 게시글의 누적 활동량
+        @Query("SELECT new com.example.portal.dto.post.PostActivityRow(" +
+                        "p.id, p.viewCount, p.likeCount, p.commentCount, p.createdAt) " +
+                        "FROM Post p WHERE p.isDeleted = false AND p.createdAt >= :since")
+        List<PostActivityRow> findActivitySince(@Param("since") LocalDateTime since);
 }
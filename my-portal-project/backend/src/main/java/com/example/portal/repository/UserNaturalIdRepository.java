@@ -0,0 +1,17 @@
+package com.example.portal.repository;
+
+import com.example.portal.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 이메일(자연 키) 조회를 JPQL 대신 Hibernate 자연 키 API 로 처리해 2차 캐시를 사용하는 조회 메서드
+ */
+public interface UserNaturalIdRepository {
+    Optional<User> findByEmail(String email);
+
+    /**
+     * 이메일로 사용자 ID 만 확인합니다. 엔티티를 적재하지 않으므로 작성자별 목록처럼 ID 만 필요한 곳에서 사용합니다.
+     */
+    Optional<Long> findIdByEmail(String email);
+}
@@ -0,0 +1,45 @@
+package com.example.portal.repository;
+
+import com.example.portal.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * user-emails 영역에서 이메일 -> ID 를, users 영역에서 엔티티를 찾고 둘 다 적중하면 SQL 을 실행하지 않습니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    /**
+     * user-emails 영역의 이메일 -> ID 매핑만 사용하고 users 영역이나 엔티티는 읽지 않습니다.
+     * 캐시에 없으면 ID 만 조회하는 SQL 한 번으로 확인하고 결과를 user-emails 영역에 저장합니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findIdByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        User reference = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .getReference(email);
+        return Optional.ofNullable(reference).map(User::getId);
+    }
+}
@@ -6,6 +6,8 @@ import com.example.portal.security.user.UserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Optional;
+
 public class SecurityUtil {
 
     private SecurityUtil() {
@@ -25,4 +27,16 @@ public class SecurityUtil {
 
         return (UserPrincipal) principal;
     }
+
+    /**
+     * 로그인한 사용자의 ID. 인증되지 않은 요청이면 빈 값을 반환합니다.
+     */
+    public static Optional<Long> findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(principal.getId());
+    }
 }
\ No newline at end of file
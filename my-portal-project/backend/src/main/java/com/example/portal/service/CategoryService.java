@@ -3,9 +3,13 @@ package com.example.portal.service;
 import com.example.portal.dto.category.CategoryRequestDto;
 import com.example.portal.dto.category.CategoryResponseDto;
 import com.example.portal.entity.Category;
+import com.example.portal.event.CategoryChangedEvent;
 import com.example.portal.exception.ResourceNotFoundException;
 import com.example.portal.repository.CategoryRepository;
+import com.example.portal.service.category.CategoryInfo;
+import com.example.portal.service.category.CategoryRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +22,8 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 카테고리 생성
     @Transactional
@@ -28,6 +34,7 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
         return CategoryResponseDto.builder()
                 .id(savedCategory.getId())
                 .name(savedCategory.getName())
@@ -44,6 +51,7 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
 
         category.update(request.getName(), request.getDescription(), request.getDisplayOrder(), request.isActive());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
         return CategoryResponseDto.from(category);
     }
 
@@ -54,43 +62,27 @@ public class CategoryService {
             throw new ResourceNotFoundException("카테고리를 찾을 수 없습니다.");
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
-    // 카테고리 목록 조회
+    // 카테고리 목록 조회 - 조회는 CategoryRegistry 스냅샷에서 처리하고, 변경은 커밋 후 스냅샷을 다시 만듦
     public List<CategoryResponseDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(category -> CategoryResponseDto.builder()
-                        .id(category.getId())
-                        .name(category.getName())
-                        .description(category.getDescription())
-                        .createdAt(category.getCreatedAt())
-                        .updatedAt(category.getUpdatedAt())
-                        .build())
+        return categoryRegistry.getAll().stream()
+                .map(CategoryInfo::toResponse)
                 .collect(Collectors.toList());
     }
 
     // 활성화된 카테고리 목록 조회
     public List<CategoryResponseDto> getActiveCategories() {
-        return categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc().stream()
-                .map(this::convertToDto)
+        return categoryRegistry.getActive().stream()
+                .map(CategoryInfo::toResponse)
                 .collect(Collectors.toList());
     }
 
     // 카테고리 상세 조회
     public CategoryResponseDto getCategory(Long id) {
-        Category category = categoryRepository.findById(id)
+        return categoryRegistry.findById(id)
+                .map(CategoryInfo::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리를 찾을 수 없습니다."));
-
-        return CategoryResponseDto.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .description(category.getDescription())
-                .createdAt(category.getCreatedAt())
-                .updatedAt(category.getUpdatedAt())
-                .build();
-    }
-
-    private CategoryResponseDto convertToDto(Category category) {
-        return CategoryResponseDto.from(category);
     }
 }
\ No newline at end of file
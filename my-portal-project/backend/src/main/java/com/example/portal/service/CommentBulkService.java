@@ -0,0 +1,274 @@
+package com.example.portal.service;
+
+import com.example.portal.config.CommentBulkConfig;
+import com.example.portal.dto.comment.CommentBulkCreateRequest;
+import com.example.portal.dto.comment.CommentBulkResponse;
+import com.example.portal.dto.comment.CommentPathRow;
+import com.example.portal.entity.Comment;
+import com.example.portal.entity.common.MaterializedPaths;
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+import com.example.portal.exception.ResourceNotFoundException;
+import com.example.portal.repository.CommentRepository;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 댓글 일괄 작성/삭제/삭제 표시
+ *
+ * 엔티티를 하나씩 읽고 저장하는 대신 필요한 값만 IN 조회로 한 번에 확인하고 JDBC 배치로 반영합니다.
+ * 요청 전체가 하나의 트랜잭션이며, 게시글 댓글 수와 캐시는 댓글마다가 아니라 요청마다 게시글별로 한 번 갱신합니다.
+ *
+ * 일괄 작성은 PooledId 와 같은 생성기로 ID 를 받아 경로를 직접 계산하므로 부모 댓글은 이미 저장된 댓글이어야 합니다.
+ * 가져온 댓글은 과거 활동이므로 인기 급상승 점수에는 반영하지 않습니다.
+ * 삭제는 답글을 포함한 하위 트리 전체를 경로 범위 조건 한 문장으로 지웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentBulkService {
+    private static final String INSERT_SQL = "INSERT INTO comments "
+            + "(id, content, user_id, post_id, parent_id, path, deleted, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INCREMENT_SQL = "UPDATE posts SET comment_count = comment_count + ? WHERE id = ?";
+    // 경로는 숫자와 '/' 로만 이루어지므로 [path, path + "0") 범위가 자신과 모든 하위 댓글
+    private static final String DELETE_SUBTREE_SQL = "DELETE FROM comments WHERE post_id = ? AND path >= ? AND path < ?";
+    private static final String DELETE_SQL = "DELETE FROM comments WHERE id = ?";
+    private static final String SOFT_DELETE_SQL = "UPDATE comments SET deleted = 1, updated_at = ? WHERE id = ? AND deleted = 0";
+    private static final String RECOUNT_SQL = "UPDATE posts SET comment_count = "
+            + "(SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id AND c.deleted = 0) WHERE id = ?";
+
+    private final CommentBulkConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostCacheService postCacheService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final AtomicLong createdComments = new AtomicLong();
+    private final AtomicLong deletedComments = new AtomicLong();
+    private final AtomicLong softDeletedComments = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    public CommentBulkResponse create(List<CommentBulkCreateRequest.Item> items) {
+        CommentBulkResponse response = transactionTemplate.execute(status -> {
+            Set<Long> postIds = collect(items, CommentBulkCreateRequest.Item::getPostId);
+            Set<Long> missingPosts = missing(postIds, postRepository::findActiveIdsByIdIn);
+            if (!missingPosts.isEmpty()) {
+                throw new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + missingPosts);
+            }
+            Set<Long> missingUsers = missing(collect(items, CommentBulkCreateRequest.Item::getUserId),
+                    userRepository::findIdsByIdIn);
+            if (!missingUsers.isEmpty()) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + missingUsers);
+            }
+            Map<Long, CommentPathRow> parents = findPathRows(collect(items, CommentBulkCreateRequest.Item::getParentId));
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = allocateIds(items.size());
+            List<Object[]> rows = new ArrayList<>(items.size());
+            Map<Long, Integer> addedByPost = new TreeMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                CommentBulkCreateRequest.Item item = items.get(i);
+                Long id = ids.get(i);
+                String path = item.getParentId() == null
+                        ? MaterializedPaths.segment(id)
+                        : MaterializedPaths.append(parentPath(parents, item), id);
+                Timestamp createdAt = Timestamp.valueOf(item.getCreatedAt() != null ? item.getCreatedAt() : now);
+                rows.add(new Object[] { id, item.getContent(), item.getUserId(), item.getPostId(), item.getParentId(),
+                        path, createdAt, createdAt });
+                addedByPost.merge(item.getPostId(), 1, Integer::sum);
+            }
+            executeBatches(INSERT_SQL, rows);
+            executeBatches(INCREMENT_SQL, addedByPost.entrySet().stream()
+                    .map(entry -> new Object[] { entry.getValue(), entry.getKey() })
+                    .toList());
+            return CommentBulkResponse.builder()
+                    .affected(rows.size())
+                    .ids(ids)
+                    .posts(addedByPost.size())
+                    .build();
+        });
+        createdComments.addAndGet(response.getAffected());
+        evictPosts(collect(items, CommentBulkCreateRequest.Item::getPostId));
+        return response;
+    }
+
+    /**
+     * 댓글과 그 답글 전체를 삭제합니다. 존재하지 않는 ID 는 건너뛰고 missingIds 로 알려줍니다.
+     */
+    public CommentBulkResponse delete(Collection<Long> commentIds) {
+        Set<Long> ids = new LinkedHashSet<>(commentIds);
+        Set<Long> postIds = new LinkedHashSet<>();
+        CommentBulkResponse response = transactionTemplate.execute(status -> {
+            Map<Long, CommentPathRow> found = findPathRows(ids);
+            List<Object[]> subtrees = new ArrayList<>();
+            List<Object[]> singles = new ArrayList<>();
+            for (CommentPathRow row : found.values()) {
+                postIds.add(row.getPostId());
+                if (row.getPath() == null) {
+                    singles.add(new Object[] { row.getId() });
+                } else {
+                    subtrees.add(new Object[] { row.getPostId(), row.getPath(), row.getPath() + "0" });
+                }
+            }
+            int affected = executeBatches(DELETE_SUBTREE_SQL, subtrees) + executeBatches(DELETE_SQL, singles);
+            recount(postIds);
+            return CommentBulkResponse.builder()
+                    .affected(affected)
+                    .missingIds(ids.stream().filter(id -> !found.containsKey(id)).toList())
+                    .posts(postIds.size())
+                    .build();
+        });
+        deletedComments.addAndGet(response.getAffected());
+        evictPosts(postIds);
+        return response;
+    }
+
+    /**
+     * 댓글에 삭제 표시만 합니다. 답글 스레드는 유지되고 내용만 가려지며 댓글 수에서는 빠집니다.
+     */
+    public CommentBulkResponse softDelete(Collection<Long> commentIds) {
+        Set<Long> ids = new LinkedHashSet<>(commentIds);
+        Set<Long> postIds = new LinkedHashSet<>();
+        CommentBulkResponse response = transactionTemplate.execute(status -> {
+            Map<Long, CommentPathRow> found = findPathRows(ids);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>();
+            for (CommentPathRow row : found.values()) {
+                if (!row.isDeleted()) {
+                    postIds.add(row.getPostId());
+                    rows.add(new Object[] { now, row.getId() });
+                }
+            }
+            int affected = executeBatches(SOFT_DELETE_SQL, rows);
+            recount(postIds);
+            return CommentBulkResponse.builder()
+                    .affected(affected)
+                    .missingIds(ids.stream().filter(id -> !found.containsKey(id)).toList())
+                    .posts(postIds.size())
+                    .build();
+        });
+        softDeletedComments.addAndGet(response.getAffected());
+        evictPosts(postIds);
+        return response;
+    }
+
+    private String parentPath(Map<Long, CommentPathRow> parents, CommentBulkCreateRequest.Item item) {
+        CommentPathRow parent = parents.get(item.getParentId());
+        if (parent == null || !parent.getPostId().equals(item.getPostId()) || parent.getPath() == null) {
+            throw new ResourceNotFoundException("부모 댓글을 찾을 수 없습니다: " + item.getParentId());
+        }
+        if (MaterializedPaths.depth(parent.getPath()) >= MaterializedPaths.MAX_DEPTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "답글은 최대 " + MaterializedPaths.MAX_DEPTH + "단계까지 작성할 수 있습니다.");
+        }
+        return parent.getPath();
+    }
+
+    /**
+     * 댓글 엔티티와 같은 ID 생성기(id_sequences 구간 할당)에서 ID 를 받아, 엔티티로 저장한 댓글과 ID 가 겹치지 않게 합니다.
+     */
+    private List<Long> allocateIds(int count) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Comment.class).getGenerator();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add((Long) generator.generate(session, null));
+        }
+        return ids;
+    }
+
+    private Map<Long, CommentPathRow> findPathRows(Set<Long> ids) {
+        Map<Long, CommentPathRow> rows = new HashMap<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(ids))) {
+            commentRepository.findPathRowsByIdIn(chunk).forEach(row -> rows.put(row.getId(), row));
+        }
+        return rows;
+    }
+
+    private Set<Long> missing(Set<Long> ids, Function<Collection<Long>, List<Long>> finder) {
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        for (List<Long> chunk : chunks(new ArrayList<>(ids))) {
+            finder.apply(chunk).forEach(missing::remove);
+        }
+        return missing;
+    }
+
+    private void recount(Set<Long> postIds) {
+        executeBatches(RECOUNT_SQL, postIds.stream().map(postId -> new Object[] { postId }).toList());
+    }
+
+    /**
+     * batchSize 개씩 JDBC 배치로 실행하고 반영된 행 수의 합을 반환합니다.
+     */
+    private int executeBatches(String sql, List<Object[]> args) {
+        int affected = 0;
+        for (List<Object[]> chunk : chunks(args)) {
+            for (int count : jdbcTemplate.batchUpdate(sql, chunk)) {
+                affected += Math.max(count, 0);
+            }
+            batchCount.incrementAndGet();
+        }
+        return affected;
+    }
+
+    private <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += config.getBatchSize()) {
+            chunks.add(values.subList(from, Math.min(values.size(), from + config.getBatchSize())));
+        }
+        return chunks;
+    }
+
+    private static <T> Set<Long> collect(List<T> items, Function<T, Long> getter) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (T item : items) {
+            Long id = getter.apply(item);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void evictPosts(Set<Long> postIds) {
+        postIds.forEach(postCacheService::evict);
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("createdComments", createdComments.get());
+        stats.put("deletedComments", deletedComments.get());
+        stats.put("softDeletedComments", softDeletedComments.get());
+        stats.put("batchCount", batchCount.get());
+        return stats;
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.portal.service;
 
+import com.example.portal.dto.CursorResponse;
 import com.example.portal.dto.comment.CommentRequestDto;
 import com.example.portal.dto.comment.CommentResponse;
+import com.example.portal.dto.comment.CommentTreeResponse;
+import com.example.portal.enums.CursorDirection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,4 +18,10 @@ public interface CommentService {
     Page<CommentResponse> getCommentsByPost(Long postId, Pageable pageable);
 
     long getCommentCount(Long postId);
+
+    CursorResponse<CommentResponse> getCommentsByCursor(Long postId, String cursor, CursorDirection direction, int size);
+
+    CommentTreeResponse getCommentTree(Long postId);
+
+    CommentTreeResponse getCommentThreads(Long postId, int page, int size, int replies);
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.example.portal.service;
+
+import com.example.portal.config.CommentStreamConfig;
+import com.example.portal.dto.comment.CommentResponse;
+import com.example.portal.dto.comment.CommentRow;
+import com.example.portal.dto.post.PostCursor;
+import com.example.portal.enums.CursorDirection;
+import com.example.portal.exception.ResourceNotFoundException;
+import com.example.portal.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 댓글 NDJSON 스트리밍
+ *
+ * 댓글이 수만 개인 게시글도 Page 나 목록을 만들지 않고 JDBC 커서에서 읽은 행을 한 줄씩 JSON 으로 바로 씁니다.
+ * 정렬과 시작 위치는 커서 API 와 같은 (created_at, id) 키셋 조건을 사용하므로 어느 위치에서 시작해도 인덱스 범위만 읽습니다.
+ * 스트리밍하는 동안 커넥션을 하나 점유하므로 한 번에 내보낼 행 수는 maxRows 로 제한합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentStreamService {
+    private static final String SELECT_SQL = "SELECT c.id, c.post_id, c.parent_id, c.content, u.name, c.path, " +
+            "c.deleted, c.created_at, c.updated_at FROM comments c JOIN users u ON u.id = c.user_id WHERE c.post_id = ?";
+    private static final String BEFORE_SQL = SELECT_SQL +
+            " AND (c.created_at < ? OR (c.created_at = ? AND c.id < ?)) ORDER BY c.created_at DESC, c.id DESC";
+    private static final String LATEST_SQL = SELECT_SQL + " ORDER BY c.created_at DESC, c.id DESC";
+    private static final String AFTER_SQL = SELECT_SQL +
+            " AND (c.created_at > ? OR (c.created_at = ? AND c.id > ?)) ORDER BY c.created_at, c.id";
+    private static final String OLDEST_SQL = SELECT_SQL + " ORDER BY c.created_at, c.id";
+
+    private final CommentStreamConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    private final AtomicLong completedStreams = new AtomicLong();
+    private final AtomicLong abortedStreams = new AtomicLong();
+    private final AtomicLong streamedRows = new AtomicLong();
+
+    /**
+     * 게시글과 커서를 먼저 검증하고, 응답 본문을 쓸 때 댓글을 조회하는 스트림을 반환합니다.
+     * 검증 오류는 스트리밍을 시작하기 전에 발생하므로 일반 오류 응답으로 전달됩니다.
+     */
+    public StreamingResponseBody open(Long postId, String cursor, CursorDirection direction, Integer limit) {
+        if (!postRepository.existsActiveById(postId)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        PostCursor position = cursor == null || cursor.isBlank() ? null : PostCursor.decodeCreatedAt(cursor);
+        int maxRows = limit == null ? config.getMaxRows() : Math.min(Math.max(limit, 1), config.getMaxRows());
+        return out -> stream(postId, position, direction, maxRows, out);
+    }
+
+    private void stream(Long postId, PostCursor position, CursorDirection direction, int maxRows, OutputStream out)
+            throws IOException {
+        String sql = direction == CursorDirection.AFTER
+                ? (position == null ? OLDEST_SQL : AFTER_SQL)
+                : (position == null ? LATEST_SQL : BEFORE_SQL);
+        ObjectWriter writer = objectMapper.writerFor(CommentResponse.class);
+        OutputStream buffered = new BufferedOutputStream(out);
+        AtomicLong written = new AtomicLong();
+
+        activeStreams.incrementAndGet();
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(config.getFetchSize());
+                statement.setMaxRows(maxRows);
+                statement.setLong(1, postId);
+                if (position != null) {
+                    Timestamp createdAt = Timestamp.valueOf(position.getCreatedAt());
+                    statement.setTimestamp(2, createdAt);
+                    statement.setTimestamp(3, createdAt);
+                    statement.setLong(4, position.getId());
+                }
+                return statement;
+            }, (ResultSet rs) -> {
+                try {
+                    buffered.write(writer.writeValueAsBytes(toResponse(rs)));
+                    buffered.write('\n');
+                    if (written.incrementAndGet() % config.getFlushEvery() == 0) {
+                        buffered.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결이 끊기면 쿼리를 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+            buffered.flush();
+            completedStreams.incrementAndGet();
+        } catch (UncheckedIOException e) {
+            abortedStreams.incrementAndGet();
+            log.debug("Comment stream of post {} aborted after {} rows", postId, written.get(), e);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            abortedStreams.incrementAndGet();
+            throw e;
+        } finally {
+            activeStreams.decrementAndGet();
+            streamedRows.addAndGet(written.get());
+        }
+    }
+
+    private CommentResponse toResponse(ResultSet rs) throws SQLException {
+        long parentId = rs.getLong(3);
+        Long parent = rs.wasNull() ? null : parentId;
+        Timestamp createdAt = rs.getTimestamp(8);
+        Timestamp updatedAt = rs.getTimestamp(9);
+        return CommentResponse.from(new CommentRow(rs.getLong(1), rs.getLong(2), parent, rs.getString(4),
+                rs.getString(5), rs.getString(6), rs.getBoolean(7),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                updatedAt != null ? updatedAt.toLocalDateTime() : null));
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("activeStreams", activeStreams.get());
+        stats.put("completedStreams", completedStreams.get());
+        stats.put("abortedStreams", abortedStreams.get());
+        stats.put("streamedRows", streamedRows.get());
+        return stats;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.portal.service;
+
+import com.example.portal.event.CategoryChangedEvent;
+import com.example.portal.event.PostChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조건부 GET(ETag) 을 위한 콘텐츠 버전
+ *
+ * DB 를 조회하지 않고 ETag 를 만들 수 있도록 메모리에 버전 번호만 유지합니다.
+ * 게시글 버전은 게시글 ID 를 해시한 고정 크기 배열에 두어 메모리가 늘어나지 않게 하고,
+ * 같은 칸을 쓰는 다른 게시글이 바뀌면 함께 바뀝니다(불필요한 200 응답이 생길 뿐 잘못된 304 는 생기지 않음).
+ * 게시글 캐시가 무효화될 때마다 해당 게시글 버전과 목록 버전을 올립니다.
+ * 재시작하면 이전 ETag 와 겹치지 않도록 시작 시각을 ETag 에 포함합니다.
+ * 게시글 응답의 likedByMe 는 조회한 사용자마다 다르므로 로그인한 요청은 사용자 ID 의 해시를 ETag 에 포함합니다.
+ */
+@Service
+public class ContentVersionService {
+    private static final int POST_VERSION_SLOTS = 1 << 16;
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLongArray postVersions = new AtomicLongArray(POST_VERSION_SLOTS);
+    private final AtomicLong postListVersion = new AtomicLong();
+
+    public ContentVersionService(PostCacheService postCacheService) {
+        postCacheService.addInvalidationListener(this::postChanged);
+    }
+
+    public String postETag(Long postId, Long viewerId) {
+        return "\"p" + postId + "-" + bootId + "-" + postVersions.get(slot(postId)) + viewerTag(viewerId) + "\"";
+    }
+
+    public String postListETag(Long viewerId) {
+        return "\"l-" + bootId + "-" + postListVersion.get() + viewerTag(viewerId) + "\"";
+    }
+
+    public String mainPageETag(long snapshotVersion) {
+        return "\"m-" + bootId + "-" + snapshotVersion + "\"";
+    }
+
+    public void postChanged(Long postId) {
+        if (postId != null) {
+            postVersions.incrementAndGet(slot(postId));
+        }
+        postListVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        postChanged(event.getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        postListVersion.incrementAndGet();
+    }
+
+    private static String viewerTag(Long viewerId) {
+        return viewerId == null ? "" : "-v" + Long.toString(viewerId * 0x9E3779B97F4A7C15L >>> 1, 36);
+    }
+
+    private static int slot(Long postId) {
+        long hash = postId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 48) & (POST_VERSION_SLOTS - 1);
+    }
+}
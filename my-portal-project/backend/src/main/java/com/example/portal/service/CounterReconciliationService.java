@@ -0,0 +1,112 @@
+package com.example.portal.service;
+
+import com.example.portal.config.CounterReconciliationConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시글 좋아요/댓글 수 비정규화 컬럼 보정 작업
+ *
+ * 댓글 수는 삭제 표시되지 않은 댓글만 셉니다.
+ * 카운터는 좋아요/댓글 변경 시 원자적 UPDATE 로 증감되지만, 직접 SQL 수정이나 장애 등으로 어긋날 수 있습니다.
+ * 게시글 ID 범위 단위로 실제 행 수와 다른 게시글을 찾아 다시 계산합니다.
+ * 보정 UPDATE 는 상관 서브쿼리로 값을 계산하므로 동시에 일어난 증감을 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconciliationService {
+    private static final String ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM posts";
+
+    private static final String DRIFTED_IDS_SQL = "SELECT p.id FROM posts p WHERE p.id >= ? AND p.id < ? AND ("
+            + "p.like_count <> (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id) OR "
+            + "p.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.deleted = 0))";
+
+    private static final String REPAIR_SQL = "UPDATE posts SET "
+            + "like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = posts.id), "
+            + "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id AND c.deleted = 0) "
+            + "WHERE id = ?";
+
+    private final CounterReconciliationConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCacheService postCacheService;
+
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong repairedPosts = new AtomicLong();
+    private final AtomicLong failedRunCount = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastRunAt = new AtomicReference<>();
+
+    @Scheduled(fixedDelayString = "${app.counter-reconciliation.interval:600000}",
+            initialDelayString = "${app.counter-reconciliation.initial-delay:60000}")
+    public void scheduledReconcile() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            failedRunCount.incrementAndGet();
+            log.error("Failed to reconcile post counters", e);
+        }
+    }
+
+    /**
+     * 모든 게시글의 좋아요/댓글 수를 검사해 어긋난 값을 보정하고 보정한 게시글 수를 반환합니다.
+     */
+    public synchronized int reconcile() {
+        long[] idRange = jdbcTemplate.queryForObject(ID_RANGE_SQL,
+                (rs, rowNum) -> rs.getObject(1) == null ? null : new long[] { rs.getLong(1), rs.getLong(2) });
+        int repaired = 0;
+        if (idRange != null) {
+            int batchSize = Math.max(1, config.getBatchSize());
+            for (long from = idRange[0]; from <= idRange[1]; from += batchSize) {
+                repaired += reconcileRange(from, from + batchSize);
+            }
+        }
+
+        runCount.incrementAndGet();
+        repairedPosts.addAndGet(repaired);
+        lastRunAt.set(LocalDateTime.now());
+        if (repaired > 0) {
+            log.warn("Repaired like/comment counters of {} posts", repaired);
+        }
+        return repaired;
+    }
+
+    private int reconcileRange(long fromInclusive, long toExclusive) {
+        List<Long> driftedIds = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(DRIFTED_IDS_SQL, Long.class, fromInclusive, toExclusive);
+            if (!ids.isEmpty()) {
+                jdbcTemplate.batchUpdate(REPAIR_SQL, ids.stream().map(id -> new Object[] { id }).toList());
+            }
+            return ids;
+        });
+        if (driftedIds == null) {
+            return 0;
+        }
+        driftedIds.forEach(postCacheService::evict);
+        return driftedIds.size();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", config.isEnabled());
+        stats.put("runCount", runCount.get());
+        stats.put("repairedPosts", repairedPosts.get());
+        stats.put("failedRunCount", failedRunCount.get());
+        stats.put("lastRunAt", lastRunAt.get());
+        return stats;
+    }
+}
@@ -13,6 +13,9 @@ import java.util.List;
 public interface FileStorageService {
     FileMetadata storeFile(MultipartFile file) throws IOException;
 
+    // 이미 디스크에 있는 파일을 저장소로 옮겨 저장 (같은 디스크면 이름 변경만 수행)
+    FileMetadata storeFile(Path source, String originalFileName, String contentType) throws IOException;
+
     Resource loadFileAsResource(String fileId) throws IOException;
 
     void deleteFile(String fileId) throws IOException;
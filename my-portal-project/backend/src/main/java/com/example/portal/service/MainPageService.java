@@ -1,10 +1,10 @@
 package com.example.portal.service;
 
 import com.example.portal.dto.MainPageResponseDto;
-import com.example.portal.entity.Category;
 import com.example.portal.entity.Post;
-import com.example.portal.repository.CategoryRepository;
 import com.example.portal.repository.PostRepository;
+import com.example.portal.service.category.CategoryInfo;
+import com.example.portal.service.category.CategoryRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,30 +20,32 @@ import java.util.stream.Collectors;
 public class MainPageService {
 
     private final PostRepository postRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ViewCountService viewCountService;
 
     public MainPageResponseDto getMainPageData() {
         MainPageResponseDto response = new MainPageResponseDto();
 
         // 최근 게시물
         Pageable recentPageable = PageRequest.of(0, 10);
-        List<Post> recentPosts = postRepository.findTop10ByOrderByCreatedAtDesc(recentPageable).getContent();
+        List<Post> recentPosts = postRepository.findTop10ByIsDeletedFalseOrderByCreatedAtDesc(recentPageable).getContent();
         response.setRecentPosts(convertToPostSummaryDto(recentPosts));
 
         // 인기 게시물
         Pageable popularPageable = PageRequest.of(0, 10);
-        List<Post> popularPosts = postRepository.findTop10ByOrderByViewCountDesc(popularPageable).getContent();
+        List<Post> popularPosts = postRepository.findTop10ByIsDeletedFalseOrderByViewCountDesc(popularPageable).getContent();
         response.setPopularPosts(convertToPostSummaryDto(popularPosts));
 
         // 공지사항
         Pageable noticePageable = PageRequest.of(0, 5);
-        List<Post> notices = postRepository.findTop5ByCategoryNameOrderByCreatedAtDesc("공지사항", noticePageable)
-                .getContent();
+        List<Post> notices = categoryRegistry.findByName("공지사항")
+                .map(notice -> postRepository.findTop5ByCategoryIdAndIsDeletedFalseOrderByCreatedAtDesc(
+                        notice.getId(), noticePageable).getContent())
+                .orElse(List.of());
         response.setNotices(convertToPostSummaryDto(notices));
 
         // 카테고리 목록
-        List<Category> categories = categoryRepository.findByIsActiveTrueOrderByDisplayOrderAsc();
-        response.setCategories(convertToCategoryDto(categories));
+        response.setCategories(convertToCategoryDto(categoryRegistry.getActive()));
 
         return response;
     }
@@ -54,14 +56,14 @@ public class MainPageService {
                         .id(post.getId())
                         .title(post.getTitle())
                         .author(post.getUser().getUsername())
-                        .viewCount(post.getViewCount())
+                        .viewCount(viewCountService.withPending(post.getId(), post.getViewCount()))
                         .likeCount(post.getLikeCount())
                         .createdAt(post.getCreatedAt())
                         .build())
                 .collect(Collectors.toList());
     }
 
-    private List<MainPageResponseDto.CategoryDto> convertToCategoryDto(List<Category> categories) {
+    private List<MainPageResponseDto.CategoryDto> convertToCategoryDto(List<CategoryInfo> categories) {
         return categories.stream()
                 .map(category -> MainPageResponseDto.CategoryDto.builder()
                         .id(category.getId())
@@ -0,0 +1,159 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.MainPageResponseDto;
+import com.example.portal.event.CategoryChangedEvent;
+import com.example.portal.event.PostChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메인 페이지 스냅샷
+ *
+ * MainPageResponseDto 를 미리 만들어 JSON 바이트까지 직렬화한 불변 스냅샷으로 보관하고 AtomicReference 로 교체합니다.
+ * 요청 경로는 참조 하나를 읽어 바이트를 그대로 내려보냅니다.
+ * 게시글/카테고리 변경 이벤트가 오면 커밋 후 별도 스레드에서 다시 만들고, 여러 이벤트가 몰리면 한 번으로 합칩니다.
+ * 조회수/좋아요 수처럼 이벤트 없이 바뀌는 값은 주기적으로 다시 만들어 반영합니다.
+ * 다시 만든 바이트가 기존과 같으면 기존 스냅샷과 버전을 유지하므로, 변경이 없는 동안 ETag 도 바뀌지 않습니다.
+ */
+@Slf4j
+@Service
+public class MainPageSnapshotService {
+    private final MainPageService mainPageService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong unchangedRefreshCount = new AtomicLong();
+    private final AtomicLong failedRefreshCount = new AtomicLong();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "main-page-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long lastRefreshMillis;
+
+    public MainPageSnapshotService(MainPageService mainPageService, ObjectMapper objectMapper) {
+        this.mainPageService = mainPageService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 현재 스냅샷. 아직 만들어진 적이 없으면 호출한 스레드에서 만듭니다.
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            return current != null ? current : refresh();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        requestRefresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        requestRefresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.main-page.refresh-interval:10000}")
+    public void scheduledRefresh() {
+        requestRefresh();
+    }
+
+    /**
+     * 새로 고침 작업을 예약합니다. 이미 예약된 작업이 있으면 그 작업이 최신 상태를 반영하므로 다시 예약하지 않습니다.
+     */
+    public void requestRefresh() {
+        if (refreshQueued.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                refreshQueued.set(false);
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    failedRefreshCount.incrementAndGet();
+                    log.error("Failed to refresh main page snapshot", e);
+                }
+            });
+        }
+    }
+
+    synchronized Snapshot refresh() {
+        long started = System.currentTimeMillis();
+        MainPageResponseDto data = mainPageService.getMainPageData();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메인 페이지 스냅샷을 직렬화할 수 없습니다.", e);
+        }
+        refreshCount.incrementAndGet();
+        Snapshot current = snapshot.get();
+        if (current != null && Arrays.equals(json, current.getJson())) {
+            unchangedRefreshCount.incrementAndGet();
+            lastRefreshMillis = System.currentTimeMillis() - started;
+            return current;
+        }
+        Snapshot built = new Snapshot(versionSequence.incrementAndGet(), json, LocalDateTime.now());
+        snapshot.set(built);
+        lastRefreshMillis = System.currentTimeMillis() - started;
+        return built;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Snapshot current = snapshot.get();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("version", current != null ? current.getVersion() : 0);
+        stats.put("builtAt", current != null ? current.getBuiltAt() : null);
+        stats.put("bytes", current != null ? current.getJson().length : 0);
+        stats.put("refreshCount", refreshCount.get());
+        stats.put("unchangedRefreshCount", unchangedRefreshCount.get());
+        stats.put("failedRefreshCount", failedRefreshCount.get());
+        stats.put("lastRefreshMillis", lastRefreshMillis);
+        return stats;
+    }
+
+    /**
+     * 불변 스냅샷. json 배열은 외부에서 수정하지 않습니다.
+     */
+    @Getter
+    public static final class Snapshot {
+        private final long version;
+        private final byte[] json;
+        private final LocalDateTime builtAt;
+
+        Snapshot(long version, byte[] json, LocalDateTime builtAt) {
+            this.version = version;
+            this.json = json;
+            this.builtAt = builtAt;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.portal.service;
+
+import com.example.portal.config.AttachmentConfig;
+import com.example.portal.dto.FileMetadata;
+import com.example.portal.dto.post.PostAttachmentResponse;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.PostFile;
+import com.example.portal.enums.AttachmentStatus;
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+import com.example.portal.repository.PostFileRepository;
+import com.example.portal.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 첨부파일 비동기 처리
+ *
+ * 요청 스레드에서는 업로드 임시 파일을 스풀 디렉터리로 옮기기만 하고(같은 디스크면 이름 변경),
+ * 게시글이 커밋된 뒤 크기가 제한된 작업 풀에서 저장소로 옮긴 다음 post_files 에 배치 INSERT 로 한 번에 연결합니다.
+ * 따라서 게시글 저장 트랜잭션(SQLite 에서는 쓰기 잠금)이 파일 복사 시간만큼 길어지지 않습니다.
+ * 첨부파일별 처리 상태는 완료 후 일정 시간 동안 메모리에 보관하며, 재시작 시 남은 스풀 파일은 정리됩니다.
+ */
+@Slf4j
+@Service
+public class PostAttachmentService {
+    private final AttachmentConfig config;
+    private final FileStorageService fileStorageService;
+    private final PostRepository postRepository;
+    private final PostFileRepository postFileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCacheService postCacheService;
+    private final Path spoolLocation;
+    private final ThreadPoolExecutor workers;
+    private final Map<Long, AttachmentJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong readyCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+
+    public PostAttachmentService(AttachmentConfig config, FileStorageService fileStorageService,
+            PostRepository postRepository, PostFileRepository postFileRepository,
+            TransactionTemplate transactionTemplate, PostCacheService postCacheService) {
+        this.config = config;
+        this.fileStorageService = fileStorageService;
+        this.postRepository = postRepository;
+        this.postFileRepository = postFileRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.postCacheService = postCacheService;
+        this.spoolLocation = Paths.get(config.getSpoolDir()).toAbsolutePath().normalize();
+        prepareSpoolLocation();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int workerCount = Math.max(1, config.getWorkers());
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())), runnable -> {
+                    Thread thread = new Thread(runnable, "post-attachment-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 업로드된 파일을 스풀 디렉터리로 옮깁니다. 요청 스레드에서 DB 트랜잭션 밖에서 호출해야 합니다.
+     */
+    public List<SpooledFile> spool(List<MultipartFile> files) {
+        List<SpooledFile> spooled = new ArrayList<>();
+        if (files == null) {
+            return spooled;
+        }
+        try {
+            for (MultipartFile file : files) {
+                if (file == null || file.isEmpty()) {
+                    continue;
+                }
+                String originalName = StringUtils.cleanPath(String.valueOf(file.getOriginalFilename()));
+                if (originalName.contains("..")) {
+                    throw new IOException("Invalid file path sequence " + originalName);
+                }
+                Path target = spoolLocation.resolve(UUID.randomUUID().toString());
+                file.transferTo(target);
+                spooled.add(new SpooledFile(target, originalName, file.getContentType(), file.getSize()));
+            }
+        } catch (IOException e) {
+            log.error("Failed to spool attachments", e);
+            discard(spooled);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        return spooled;
+    }
+
+    /**
+     * 게시글 저장이 실패했을 때 스풀한 파일을 지웁니다.
+     */
+    public void discard(List<SpooledFile> files) {
+        files.forEach(file -> deleteQuietly(file.getPath()));
+    }
+
+    /**
+     * 게시글이 커밋된 뒤 스풀한 파일의 저장/연결을 작업 풀에 맡기고 현재(PENDING) 상태를 반환합니다.
+     * 대기열이 가득 차면 요청 스레드에서 직접 처리합니다(이때도 게시글 트랜잭션은 이미 끝난 상태).
+     */
+    public List<PostAttachmentResponse> submit(Long postId, List<SpooledFile> files) {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        AttachmentJob job = new AttachmentJob(files);
+        jobs.put(postId, job);
+        try {
+            workers.execute(() -> process(postId, job));
+        } catch (RejectedExecutionException e) {
+            callerRunsCount.incrementAndGet();
+            process(postId, job);
+        }
+        return job.toResponses();
+    }
+
+    /**
+     * 처리 중이거나 최근에 처리한 게시글의 첨부파일 상태
+     */
+    public Optional<List<PostAttachmentResponse>> findStatus(Long postId) {
+        AttachmentJob job = jobs.get(postId);
+        return job != null ? Optional.of(job.toResponses()) : Optional.empty();
+    }
+
+    @Scheduled(fixedDelayString = "${app.attachment.cleanup-interval:60000}")
+    public void removeExpiredJobs() {
+        long expireBefore = System.currentTimeMillis() - config.getStatusRetention().toMillis();
+        jobs.values().removeIf(job -> job.isCompletedBefore(expireBefore));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Attachment workers did not finish within 30s; {} posts left pending", workers.getQueue().size());
+            workers.shutdownNow();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("queuedPosts", workers.getQueue().size());
+        stats.put("trackedPosts", jobs.size());
+        stats.put("readyAttachments", readyCount.get());
+        stats.put("failedAttachments", failedCount.get());
+        stats.put("callerRuns", callerRunsCount.get());
+        return stats;
+    }
+
+    private void process(Long postId, AttachmentJob job) {
+        List<FileMetadata> stored = new ArrayList<>();
+        List<Integer> storedIndexes = new ArrayList<>();
+        for (int i = 0; i < job.files.size(); i++) {
+            SpooledFile file = job.files.get(i);
+            try {
+                stored.add(fileStorageService.storeFile(file.getPath(), file.getOriginalName(), file.getContentType()));
+                storedIndexes.add(i);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to store attachment {} of post {}", file.getOriginalName(), postId, e);
+                deleteQuietly(file.getPath());
+                job.fail(i);
+                failedCount.incrementAndGet();
+            }
+        }
+
+        if (!stored.isEmpty() && link(postId, stored)) {
+            for (int i = 0; i < stored.size(); i++) {
+                job.ready(storedIndexes.get(i), stored.get(i).getUploadPath());
+            }
+            readyCount.addAndGet(stored.size());
+            postCacheService.evict(postId);
+        } else if (!stored.isEmpty()) {
+            stored.forEach(metadata -> deleteStoredQuietly(metadata.getFileId()));
+            storedIndexes.forEach(job::fail);
+            failedCount.addAndGet(stored.size());
+        }
+        job.complete();
+    }
+
+    /**
+     * 저장한 파일을 게시글에 연결합니다. PostFile 은 미리 할당된 ID 를 사용하므로 saveAll 이 JDBC 배치 INSERT 로 실행됩니다.
+     * 그 사이 게시글이 삭제됐다면 연결하지 않습니다.
+     */
+    private boolean link(Long postId, List<FileMetadata> stored) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!postRepository.existsActiveById(postId)) {
+                    return false;
+                }
+                Post post = postRepository.getReferenceById(postId);
+                List<PostFile> files = new ArrayList<>(stored.size());
+                for (FileMetadata metadata : stored) {
+                    PostFile file = PostFile.builder()
+                            .originalName(metadata.getFileName())
+                            .storedName(metadata.getFileId())
+                            .url(metadata.getUploadPath())
+                            .fileType(metadata.getFileType() != null ? metadata.getFileType() : "application/octet-stream")
+                            .fileSize(metadata.getFileSize())
+                            .build();
+                    file.setPost(post);
+                    files.add(file);
+                }
+                postFileRepository.saveAll(files);
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            log.error("Failed to link {} attachments to post {}", stored.size(), postId, e);
+            return false;
+        }
+    }
+
+    private void prepareSpoolLocation() {
+        try {
+            Files.createDirectories(spoolLocation);
+            // 재시작 전 처리하지 못한 스풀 파일은 연결할 작업 정보가 없으므로 정리
+            try (Stream<Path> leftovers = Files.list(spoolLocation)) {
+                leftovers.forEach(PostAttachmentService::deleteQuietly);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to prepare attachment spool directory " + spoolLocation, e);
+        }
+    }
+
+    private void deleteStoredQuietly(String fileId) {
+        try {
+            fileStorageService.deleteFile(fileId);
+        } catch (IOException e) {
+            log.warn("Failed to delete orphan attachment {}", fileId, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled file {}", path, e);
+        }
+    }
+
+    /**
+     * 스풀 디렉터리에 옮겨 둔 업로드 파일
+     */
+    public static final class SpooledFile {
+        private final Path path;
+        private final String originalName;
+        private final String contentType;
+        private final long size;
+
+        SpooledFile(Path path, String originalName, String contentType, long size) {
+            this.path = path;
+            this.originalName = originalName;
+            this.contentType = contentType;
+            this.size = size;
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        String getOriginalName() {
+            return originalName;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+    }
+
+    private static final class AttachmentJob {
+        private final List<SpooledFile> files;
+        private final AttachmentStatus[] statuses;
+        private final String[] urls;
+        private volatile long completedAtMillis;
+
+        AttachmentJob(List<SpooledFile> files) {
+            this.files = List.copyOf(files);
+            this.statuses = new AttachmentStatus[files.size()];
+            this.urls = new String[files.size()];
+            Arrays.fill(statuses, AttachmentStatus.PENDING);
+        }
+
+        synchronized void ready(int index, String url) {
+            statuses[index] = AttachmentStatus.READY;
+            urls[index] = url;
+        }
+
+        synchronized void fail(int index) {
+            statuses[index] = AttachmentStatus.FAILED;
+        }
+
+        void complete() {
+            completedAtMillis = System.currentTimeMillis();
+        }
+
+        boolean isCompletedBefore(long millis) {
+            long completedAt = completedAtMillis;
+            return completedAt != 0 && completedAt < millis;
+        }
+
+        synchronized List<PostAttachmentResponse> toResponses() {
+            List<PostAttachmentResponse> responses = new ArrayList<>(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                responses.add(PostAttachmentResponse.builder()
+                        .originalName(files.get(i).originalName)
+                        .status(statuses[i])
+                        .url(urls[i])
+                        .fileSize(files.get(i).size)
+                        .build());
+            }
+            return responses;
+        }
+    }
+}
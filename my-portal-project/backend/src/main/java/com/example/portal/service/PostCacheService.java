@@ -0,0 +1,227 @@
+package com.example.portal.service;
+
+import com.example.portal.config.PostCacheConfig;
+import com.example.portal.dto.post.PostResponse;
+import com.example.portal.util.TransactionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 응답(PostResponse)의 읽기 전용 캐시
+ *
+ * 게시글 ID 기준으로 세그먼트를 나누고, 세그먼트마다 LRU 순서의 LinkedHashMap 을 둡니다.
+ * 크기 초과 시 가장 오래 사용되지 않은 항목을, TTL 초과 시 해당 항목을 제거합니다.
+ * 쓰기 작업은 evict 를 호출해 즉시 한 번, 트랜잭션 커밋 후 한 번 더 무효화합니다.
+ */
+@Service
+public class PostCacheService {
+    private final PostCacheConfig config;
+    private final Segment[] segments;
+    private final List<Consumer<Long>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PostCacheService(PostCacheConfig config) {
+        this.config = config;
+        int segmentCount = Math.max(1, config.getSegments());
+        int segmentCapacity = Math.max(1, config.getMaxSize() / segmentCount);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        if (!config.isEnabled()) {
+            return loader.apply(postId);
+        }
+
+        Segment segment = segmentFor(postId);
+        long generation;
+        synchronized (segment) {
+            Entry entry = segment.entries.get(postId);
+            if (entry != null) {
+                if (!entry.isExpired(System.nanoTime())) {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+                segment.entries.remove(postId);
+                expirations.incrementAndGet();
+            }
+            generation = segment.generation;
+        }
+
+        misses.incrementAndGet();
+        PostResponse loaded = loader.apply(postId);
+
+        synchronized (segment) {
+            // 로딩 중 무효화가 일어났다면 오래된 값을 캐시에 넣지 않음
+            if (loaded != null && segment.generation == generation) {
+                segment.entries.put(postId, new Entry(loaded, System.nanoTime() + config.getTtl().toNanos()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 게시글을 한 번에 조회합니다. 캐시에 없는 ID 만 모아 loader 를 한 번 호출합니다.
+     * loader 가 돌려주지 않은 ID(존재하지 않는 게시글)는 결과에서 빠집니다.
+     */
+    public Map<Long, PostResponse> getAll(Collection<Long> postIds,
+            Function<List<Long>, Map<Long, PostResponse>> loader) {
+        if (!config.isEnabled()) {
+            return loader.apply(new ArrayList<>(postIds));
+        }
+
+        Map<Long, PostResponse> result = new HashMap<>();
+        Map<Long, Long> missGenerations = new LinkedHashMap<>();
+        long now = System.nanoTime();
+        for (Long postId : postIds) {
+            Segment segment = segmentFor(postId);
+            synchronized (segment) {
+                Entry entry = segment.entries.get(postId);
+                if (entry != null && !entry.isExpired(now)) {
+                    hits.incrementAndGet();
+                    result.put(postId, entry.value);
+                    continue;
+                }
+                if (entry != null) {
+                    segment.entries.remove(postId);
+                    expirations.incrementAndGet();
+                }
+                missGenerations.put(postId, segment.generation);
+            }
+        }
+        if (missGenerations.isEmpty()) {
+            return result;
+        }
+
+        misses.addAndGet(missGenerations.size());
+        Map<Long, PostResponse> loaded = loader.apply(new ArrayList<>(missGenerations.keySet()));
+        long expiresAt = System.nanoTime() + config.getTtl().toNanos();
+        loaded.forEach((postId, value) -> {
+            Segment segment = segmentFor(postId);
+            synchronized (segment) {
+                // 로딩 중 무효화가 일어났다면 오래된 값을 캐시에 넣지 않음
+                if (segment.generation == missGenerations.get(postId)) {
+                    segment.entries.put(postId, new Entry(value, expiresAt));
+                }
+            }
+            result.put(postId, value);
+        });
+        return result;
+    }
+
+    public void evict(Long postId) {
+        if (postId == null) {
+            return;
+        }
+        remove(postId);
+        TransactionUtils.afterCommit(() -> remove(postId));
+    }
+
+    /**
+     * 게시글 항목이 무효화될 때마다 게시글 ID 로 호출됩니다.
+     */
+    public void addInvalidationListener(Consumer<Long> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.generation++;
+            }
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", size());
+        stats.put("maxSize", config.getMaxSize());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total * 100);
+        stats.put("evictions", evictions.get());
+        stats.put("expirations", expirations.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private void remove(Long postId) {
+        Segment segment = segmentFor(postId);
+        synchronized (segment) {
+            segment.entries.remove(postId);
+            segment.generation++;
+        }
+        invalidations.incrementAndGet();
+        invalidationListeners.forEach(listener -> listener.accept(postId));
+    }
+
+    private Segment segmentFor(Long postId) {
+        int hash = Long.hashCode(postId);
+        hash ^= (hash >>> 16);
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private final class Segment {
+        private final LinkedHashMap<Long, Entry> entries;
+        private long generation;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+
+    private static final class Entry {
+        private final PostResponse value;
+        private final long expiresAt;
+
+        Entry(PostResponse value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
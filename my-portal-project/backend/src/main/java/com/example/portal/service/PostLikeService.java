@@ -0,0 +1,92 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.post.PostLikeResponse;
+import com.example.portal.event.PostLikedEvent;
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+import com.example.portal.repository.PostLikeRepository;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.service.like.PostLikerIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 좋아요 추가/취소
+ *
+ * 좋아요 행은 (post_id, user_id) 조건부 INSERT/DELETE 한 문장으로 기록하고,
+ * 실제로 행이 바뀐 경우에만 같은 트랜잭션에서 like_count 를 원자적으로 증감합니다.
+ * 이미 같은 상태라면 아무것도 바꾸지 않고 현재 상태를 돌려주므로 여러 번 호출해도 결과가 같습니다.
+ * 엔티티를 읽지 않으므로 1차 캐시/더티 체킹 비용이 없고, 동시 요청이 고유 제약에 걸려도 오류 대신 현재 상태를 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCacheService postCacheService;
+    private final TrendingService trendingService;
+    private final PostLikerIndex postLikerIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostLikeResponse like(Long postId, Long userId) {
+        boolean inserted;
+        try {
+            inserted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (postLikeRepository.insertIfAbsent(postId, userId, LocalDateTime.now()) == 0) {
+                    return false;
+                }
+                postRepository.incrementLikeCount(postId);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 요청이 먼저 기록한 경우
+            inserted = false;
+        }
+
+        if (inserted) {
+            postLikerIndex.liked(postId, userId);
+            postCacheService.evict(postId);
+            trendingService.recordLike(postId);
+            eventPublisher.publishEvent(new PostLikedEvent(postId, userId));
+            return currentState(postId, userId, true);
+        }
+        return currentState(postId, userId, null);
+    }
+
+    public PostLikeResponse unlike(Long postId, Long userId) {
+        boolean deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (postLikeRepository.deleteByPostIdAndUserIdDirectly(postId, userId) == 0) {
+                return false;
+            }
+            postRepository.decrementLikeCount(postId);
+            return true;
+        }));
+
+        if (deleted) {
+            postLikerIndex.unliked(postId, userId);
+            postCacheService.evict(postId);
+            return currentState(postId, userId, false);
+        }
+        return currentState(postId, userId, null);
+    }
+
+    /**
+     * 좋아요 수와 사용자의 좋아요 여부를 조회합니다. 여부를 이미 알고 있으면 likedKnown 으로 넘겨 조회를 생략합니다.
+     */
+    private PostLikeResponse currentState(Long postId, Long userId, Boolean likedKnown) {
+        int likeCount = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        boolean liked = likedKnown != null ? likedKnown : postLikeRepository.existsByPostIdAndUserId(postId, userId);
+        return PostLikeResponse.builder()
+                .postId(postId)
+                .liked(liked)
+                .likeCount(likeCount)
+                .build();
+    }
+}
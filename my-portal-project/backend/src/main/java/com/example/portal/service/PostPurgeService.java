@@ -0,0 +1,192 @@
+package com.example.portal.service;
+
+import com.example.portal.config.PostPurgeConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 삭제 표시된 게시글 정리 작업
+ *
+ * 게시글 삭제 요청은 is_deleted 플래그만 바꾸고, 유예 기간이 지난 게시글의 댓글/좋아요/첨부파일 행과
+ * 저장 파일, 게시글 행은 이 작업이 batchSize 단위의 짧은 트랜잭션으로 나누어 삭제합니다.
+ * 배치 사이에는 batchPause 만큼 쉬어 댓글이 많은 게시글을 정리하는 동안에도 다른 쓰기 요청이 대기하지 않게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostPurgeService {
+    private static final String PURGEABLE_POSTS_SQL =
+            "SELECT id FROM posts WHERE is_deleted = 1 AND deleted_at < ? ORDER BY deleted_at";
+    // 답글이 달리지 않은 댓글부터 삭제해 parent_id 외래키를 위반하지 않음
+    private static final String LEAF_COMMENTS_SQL = "SELECT c.id FROM comments c WHERE c.post_id = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.id)";
+    private static final String LIKES_SQL = "SELECT id FROM post_likes WHERE post_id = ?";
+    private static final String FILES_SQL = "SELECT id, stored_name FROM post_files WHERE post_id = ?";
+
+    private final PostPurgeConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FileStorageService fileStorageService;
+
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong failedRunCount = new AtomicLong();
+    private final AtomicLong purgedPosts = new AtomicLong();
+    private final AtomicLong purgedComments = new AtomicLong();
+    private final AtomicLong purgedLikes = new AtomicLong();
+    private final AtomicLong purgedFiles = new AtomicLong();
+    private final AtomicLong failedFileDeletes = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastRunAt = new AtomicReference<>();
+
+    @Scheduled(fixedDelayString = "${app.post-purge.interval:60000}",
+            initialDelayString = "${app.post-purge.interval:60000}")
+    public void scheduledPurge() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            failedRunCount.incrementAndGet();
+            log.error("Failed to purge deleted posts", e);
+        }
+    }
+
+    /**
+     * 유예 기간이 지난 삭제 표시 게시글을 최대 postsPerRun 개까지 정리하고 정리한 게시글 수를 반환합니다.
+     */
+    public synchronized int purge() {
+        LocalDateTime threshold = LocalDateTime.now().minus(config.getGracePeriod());
+        List<Long> postIds = selectIds(PURGEABLE_POSTS_SQL, config.getPostsPerRun(), Timestamp.valueOf(threshold));
+        int purged = 0;
+        for (Long postId : postIds) {
+            if (purgePost(postId)) {
+                purged++;
+            }
+        }
+        runCount.incrementAndGet();
+        lastRunAt.set(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} deleted posts", purged);
+        }
+        return purged;
+    }
+
+    private boolean purgePost(Long postId) {
+        purgedComments.addAndGet(deleteInBatches(LEAF_COMMENTS_SQL, "DELETE FROM comments WHERE id = ?", postId));
+        purgedLikes.addAndGet(deleteInBatches(LIKES_SQL, "DELETE FROM post_likes WHERE id = ?", postId));
+        purgeFiles(postId);
+
+        Integer deleted = transactionTemplate.execute(status ->
+                jdbcTemplate.update("DELETE FROM posts WHERE id = ? AND is_deleted = 1", postId));
+        if (deleted == null || deleted == 0) {
+            return false;
+        }
+        purgedPosts.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * selectSql 로 찾은 행을 batchSize 개씩 별도 트랜잭션으로 삭제하고 삭제한 행 수를 반환합니다.
+     */
+    private long deleteInBatches(String selectSql, String deleteSql, Long postId) {
+        long deleted = 0;
+        while (true) {
+            List<Long> ids = selectIds(selectSql, config.getBatchSize(), postId);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(deleteSql, ids.stream().map(id -> new Object[] { id }).toList()));
+            deleted += ids.size();
+            pause();
+        }
+    }
+
+    private void purgeFiles(Long postId) {
+        while (true) {
+            List<StoredFile> files = select(FILES_SQL, config.getBatchSize(),
+                    (rs, rowNum) -> new StoredFile(rs.getLong(1), rs.getString(2)), postId);
+            if (files.isEmpty()) {
+                return;
+            }
+            // 행을 먼저 삭제한 뒤 파일을 지워, 실패하더라도 존재하지 않는 파일을 가리키는 행이 남지 않게 함
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "DELETE FROM post_files WHERE id = ?", files.stream().map(f -> new Object[] { f.id }).toList()));
+            for (StoredFile file : files) {
+                try {
+                    fileStorageService.deleteFile(file.storedName);
+                } catch (IOException e) {
+                    failedFileDeletes.incrementAndGet();
+                    log.warn("Failed to delete stored file {} of purged post {}", file.storedName, postId, e);
+                }
+            }
+            purgedFiles.addAndGet(files.size());
+            pause();
+        }
+    }
+
+    private List<Long> selectIds(String sql, int limit, Object arg) {
+        return select(sql, limit, (rs, rowNum) -> rs.getLong(1), arg);
+    }
+
+    private <T> List<T> select(String sql, int limit, RowMapper<T> rowMapper, Object arg) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setMaxRows(limit);
+            statement.setObject(1, arg);
+            return statement;
+        }, rowMapper);
+    }
+
+    private void pause() {
+        if (config.getBatchPause() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(config.getBatchPause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Post purge interrupted", e);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pendingPosts", jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM posts WHERE is_deleted = 1", Long.class));
+        stats.put("runCount", runCount.get());
+        stats.put("failedRunCount", failedRunCount.get());
+        stats.put("purgedPosts", purgedPosts.get());
+        stats.put("purgedComments", purgedComments.get());
+        stats.put("purgedLikes", purgedLikes.get());
+        stats.put("purgedFiles", purgedFiles.get());
+        stats.put("failedFileDeletes", failedFileDeletes.get());
+        stats.put("lastRunAt", lastRunAt.get());
+        return stats;
+    }
+
+    private static final class StoredFile {
+        private final long id;
+        private final String storedName;
+
+        private StoredFile(long id, String storedName) {
+            this.id = id;
+            this.storedName = storedName;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.portal.service;
 
+import com.example.portal.dto.CursorResponse;
+import com.example.portal.dto.post.PostAttachmentResponse;
+import com.example.portal.dto.post.PostBatchGetResponse;
+import com.example.portal.dto.post.PostLikeResponse;
 import com.example.portal.dto.post.PostRequest;
 import com.example.portal.dto.post.PostResponse;
 import com.example.portal.dto.post.PostFileResponse;
@@ -7,27 +11,41 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.portal.enums.TrendingWindow;
 import java.util.List;
 
 public interface PostService {
     PostResponse createPost(PostRequest request, List<MultipartFile> files);
 
+    List<PostAttachmentResponse> getAttachmentStatus(Long postId);
+
     PostResponse updatePost(Long postId, PostRequest request);
 
     void deletePost(Long postId);
 
     PostResponse getPost(Long postId);
 
+    /**
+     * 본문을 다시 보내지 않는 조회(304 응답)도 조회수와 인기 게시글 집계에 반영합니다.
+     */
+    void recordView(Long postId);
+
+    PostBatchGetResponse getPostsByIds(List<Long> postIds);
+
     Page<PostResponse> getPosts(Pageable pageable);
 
-    void addLike(Long postId);
+    PostLikeResponse addLike(Long postId);
 
-    void removeLike(Long postId);
+    PostLikeResponse removeLike(Long postId);
 
     Page<PostResponse> searchPosts(String keyword, Pageable pageable);
 
     Page<PostResponse> searchPostsByCategory(Long categoryId, String keyword, Pageable pageable);
 
+    List<String> suggestTitles(String query, int limit);
+
+    List<PostResponse> getTrendingPosts(TrendingWindow window, int size);
+
     Page<PostResponse> getPostsByUsername(String username, Pageable pageable);
 
     Page<PostResponse> getRecentPosts(Pageable pageable);
@@ -37,4 +55,14 @@ public interface PostService {
     Page<PostResponse> getRecentPostsByCategory(String categoryName, Pageable pageable);
 
     PostFileResponse uploadPostFile(MultipartFile file, Long postId);
+
+    CursorResponse<PostResponse> getPostsByCursor(String cursor, int size);
+
+    CursorResponse<PostResponse> getRecentPostsByCursor(String cursor, int size);
+
+    CursorResponse<PostResponse> getPopularPostsByCursor(String cursor, int size);
+
+    CursorResponse<PostResponse> getRecentPostsByCategoryByCursor(String categoryName, String cursor, int size);
+
+    CursorResponse<PostResponse> getPostsByUsernameByCursor(String username, String cursor, int size);
 }
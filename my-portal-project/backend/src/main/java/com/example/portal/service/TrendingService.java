@@ -0,0 +1,233 @@
+package com.example.portal.service;
+
+import com.example.portal.config.TrendingConfig;
+import com.example.portal.dto.post.PostActivityRow;
+import com.example.portal.enums.TrendingWindow;
+import com.example.portal.event.PostChangedEvent;
+import com.example.portal.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 인기 급상승 게시글 순위
+ *
+ * 조회/좋아요/댓글마다 가중치를 더하고 구간(시간/일/주)별 반감기로 지수 감쇠한 점수를 게시글마다 유지합니다.
+ * 감쇠는 forward decay 방식으로, 서비스 시작 시각(epoch) 기준 2^(경과시간/반감기) 를 곱해 더하므로
+ * 모든 게시글의 점수를 매번 줄이지 않아도 바로 비교할 수 있습니다. 값이 커지는 것을 막기 위해 log2 로 저장합니다.
+ * 구간마다 상위 topK 개를 정렬된 집합으로 유지하므로 조회 시 DB 정렬이 필요 없습니다.
+ * 점수는 메모리에만 있으며, 시작 시 최근 1주일 게시글의 누적 활동량으로 초기화합니다.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+    private final TrendingConfig config;
+    private final PostRepository postRepository;
+    private final long epochMillis = System.currentTimeMillis();
+    private final Map<TrendingWindow, WindowRanking> rankings = new EnumMap<>(TrendingWindow.class);
+
+    public TrendingService(TrendingConfig config, PostRepository postRepository) {
+        this.config = config;
+        this.postRepository = postRepository;
+        for (TrendingWindow window : TrendingWindow.values()) {
+            rankings.put(window, new WindowRanking(window.getHalfLife().toMillis()));
+        }
+    }
+
+    public void recordView(Long postId) {
+        record(postId, config.getViewWeight(), System.currentTimeMillis());
+    }
+
+    public void recordLike(Long postId) {
+        record(postId, config.getLikeWeight(), System.currentTimeMillis());
+    }
+
+    public void recordComment(Long postId) {
+        record(postId, config.getCommentWeight(), System.currentTimeMillis());
+    }
+
+    /**
+     * 점수가 높은 순서의 게시글 ID 목록 (최대 topK 개)
+     */
+    public List<Long> getTopPostIds(TrendingWindow window, int size) {
+        return rankings.get(window).top(Math.min(size, config.getTopK()));
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠된 점수
+     */
+    public double getScore(TrendingWindow window, Long postId) {
+        return rankings.get(window).currentScore(postId, System.currentTimeMillis());
+    }
+
+    public void remove(Long postId) {
+        rankings.values().forEach(ranking -> ranking.remove(postId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.ChangeType.DELETED) {
+            remove(event.getPostId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime since = LocalDateTime.now().minus(TrendingWindow.WEEK.getHalfLife());
+        List<PostActivityRow> rows;
+        try {
+            rows = postRepository.findActivitySince(since);
+        } catch (DataAccessException e) {
+            // 초기화는 최선 노력 - 실패해도 이후 활동으로 점수가 쌓인다
+            log.warn("Could not seed trending scores: {}", e.getMessage());
+            return;
+        }
+        for (PostActivityRow row : rows) {
+            double weight = row.getViewCount() * config.getViewWeight()
+                    + row.getLikeCount() * config.getLikeWeight()
+                    + row.getCommentCount() * config.getCommentWeight();
+            long createdAt = row.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            record(row.getId(), weight, Math.min(createdAt, System.currentTimeMillis()));
+        }
+        log.info("Seeded trending scores for {} recent posts", rows.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.prune-interval:600000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        double threshold = log2(config.getPruneBelow());
+        rankings.values().forEach(ranking -> ranking.prune(threshold, now));
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        rankings.forEach((window, ranking) -> stats.put(window.name().toLowerCase() + "TrackedPosts", ranking.trackedPosts()));
+        stats.put("topK", config.getTopK());
+        return stats;
+    }
+
+    void record(Long postId, double weight, long atMillis) {
+        if (postId == null || weight <= 0) {
+            return;
+        }
+        double logWeight = log2(weight);
+        rankings.values().forEach(ranking -> ranking.add(postId, logWeight, atMillis));
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    /**
+     * log2(2^a + 2^b) 를 넘침 없이 계산
+     */
+    private static double logSum(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) {
+            return b;
+        }
+        double max = Math.max(a, b);
+        return max + log2(1 + Math.pow(2, -Math.abs(a - b)));
+    }
+
+    private final class WindowRanking {
+        private final double halfLifeMillis;
+        private final Map<Long, Double> logScores = new HashMap<>();
+        private final TreeSet<RankedPost> top = new TreeSet<>(Comparator
+                .comparingDouble((RankedPost p) -> p.logScore).reversed()
+                .thenComparing(p -> p.postId));
+
+        WindowRanking(double halfLifeMillis) {
+            this.halfLifeMillis = halfLifeMillis;
+        }
+
+        synchronized void add(Long postId, double logWeight, long atMillis) {
+            double previous = logScores.getOrDefault(postId, Double.NEGATIVE_INFINITY);
+            double updated = logSum(previous, logWeight + (atMillis - epochMillis) / halfLifeMillis);
+            logScores.put(postId, updated);
+
+            top.remove(new RankedPost(postId, previous));
+            if (top.size() < config.getTopK() || updated > top.last().logScore) {
+                top.add(new RankedPost(postId, updated));
+                if (top.size() > config.getTopK()) {
+                    top.pollLast();
+                }
+            }
+        }
+
+        synchronized List<Long> top(int size) {
+            List<Long> ids = new ArrayList<>(Math.max(0, Math.min(size, top.size())));
+            Iterator<RankedPost> iterator = top.iterator();
+            while (iterator.hasNext() && ids.size() < size) {
+                ids.add(iterator.next().postId);
+            }
+            return ids;
+        }
+
+        synchronized double currentScore(Long postId, long nowMillis) {
+            Double logScore = logScores.get(postId);
+            if (logScore == null) {
+                return 0;
+            }
+            return Math.pow(2, logScore - (nowMillis - epochMillis) / halfLifeMillis);
+        }
+
+        synchronized void remove(Long postId) {
+            Double logScore = logScores.remove(postId);
+            if (logScore != null && top.remove(new RankedPost(postId, logScore))) {
+                refill();
+            }
+        }
+
+        /**
+         * 감쇠된 점수가 기준보다 낮아진 게시글은 상위 목록에 없으면 추적을 중단
+         */
+        synchronized void prune(double logThreshold, long nowMillis) {
+            double cutoff = logThreshold + (nowMillis - epochMillis) / halfLifeMillis;
+            logScores.entrySet().removeIf(entry -> entry.getValue() < cutoff
+                    && !top.contains(new RankedPost(entry.getKey(), entry.getValue())));
+        }
+
+        synchronized int trackedPosts() {
+            return logScores.size();
+        }
+
+        // 상위 목록에서 빠진 자리를 나머지 게시글 중 가장 높은 점수로 채움
+        private void refill() {
+            RankedPost best = null;
+            for (Map.Entry<Long, Double> entry : logScores.entrySet()) {
+                RankedPost candidate = new RankedPost(entry.getKey(), entry.getValue());
+                if (!top.contains(candidate) && (best == null || candidate.logScore > best.logScore)) {
+                    best = candidate;
+                }
+            }
+            if (best != null) {
+                top.add(best);
+            }
+        }
+    }
+
+    private static final class RankedPost {
+        private final Long postId;
+        private final double logScore;
+
+        RankedPost(Long postId, double logScore) {
+            this.postId = postId;
+            this.logScore = logScore;
+        }
+    }
+}
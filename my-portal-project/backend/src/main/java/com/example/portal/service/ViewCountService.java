@@ -0,0 +1,166 @@
+package com.example.portal.service;
+
+import com.example.portal.config.ViewCountConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ *
+ * 조회 시에는 게시글별 LongAdder(스레드별로 분산된 카운터)만 증가시키고,
+ * 누적된 증가분은 주기적으로 하나의 배치 UPDATE 문으로 반영합니다.
+ * 읽는 쪽은 DB 에 반영된 값에 아직 반영되지 않은 증가분을 더해 사용합니다.
+ * 애플리케이션 종료 시 남은 증가분을 모두 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+    private static final String INCREMENT_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final ViewCountConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCacheService postCacheService;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+    private final Map<Long, Boolean> idleSinceLastFlush = new ConcurrentHashMap<>();
+
+    private final AtomicLong recordedViews = new AtomicLong();
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+
+    public void recordView(Long postId) {
+        recordedViews.incrementAndGet();
+        if (!config.isWriteBehind()) {
+            jdbcTemplate.update(INCREMENT_SQL, 1, postId);
+            postCacheService.evict(postId);
+            return;
+        }
+        LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        if (pending.get(postId) != adder) {
+            // 증가시키는 사이 정리 작업이 유휴 카운터를 제거했으면 남은 증가분을 새 카운터로 옮김
+            moveStranded(postId, adder);
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 증가분
+     */
+    public long getPendingCount(Long postId) {
+        long count = inFlight.getOrDefault(postId, 0L);
+        LongAdder adder = pending.get(postId);
+        if (adder != null) {
+            count += adder.sum();
+        }
+        return count;
+    }
+
+    /**
+     * DB 에 저장된 조회수에 반영 대기 중인 증가분을 더한 값
+     */
+    public int withPending(Long postId, int flushedViewCount) {
+        return (int) Math.min(Integer.MAX_VALUE, flushedViewCount + getPendingCount(postId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        int flushed = flush();
+        log.info("Drained {} pending view count entries on shutdown", flushed);
+    }
+
+    /**
+     * 누적된 조회수 증가분을 DB 에 반영하고 반영한 게시글 수를 반환합니다.
+     */
+    public synchronized int flush() {
+        Map<Long, Long> deltas = drainPending();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        inFlight.putAll(deltas);
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batch.add(new Object[] { delta, postId }));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < batch.size(); from += config.getBatchSize()) {
+                    int to = Math.min(batch.size(), from + config.getBatchSize());
+                    jdbcTemplate.batchUpdate(INCREMENT_SQL, batch.subList(from, to));
+                }
+            });
+            deltas.keySet().forEach(postCacheService::evict);
+            flushedViews.addAndGet(deltas.values().stream().mapToLong(Long::longValue).sum());
+            flushCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            // 실패한 증가분은 다음 주기에 다시 반영하도록 되돌림
+            failedFlushCount.incrementAndGet();
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            log.error("Failed to flush {} view count entries", deltas.size(), e);
+        } finally {
+            deltas.keySet().forEach(inFlight::remove);
+        }
+        return deltas.size();
+    }
+
+    private Map<Long, Long> drainPending() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+                idleSinceLastFlush.remove(postId);
+            } else if (idleSinceLastFlush.putIfAbsent(postId, Boolean.TRUE) != null) {
+                // 두 주기 연속으로 조회가 없던 게시글의 카운터는 정리
+                if (pending.remove(postId, adder)) {
+                    moveStranded(postId, adder);
+                }
+                idleSinceLastFlush.remove(postId);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * 제거된 카운터에 들어온 증가분을 현재 카운터로 옮깁니다.
+     * 제거한 쪽과 증가시킨 쪽이 모두 호출할 수 있지만 sumThenReset 으로 가져간 값만 옮기므로 두 번 더해지지 않습니다.
+     */
+    private void moveStranded(Long postId, LongAdder removed) {
+        long stranded = removed.sumThenReset();
+        if (stranded > 0) {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).add(stranded);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("trackedPosts", pending.size());
+        stats.put("pendingViews", pending.values().stream().mapToLong(LongAdder::sum).sum());
+        stats.put("recordedViews", recordedViews.get());
+        stats.put("flushedViews", flushedViews.get());
+        stats.put("flushCount", flushCount.get());
+        stats.put("failedFlushCount", failedFlushCount.get());
+        return stats;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.portal.service.category;
+
+import com.example.portal.dto.category.CategoryResponseDto;
+import com.example.portal.entity.Category;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * CategoryRegistry 가 보관하는 카테고리의 불변 복사본 (영속성 컨텍스트와 분리된 값)
+ */
+@Getter
+@EqualsAndHashCode
+public final class CategoryInfo {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final int displayOrder;
+    private final boolean active;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    private CategoryInfo(Category category) {
+        this.id = category.getId();
+        this.name = category.getName();
+        this.description = category.getDescription();
+        this.displayOrder = category.getDisplayOrder();
+        this.active = category.isActive();
+        this.createdAt = category.getCreatedAt();
+        this.updatedAt = category.getUpdatedAt();
+    }
+
+    public static CategoryInfo from(Category category) {
+        return new CategoryInfo(category);
+    }
+
+    public CategoryResponseDto toResponse() {
+        return CategoryResponseDto.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .displayOrder(displayOrder)
+                .active(active)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.portal.service.category;
+
+import com.example.portal.event.CategoryChangedEvent;
+import com.example.portal.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 카테고리 레지스트리
+ *
+ * 시작 시 categories 테이블 전체를 읽어 ID/이름으로 색인한 불변 스냅샷을 만들고,
+ * 게시글 조회/작성 경로의 카테고리 확인은 이 스냅샷의 해시 조회로 처리합니다.
+ * CategoryService 의 변경이 커밋되면 스냅샷을 다시 만들고 버전을 올리며,
+ * 다른 인스턴스에서 변경된 내용은 주기적인 재적재로 반영합니다. (내용이 같으면 버전 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+    private final CategoryRepository categoryRepository;
+
+    private volatile CategorySnapshot snapshot = new CategorySnapshot(0, List.of());
+    private final AtomicLong rebuildCount = new AtomicLong();
+
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    // 메인 페이지 스냅샷 등 다른 카테고리 변경 리스너보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.category-registry.refresh-interval:300000}",
+            initialDelayString = "${app.category-registry.refresh-interval:300000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to reload category registry", e);
+        }
+    }
+
+    /**
+     * DB 에서 카테고리를 다시 읽어 스냅샷을 교체하고 현재 스냅샷을 반환합니다.
+     */
+    public synchronized CategorySnapshot rebuild() {
+        List<CategoryInfo> categories = categoryRepository.findAll().stream()
+                .map(CategoryInfo::from)
+                .toList();
+        CategorySnapshot current = snapshot;
+        if (current.getVersion() > 0 && current.hasSameContent(categories)) {
+            return current;
+        }
+        snapshot = new CategorySnapshot(current.getVersion() + 1, categories);
+        rebuildCount.incrementAndGet();
+        log.debug("Category registry rebuilt: version={}, categories={}", snapshot.getVersion(), categories.size());
+        return snapshot;
+    }
+
+    public CategorySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public Optional<CategoryInfo> findById(Long id) {
+        return snapshot.findById(id);
+    }
+
+    public Optional<CategoryInfo> findByName(String name) {
+        return snapshot.findByName(name);
+    }
+
+    public List<CategoryInfo> getAll() {
+        return snapshot.getAll();
+    }
+
+    public List<CategoryInfo> getActive() {
+        return snapshot.getActive();
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    public Map<String, Object> getStatistics() {
+        CategorySnapshot current = snapshot;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("version", current.getVersion());
+        stats.put("categories", current.getAll().size());
+        stats.put("activeCategories", current.getActive().size());
+        stats.put("loadedAt", current.getLoadedAt());
+        stats.put("rebuildCount", rebuildCount.get());
+        return stats;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.portal.service.category;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 특정 버전의 전체 카테고리 목록. 만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드에서 읽습니다.
+ */
+@Getter
+public final class CategorySnapshot {
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final List<CategoryInfo> all; // ID 순
+    private final List<CategoryInfo> active; // 표시 순서 순
+    private final Map<Long, CategoryInfo> byId;
+    private final Map<String, CategoryInfo> byName;
+
+    CategorySnapshot(long version, List<CategoryInfo> categories) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.all = categories.stream()
+                .sorted(Comparator.comparing(CategoryInfo::getId))
+                .toList();
+        this.active = categories.stream()
+                .filter(CategoryInfo::isActive)
+                .sorted(Comparator.comparingInt(CategoryInfo::getDisplayOrder))
+                .toList();
+        Map<Long, CategoryInfo> ids = new HashMap<>();
+        Map<String, CategoryInfo> names = new HashMap<>();
+        for (CategoryInfo category : categories) {
+            ids.put(category.getId(), category);
+            names.put(category.getName(), category);
+        }
+        this.byId = Map.copyOf(ids);
+        this.byName = Map.copyOf(names);
+    }
+
+    public Optional<CategoryInfo> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<CategoryInfo> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(name));
+    }
+
+    /**
+     * 같은 카테고리 구성인지 비교합니다. (버전/로딩 시각 제외)
+     */
+    boolean hasSameContent(List<CategoryInfo> categories) {
+        return all.equals(categories.stream().sorted(Comparator.comparing(CategoryInfo::getId)).toList());
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.portal.service.comment;
+
+import com.example.portal.config.CommentFloodConfig;
+import com.example.portal.dto.comment.ShadowedComment;
+import com.example.portal.enums.CommentFloodMode;
+import com.example.portal.enums.CommentFloodVerdict;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 댓글 도배 감지
+ *
+ * 댓글을 저장하기 전에 메모리에서만 검사하므로 차단된 작성은 DB 쓰기 잠금을 잡지 않습니다.
+ * 사용자별/게시글별 작성 횟수는 잠금 없는 슬라이딩 윈도 카운터로 세고,
+ * 최근 댓글의 SimHash 지문을 원형 배열에 보관해 같은 사용자나 같은 게시글에 비슷한 내용이 반복되는지 확인합니다.
+ * 차단된 시도도 사용자 횟수에 포함되므로 계속 시도하면 윈도가 지날 때까지 차단이 유지됩니다.
+ * 사용자 한도에 걸린 시도는 게시글 횟수와 지문에 넣지 않으므로, 한 사용자의 도배가 같은 게시글의 다른 사용자를 막지 않습니다.
+ * 여러 서버로 운영하면 서버마다 따로 셉니다.
+ */
+@Slf4j
+@Service
+public class CommentFloodDetector {
+    private final CommentFloodConfig config;
+    private final ConcurrentMap<Long, SlidingWindowCounter> userCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, SlidingWindowCounter> postCounters = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Fingerprint> fingerprints;
+    private final AtomicLong fingerprintCursor = new AtomicLong();
+    private final BlockingQueue<ShadowedComment> shadowQueue;
+
+    private final AtomicLong checked = new AtomicLong();
+    private final Map<CommentFloodVerdict, AtomicLong> verdicts = new EnumMap<>(CommentFloodVerdict.class);
+    private final AtomicLong shadowDropped = new AtomicLong();
+
+    public CommentFloodDetector(CommentFloodConfig config) {
+        this.config = config;
+        this.fingerprints = new AtomicReferenceArray<>(Math.max(1, config.getFingerprintHistory()));
+        this.shadowQueue = new ArrayBlockingQueue<>(Math.max(1, config.getShadowQueueSize()));
+        for (CommentFloodVerdict verdict : CommentFloodVerdict.values()) {
+            verdicts.put(verdict, new AtomicLong());
+        }
+    }
+
+    public CommentFloodVerdict check(Long userId, Long postId, String content) {
+        return check(userId, postId, content, System.currentTimeMillis());
+    }
+
+    CommentFloodVerdict check(Long userId, Long postId, String content, long now) {
+        if (!config.isEnabled()) {
+            return CommentFloodVerdict.ALLOWED;
+        }
+        checked.incrementAndGet();
+        CommentFloodVerdict verdict = checkCounts(userId, postId, content, now);
+        verdicts.get(verdict).incrementAndGet();
+        if (verdict.isBlocked()) {
+            log.debug("Comment flood {} by user {} on post {}", verdict, userId, postId);
+        }
+        return verdict;
+    }
+
+    private CommentFloodVerdict checkCounts(Long userId, Long postId, String content, long now) {
+        if (counter(userCounters, userId).incrementAndSum(now) > config.getUserLimit()) {
+            return CommentFloodVerdict.USER_RATE;
+        }
+        int postCount = counter(postCounters, postId).incrementAndSum(now);
+        int similar = matchAndRecord(userId, postId, content, now);
+        return postCount > config.getPostLimit() ? CommentFloodVerdict.POST_RATE
+                : similar >= config.getDuplicateThreshold() ? CommentFloodVerdict.DUPLICATE
+                : CommentFloodVerdict.ALLOWED;
+    }
+
+    public boolean isShadowMode() {
+        return config.getMode() == CommentFloodMode.SHADOW;
+    }
+
+    /**
+     * 윈도 구간 하나가 지나면 가장 오래된 작성이 빠지므로 그 시간을 재시도 대기 시간으로 안내합니다.
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (config.getWindowMillis() / config.getBuckets() + 999) / 1000);
+    }
+
+    /**
+     * SHADOW 모드에서 차단된 댓글을 검토 대기열에 넣습니다. 대기열이 가득 차면 가장 오래된 댓글을 버립니다.
+     */
+    public ShadowedComment shadow(Long userId, Long postId, Long parentId, String content,
+            CommentFloodVerdict verdict) {
+        ShadowedComment shadowed = ShadowedComment.builder()
+                .userId(userId)
+                .postId(postId)
+                .parentId(parentId)
+                .content(content)
+                .verdict(verdict)
+                .queuedAt(LocalDateTime.now())
+                .build();
+        while (!shadowQueue.offer(shadowed)) {
+            if (shadowQueue.poll() != null) {
+                shadowDropped.incrementAndGet();
+            }
+        }
+        return shadowed;
+    }
+
+    public List<ShadowedComment> getShadowedComments() {
+        return new ArrayList<>(shadowQueue);
+    }
+
+    private SlidingWindowCounter counter(ConcurrentMap<Long, SlidingWindowCounter> counters, Long key) {
+        SlidingWindowCounter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key,
+                    k -> new SlidingWindowCounter(config.getWindowMillis(), config.getBuckets()));
+        }
+        return counter;
+    }
+
+    /**
+     * 같은 사용자 또는 같은 게시글의 최근 지문 중 해밍 거리가 maxDistance 이하인 것의 수를 세고 새 지문을 기록합니다.
+     */
+    private int matchAndRecord(Long userId, Long postId, String content, long now) {
+        String normalized = ContentFingerprint.normalize(content == null ? "" : content);
+        if (normalized.length() < config.getMinFingerprintLength()) {
+            return 0;
+        }
+        long hash = ContentFingerprint.simHash(normalized);
+        int similar = 0;
+        for (int i = 0; i < fingerprints.length(); i++) {
+            Fingerprint previous = fingerprints.get(i);
+            if (previous != null
+                    && now - previous.createdAt <= config.getDuplicateTtl()
+                    && (previous.userId.equals(userId) || previous.postId.equals(postId))
+                    && ContentFingerprint.distance(previous.hash, hash) <= config.getMaxDistance()) {
+                similar++;
+            }
+        }
+        int slot = (int) (fingerprintCursor.getAndIncrement() % fingerprints.length());
+        fingerprints.set(slot, new Fingerprint(userId, postId, hash, now));
+        return similar;
+    }
+
+    /**
+     * 윈도 안에 작성이 없는 카운터를 제거합니다.
+     * 제거와 동시에 증가한 한 건은 잃을 수 있지만 도배 판정에는 영향이 거의 없습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.comment-flood.cleanup-interval:60000}")
+    public void evictIdleCounters() {
+        long now = System.currentTimeMillis();
+        evictIdle(userCounters, now);
+        evictIdle(postCounters, now);
+    }
+
+    private void evictIdle(ConcurrentMap<Long, SlidingWindowCounter> counters, long now) {
+        counters.forEach((key, counter) -> {
+            if (counter.sum(now) == 0) {
+                counters.remove(key, counter);
+            }
+        });
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", config.isEnabled());
+        stats.put("mode", config.getMode());
+        stats.put("checked", checked.get());
+        verdicts.forEach((verdict, count) -> stats.put(verdict.name(), count.get()));
+        stats.put("trackedUsers", userCounters.size());
+        stats.put("trackedPosts", postCounters.size());
+        stats.put("shadowQueueSize", shadowQueue.size());
+        stats.put("shadowDropped", shadowDropped.get());
+        return stats;
+    }
+
+    private static final class Fingerprint {
+        private final Long userId;
+        private final Long postId;
+        private final long hash;
+        private final long createdAt;
+
+        private Fingerprint(Long userId, Long postId, long hash, long createdAt) {
+            this.userId = userId;
+            this.postId = postId;
+            this.hash = hash;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.portal.service.comment;
+
+import java.util.Locale;
+
+/**
+ * 댓글 내용의 SimHash 지문
+ *
+ * 공백과 기호를 뺀 소문자 내용을 3글자 단위로 잘라 해시하고, 비트마다 다수결로 64비트 지문을 만듭니다.
+ * 글자 몇 개를 바꾸거나 띄어쓰기만 다르게 한 내용은 해밍 거리가 작은 지문이 나옵니다.
+ */
+public final class ContentFingerprint {
+    private static final int SHINGLE = 3;
+
+    private ContentFingerprint() {
+    }
+
+    public static String normalize(String content) {
+        StringBuilder normalized = new StringBuilder(content.length());
+        content.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    public static long simHash(String normalized) {
+        int[] weights = new int[Long.SIZE];
+        int shingles = Math.max(1, normalized.length() - SHINGLE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long hash = hash(normalized, start, Math.min(normalized.length(), start + SHINGLE));
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+            }
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // FNV-1a 후 MurmurHash3 fmix64 로 비트를 고르게 섞음
+    private static long hash(String value, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.portal.service.comment;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 슬라이딩 윈도 카운터
+ *
+ * 윈도를 buckets 개 구간으로 나눈 원형 배열의 각 칸에 (구간 번호, 횟수) 를 long 하나로 묶어 저장합니다.
+ * 구간 번호와 횟수를 한 번의 CAS 로 바꾸므로 구간이 넘어가는 순간에도 증가분이 사라지지 않습니다.
+ * 합계는 최근 buckets 개 구간의 횟수를 더한 값이라 윈도 경계에서 구간 하나만큼 오래된 작성이 포함될 수 있습니다.
+ */
+public class SlidingWindowCounter {
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long SLOT_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+
+    private final long bucketMillis;
+    private final AtomicLongArray cells;
+
+    public SlidingWindowCounter(long windowMillis, int buckets) {
+        this.bucketMillis = Math.max(1, windowMillis / buckets);
+        this.cells = new AtomicLongArray(buckets);
+    }
+
+    /**
+     * 현재 구간에 1 을 더하고 윈도 안의 합계를 반환합니다.
+     */
+    public int incrementAndSum(long now) {
+        long slot = slot(now);
+        int index = (int) (slot % cells.length());
+        while (true) {
+            long cell = cells.get(index);
+            long next = (cell >>> COUNT_BITS) == slot
+                    ? (cell & COUNT_MASK) == COUNT_MASK ? cell : cell + 1
+                    : (slot << COUNT_BITS) | 1;
+            if (cells.compareAndSet(index, cell, next)) {
+                break;
+            }
+        }
+        return sum(now);
+    }
+
+    public int sum(long now) {
+        long slot = slot(now);
+        int total = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            long cell = cells.get(i);
+            if (((slot - (cell >>> COUNT_BITS)) & SLOT_MASK) < cells.length()) {
+                total += (int) (cell & COUNT_MASK);
+            }
+        }
+        return total;
+    }
+
+    private long slot(long now) {
+        return (now / bucketMillis) & SLOT_MASK;
+    }
+}
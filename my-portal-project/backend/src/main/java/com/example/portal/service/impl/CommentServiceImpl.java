@@ -1,35 +1,77 @@
 package com.example.portal.service.impl;
 
 import com.example.portal.dto.comment.CommentRequestDto;
+import com.example.portal.dto.CursorResponse;
+import com.example.portal.dto.comment.CommentNodeResponse;
 import com.example.portal.dto.comment.CommentResponse;
+import com.example.portal.dto.comment.CommentRow;
+import com.example.portal.dto.comment.CommentTreeResponse;
 import com.example.portal.entity.Comment;
 import com.example.portal.entity.Post;
 import com.example.portal.entity.User;
+import com.example.portal.dto.post.PostCursor;
+import com.example.portal.entity.common.MaterializedPaths;
+import com.example.portal.enums.CommentFloodVerdict;
+import com.example.portal.enums.CursorDirection;
+import com.example.portal.event.CommentAddedEvent;
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.CommentFloodException;
+import com.example.portal.exception.ErrorCode;
 import com.example.portal.exception.ResourceNotFoundException;
 import com.example.portal.exception.UnauthorizedException;
 import com.example.portal.repository.CommentRepository;
 import com.example.portal.repository.PostRepository;
 import com.example.portal.security.SecurityUtil;
 import com.example.portal.service.CommentService;
+import com.example.portal.service.PostCacheService;
+import com.example.portal.service.TrendingService;
+import com.example.portal.service.comment.CommentFloodDetector;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentServiceImpl implements CommentService {
+    private static final int MAX_THREAD_PAGE_SIZE = 100;
+    private static final int MAX_REPLIES_PER_THREAD = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostCacheService postCacheService;
+    private final TrendingService trendingService;
+    private final CommentFloodDetector commentFloodDetector;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public CommentResponse createComment(Long postId, CommentRequestDto request) {
         User currentUser = SecurityUtil.getCurrentUser().getUser();
-        Post post = postRepository.findById(postId)
+        // 도배 검사는 쿼리 전에 메모리에서만 수행 (SQLite 트랜잭션은 첫 쓰기 전까지 잠금을 잡지 않음)
+        CommentFloodVerdict verdict = commentFloodDetector.check(currentUser.getId(), postId, request.getContent());
+        if (verdict.isBlocked()) {
+            if (commentFloodDetector.isShadowMode()) {
+                return shadowComment(currentUser, postId, request, verdict);
+            }
+            throw new CommentFloodException(verdict, commentFloodDetector.getRetryAfterSeconds());
+        }
+
+        Post post = postRepository.findActiveById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
 
         Comment comment = Comment.builder()
@@ -40,14 +82,41 @@ public class CommentServiceImpl implements CommentService {
 
         if (request.getParentId() != null) {
             Comment parent = commentRepository.findById(request.getParentId())
+                    .filter(found -> found.getPost().getId().equals(postId))
                     .orElseThrow(() -> new ResourceNotFoundException("부모 댓글을 찾을 수 없습니다."));
+            if (MaterializedPaths.depth(parent.getPath()) >= MaterializedPaths.MAX_DEPTH) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                        "답글은 최대 " + MaterializedPaths.MAX_DEPTH + "단계까지 작성할 수 있습니다.");
+            }
             comment.setParent(parent);
         }
 
         Comment savedComment = commentRepository.save(comment);
+        postRepository.incrementCommentCount(postId);
+        postCacheService.evict(postId);
+        trendingService.recordComment(postId);
+        eventPublisher.publishEvent(new CommentAddedEvent(savedComment.getId(), postId,
+                request.getParentId(), currentUser.getId()));
         return CommentResponse.from(savedComment);
     }
 
+    /**
+     * 저장하지 않은 댓글을 검토 대기열에 넣고, 작성자에게는 정상 작성된 것과 같은 형태로 응답합니다.
+     */
+    private CommentResponse shadowComment(User user, Long postId, CommentRequestDto request,
+            CommentFloodVerdict verdict) {
+        LocalDateTime queuedAt = commentFloodDetector.shadow(user.getId(), postId, request.getParentId(),
+                request.getContent(), verdict).getQueuedAt();
+        return CommentResponse.builder()
+                .content(request.getContent())
+                .author(user.getName())
+                .postId(postId)
+                .parentId(request.getParentId())
+                .createdAt(queuedAt)
+                .updatedAt(queuedAt)
+                .build();
+    }
+
     @Override
     @Transactional
     public CommentResponse updateComment(Long commentId, CommentRequestDto request) {
@@ -74,24 +143,153 @@ public class CommentServiceImpl implements CommentService {
             throw new UnauthorizedException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        commentRepository.delete(comment);
+        Long postId = comment.getPost().getId();
+        boolean counted = !comment.isDeleted();
+        if (commentRepository.existsByParentId(commentId)) {
+            // 답글이 있으면 삭제 표시만 해서 답글이 부모 없는 댓글로 남지 않고 스레드도 유지되게 함
+            comment.delete();
+        } else {
+            commentRepository.delete(comment);
+        }
+        if (counted) {
+            // 삭제 표시된 댓글은 이미 댓글 수에서 빠져 있음
+            postRepository.decrementCommentCount(postId);
+        }
+        postCacheService.evict(postId);
     }
 
     @Override
     public Page<CommentResponse> getCommentsByPost(Long postId, Pageable pageable) {
-        if (!postRepository.existsById(postId)) {
+        if (!postRepository.existsActiveById(postId)) {
             throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
         }
-        return commentRepository.findByPostIdOrderByCreatedAtDesc(postId, pageable)
+        return commentRepository.findRowsByPostId(postId, pageable)
                 .map(CommentResponse::from);
     }
 
+    /**
+     * BEFORE 는 커서보다 오래된 댓글을 최신순으로 조회하며 마지막 페이지에서는 nextCursor 가 null 입니다.
+     * AFTER 는 커서 이후 새로 작성된 댓글을 작성순으로 조회하며, 새 댓글을 이어서 받을 수 있도록
+     * 결과가 없더라도 nextCursor 에 마지막 위치를 돌려줍니다.
+     */
+    @Override
+    public CursorResponse<CommentResponse> getCommentsByCursor(Long postId, String cursor, CursorDirection direction,
+            int size) {
+        if (!postRepository.existsActiveById(postId)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+        PostCursor position = cursor == null || cursor.isBlank() ? null : PostCursor.decodeCreatedAt(cursor);
+        Slice<CommentRow> slice;
+        if (direction == CursorDirection.AFTER) {
+            slice = position == null
+                    ? commentRepository.findOldestSliceByPost(postId, limit)
+                    : commentRepository.findSliceByPostAfter(postId, position.getCreatedAt(), position.getId(), limit);
+        } else {
+            slice = position == null
+                    ? commentRepository.findLatestSliceByPost(postId, limit)
+                    : commentRepository.findSliceByPostBefore(postId, position.getCreatedAt(), position.getId(), limit);
+        }
+
+        List<CommentRow> rows = slice.getContent();
+        String nextCursor = null;
+        if (!rows.isEmpty() && (slice.hasNext() || direction == CursorDirection.AFTER)) {
+            CommentRow last = rows.get(rows.size() - 1);
+            nextCursor = PostCursor.encodeCreatedAt(last.getCreatedAt(), last.getId());
+        } else if (direction == CursorDirection.AFTER) {
+            nextCursor = position == null ? null : cursor;
+        }
+        return CursorResponse.<CommentResponse>builder()
+                .content(rows.stream().map(CommentResponse::from).toList())
+                .size(limit.getPageSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public CommentTreeResponse getCommentTree(Long postId) {
+        if (!postRepository.existsActiveById(postId)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        return CommentTreeResponse.builder()
+                .postId(postId)
+                .threads(buildThreads(commentRepository.findTreeRows(postId)))
+                .hasNext(false)
+                .build();
+    }
+
+    @Override
+    public CommentTreeResponse getCommentThreads(Long postId, int page, int size, int replies) {
+        if (!postRepository.existsActiveById(postId)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        int threadPage = Math.max(page, 0);
+        int threadSize = Math.min(Math.max(size, 1), MAX_THREAD_PAGE_SIZE);
+        int repliesPerThread = Math.min(Math.max(replies, 0), MAX_REPLIES_PER_THREAD);
+
+        // 다음 페이지/추가 답글 존재 여부를 알기 위해 스레드와 답글을 하나씩 더 조회
+        List<CommentRow> rows = commentRepository.findThreadRows(
+                postId, threadPage * threadSize, threadSize + 1, repliesPerThread + 2);
+
+        Map<String, List<CommentRow>> rowsByThread = new LinkedHashMap<>();
+        for (CommentRow row : rows) {
+            rowsByThread.computeIfAbsent(MaterializedPaths.root(row.getPath()), key -> new ArrayList<>()).add(row);
+        }
+        List<CommentRow> kept = new ArrayList<>(rows.size());
+        List<Long> truncatedRootIds = new ArrayList<>();
+        for (List<CommentRow> threadRows : rowsByThread.values()) {
+            if (threadRows.size() > repliesPerThread + 1) {
+                truncatedRootIds.add(threadRows.get(0).getId());
+                threadRows = threadRows.subList(0, repliesPerThread + 1);
+            }
+            kept.addAll(threadRows);
+        }
+
+        List<CommentNodeResponse> threads = buildThreads(kept);
+        threads.stream()
+                .filter(thread -> truncatedRootIds.contains(thread.getId()))
+                .forEach(CommentNodeResponse::markHasMoreReplies);
+        boolean hasNext = threads.size() > threadSize;
+        return CommentTreeResponse.builder()
+                .postId(postId)
+                .threads(hasNext ? threads.subList(0, threadSize) : threads)
+                .page(threadPage)
+                .size(threadSize)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     public long getCommentCount(Long postId) {
-        if (!postRepository.existsById(postId)) {
+        if (!postRepository.existsActiveById(postId)) {
             throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
         }
 
-        return commentRepository.countByPostId(postId);
+        return commentRepository.countByPostIdAndDeletedFalse(postId);
+    }
+
+    /**
+     * 경로 순으로 정렬된 행을 트리로 묶고 루트 댓글을 최신순으로 정렬합니다.
+     * 경로 순서에서는 부모가 항상 자식보다 앞에 오므로 한 번 순회로 충분합니다.
+     * 부모 댓글이 삭제된 답글은 루트로 취급합니다.
+     */
+    private List<CommentNodeResponse> buildThreads(List<CommentRow> rows) {
+        Map<Long, CommentNodeResponse> nodesById = new HashMap<>();
+        List<CommentNodeResponse> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            CommentNodeResponse node = CommentNodeResponse.from(row);
+            nodesById.put(node.getId(), node);
+            CommentNodeResponse parent = row.getParentId() != null ? nodesById.get(row.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        roots.sort(Comparator.comparing(CommentNodeResponse::getCreatedAt,
+                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(CommentNodeResponse::getId, Comparator.reverseOrder()));
+        return roots;
     }
 }
\ No newline at end of file
@@ -65,6 +65,27 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    @Override
+    public FileMetadata storeFile(Path source, String originalFileName, String contentType) throws IOException {
+        String cleanFileName = StringUtils.cleanPath(originalFileName);
+        if (cleanFileName.contains("..")) {
+            throw new IOException("Invalid file path sequence " + cleanFileName);
+        }
+
+        String fileId = UUID.randomUUID().toString();
+        Path targetLocation = this.fileStorageLocation.resolve(fileId);
+
+        try {
+            long fileSize = Files.size(source);
+            Files.move(source, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("File stored successfully: {}", fileId);
+            return FileMetadata.of(fileId, cleanFileName, contentType, fileSize, "/");
+        } catch (IOException e) {
+            logger.error("Failed to store file: {}", cleanFileName, e);
+            throw new IOException("Failed to store file " + cleanFileName, e);
+        }
+    }
+
     @Override
     public Resource loadFileAsResource(String fileId) throws IOException {
         try {
@@ -26,7 +26,7 @@ public class PostFileServiceImpl implements PostFileService {
 
     @Override
     public PostFile saveFile(MultipartFile file, Long postId) {
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findActiveById(postId)
                 .orElseThrow(() -> new RuntimeException("Post not found"));
 
         try {
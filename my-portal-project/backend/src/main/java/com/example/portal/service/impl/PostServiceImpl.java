@@ -1,226 +1,324 @@
 package com.example.portal.service.impl;
 
+import com.example.portal.dto.CursorResponse;
+import com.example.portal.dto.post.PostAttachmentResponse;
+import com.example.portal.dto.post.PostBatchGetResponse;
+import com.example.portal.dto.post.PostCursor;
+import com.example.portal.dto.post.PostFileUrlRow;
+import com.example.portal.dto.post.PostLikeResponse;
+import com.example.portal.dto.post.PostListRow;
 import com.example.portal.dto.post.PostRequest;
 import com.example.portal.dto.post.PostResponse;
 import com.example.portal.dto.post.PostFileResponse;
 import com.example.portal.entity.Post;
 import com.example.portal.entity.User;
 import com.example.portal.entity.PostFile;
-import com.example.portal.entity.PostLike;
 import com.example.portal.entity.Category;
+import com.example.portal.enums.AttachmentStatus;
+import com.example.portal.enums.TrendingWindow;
+import com.example.portal.event.PostChangedEvent;
+import com.example.portal.event.PostChangedEvent.ChangeType;
 import com.example.portal.repository.PostRepository;
 import com.example.portal.repository.UserRepository;
 import com.example.portal.repository.PostFileRepository;
-import com.example.portal.repository.PostLikeRepository;
 import com.example.portal.repository.CategoryRepository;
 import com.example.portal.service.PostService;
 import com.example.portal.service.FileStorageService;
+import com.example.portal.service.PostAttachmentService;
+import com.example.portal.service.PostAttachmentService.SpooledFile;
+import com.example.portal.service.PostCacheService;
+import com.example.portal.service.PostLikeService;
+import com.example.portal.service.TrendingService;
+import com.example.portal.service.ViewCountService;
+import com.example.portal.service.category.CategoryInfo;
+import com.example.portal.service.category.CategoryRegistry;
+import com.example.portal.service.like.PostLikerIndex;
+import com.example.portal.service.search.PostSearchService;
 import com.example.portal.exception.BusinessException;
 import com.example.portal.exception.ErrorCode;
 import com.example.portal.security.user.UserPrincipal;
 import com.example.portal.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PostServiceImpl implements PostService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostFileRepository postFileRepository;
-    private final PostLikeRepository postLikeRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final FileStorageService fileStorageService;
+    private final PostCacheService postCacheService;
+    private final PostAttachmentService postAttachmentService;
+    private final PostLikeService postLikeService;
+    private final PostLikerIndex postLikerIndex;
+    private final ViewCountService viewCountService;
+    private final TrendingService trendingService;
+    private final PostSearchService postSearchService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse createPost(PostRequest request, List<MultipartFile> files) {
         UserPrincipal currentUser = SecurityUtil.getCurrentUser();
-        User user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        Category category = null;
-        if (request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+        // 첨부파일은 트랜잭션 밖에서 스풀해 두고, 게시글이 커밋된 뒤 작업 풀에서 저장/연결
+        List<SpooledFile> spooledFiles = postAttachmentService.spool(files);
+        Post savedPost;
+        try {
+            savedPost = transactionTemplate.execute(status -> savePost(currentUser.getId(), request));
+        } catch (RuntimeException e) {
+            postAttachmentService.discard(spooledFiles);
+            throw e;
         }
 
+        List<PostAttachmentResponse> attachments = postAttachmentService.submit(savedPost.getId(), spooledFiles);
+        return PostResponse.from(savedPost).toBuilder()
+                .attachments(attachments)
+                .build();
+    }
+
+    private Post savePost(Long userId, PostRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        Category category = resolveCategory(request.getCategoryId());
+
         Post post = Post.builder()
                 .title(request.getTitle())
                 .content(request.getContent())
+                .author(user.getName())
+                .category(category)
                 .user(user)
                 .build();
 
         Post savedPost = postRepository.save(post);
+        postSearchService.indexPost(savedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), ChangeType.CREATED));
+        return savedPost;
+    }
 
-        // 파일 업로드 처리
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                try {
-                    var fileMetadata = fileStorageService.storeFile(file);
-                    PostFile postFile = PostFile.builder()
-                            .originalName(fileMetadata.getFileName())
-                            .storedName(fileMetadata.getFileId())
-                            .url(fileMetadata.getUploadPath())
-                            .fileType(fileMetadata.getFileType())
-                            .fileSize(fileMetadata.getFileSize())
-                            .build();
-                    postFile.setPost(savedPost);
-                    postFileRepository.save(postFile);
-                } catch (IOException e) {
-                    throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
-                }
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostAttachmentResponse> getAttachmentStatus(Long postId) {
+        return postAttachmentService.findStatus(postId).orElseGet(() -> {
+            if (!postRepository.existsActiveById(postId)) {
+                throw new BusinessException(ErrorCode.POST_NOT_FOUND);
             }
-        }
-
-        return PostResponse.from(savedPost);
+            return postFileRepository.findByPostId(postId).stream()
+                    .map(file -> PostAttachmentResponse.builder()
+                            .originalName(file.getOriginalName())
+                            .status(AttachmentStatus.READY)
+                            .url(file.getUrl())
+                            .fileSize(file.getFileSize() != null ? file.getFileSize() : 0L)
+                            .build())
+                    .toList();
+        });
     }
 
     @Override
     public PostResponse updatePost(Long postId, PostRequest request) {
         UserPrincipal currentUser = SecurityUtil.getCurrentUser();
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findActiveById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
         if (!post.getUser().getId().equals(currentUser.getId())) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        Category category = null;
-        if (request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
-        }
+        Category category = resolveCategory(request.getCategoryId());
 
         post.update(request.getTitle(), request.getContent(), category);
         Post updatedPost = postRepository.save(post);
+        postCacheService.evict(postId);
+        postSearchService.indexPost(updatedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, ChangeType.UPDATED));
         return PostResponse.from(updatedPost);
     }
 
     @Override
     public void deletePost(Long postId) {
         UserPrincipal currentUser = SecurityUtil.getCurrentUser();
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findActiveById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
         if (!post.getUser().getId().equals(currentUser.getId())) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        postRepository.delete(post);
+        // 삭제 표시만 하고 댓글/첨부파일/좋아요와 저장 파일은 PostPurgeService 가 나누어 정리
+        post.markDeleted();
+        postCacheService.evict(postId);
+        postSearchService.removePost(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId, ChangeType.DELETED));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-        return PostResponse.from(post);
+        // 캐시 적중 시에는 트랜잭션(커넥션)을 열지 않음
+        PostResponse response = postCacheService.get(postId, this::loadPost);
+        recordView(postId);
+        return withLikedByMe(List.of(withPendingViews(response))).get(0);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public Page<PostResponse> getPosts(Pageable pageable) {
-        return postRepository.findAll(pageable)
-                .map(PostResponse::from);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(Long postId) {
+        viewCountService.recordView(postId);
+        trendingService.recordView(postId);
     }
 
     @Override
-    public void addLike(Long postId) {
-        UserPrincipal currentUser = SecurityUtil.getCurrentUser();
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-
-        User user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        if (postLikeRepository.existsByPostAndUser(post, user)) {
-            throw new BusinessException(ErrorCode.ALREADY_LIKED);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostBatchGetResponse getPostsByIds(List<Long> postIds) {
+        // 중복 ID 는 요청 순서상 처음 위치만 남김. 목록 화면용이므로 조회수는 기록하지 않음
+        // 모두 캐시에 있으면 트랜잭션(커넥션)을 열지 않고, 없는 게시글만 loadPosts 에서 한 번에 조회
+        List<Long> orderedIds = postIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, PostResponse> found = postCacheService.getAll(orderedIds, this::loadPosts);
+
+        List<PostResponse> posts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long postId : orderedIds) {
+            PostResponse response = found.get(postId);
+            if (response != null) {
+                posts.add(withPendingViews(response));
+            } else {
+                missingIds.add(postId);
+            }
         }
+        return PostBatchGetResponse.builder()
+                .posts(withLikedByMe(posts))
+                .missingIds(missingIds)
+                .build();
+    }
 
-        PostLike postLike = PostLike.builder()
-                .post(post)
-                .user(user)
+    private Map<Long, PostResponse> loadPosts(List<Long> postIds) {
+        return transactionTemplate.execute(status -> {
+            Map<Long, PostResponse> responses = new HashMap<>();
+            toResponses(postRepository.findRowsByIdIn(postIds))
+                    .forEach(response -> responses.put(response.getId(), response));
+            return responses;
+        });
+    }
+
+    private PostResponse withPendingViews(PostResponse response) {
+        return response.toBuilder()
+                .viewCount(viewCountService.withPending(response.getId(), response.getViewCount()))
                 .build();
-        postLikeRepository.save(postLike);
     }
 
-    @Override
-    public void removeLike(Long postId) {
-        UserPrincipal currentUser = SecurityUtil.getCurrentUser();
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+    private PostResponse loadPost(Long postId) {
+        return transactionTemplate.execute(status -> postRepository.findRowById(postId)
+                .map(row -> toResponses(List.of(row)).get(0))
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND)));
+    }
 
-        User user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostResponse> getPosts(Pageable pageable) {
+        return toResponsePage(postRepository.findAllRows(pageable));
+    }
 
-        PostLike postLike = postLikeRepository.findByPostAndUser(post, user)
-                .orElseThrow(() -> new BusinessException(ErrorCode.LIKE_NOT_FOUND));
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostLikeResponse addLike(Long postId) {
+        return postLikeService.like(postId, SecurityUtil.getCurrentUser().getId());
+    }
 
-        postLikeRepository.delete(postLike);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostLikeResponse removeLike(Long postId) {
+        return postLikeService.unlike(postId, SecurityUtil.getCurrentUser().getId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> searchPosts(String keyword, Pageable pageable) {
-        return postRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable)
-                .map(PostResponse::from);
+        return toSearchResultPage(postSearchService.search(keyword, null, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> searchPostsByCategory(Long categoryId, String keyword, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
-        return postRepository.findByCategoryAndTitleContainingOrCategoryAndContentContaining(
-                category, keyword, category, keyword, pageable)
-                .map(PostResponse::from);
+        CategoryInfo category = findCategory(categoryId);
+        return toSearchResultPage(postSearchService.search(keyword, category.getId(), pageable));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> suggestTitles(String query, int limit) {
+        return postSearchService.suggest(query, limit);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> getPostsByUsername(String username, Pageable pageable) {
-        User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        return postRepository.findByUser(user, pageable)
-                .map(PostResponse::from);
+        return toResponsePage(postRepository.findRowsByUserId(resolveUserId(username), pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> getRecentPosts(Pageable pageable) {
-        return postRepository.findByOrderByCreatedAtDesc(pageable)
-                .map(PostResponse::from);
+        return toResponsePage(postRepository.findRecentRows(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> getPopularPosts(Pageable pageable) {
-        return postRepository.findByOrderByViewCountDesc(pageable)
-                .map(PostResponse::from);
+        return toResponsePage(postRepository.findPopularRows(pageable))
+                .map(this::withPendingViews);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponse> getTrendingPosts(TrendingWindow window, int size) {
+        List<Long> postIds = trendingService.getTopPostIds(window, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+        return toViewerResponses(findRowsInOrder(postIds)).stream()
+                .map(this::withPendingViews)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> getRecentPostsByCategory(String categoryName, Pageable pageable) {
-        Category category = categoryRepository.findByName(categoryName)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
-        return postRepository.findByCategoryOrderByCreatedAtDesc(category, pageable)
-                .map(PostResponse::from);
+        CategoryInfo category = findCategory(categoryName);
+        return toResponsePage(postRepository.findRecentRowsByCategoryId(category.getId(), pageable));
     }
 
     @Override
     public PostFileResponse uploadPostFile(MultipartFile file, Long postId) {
         UserPrincipal currentUser = SecurityUtil.getCurrentUser();
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findActiveById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
         if (!post.getUser().getId().equals(currentUser.getId())) {
@@ -238,9 +336,208 @@ public class PostServiceImpl implements PostService {
                     .build();
             postFile.setPost(post);
             PostFile savedPostFile = postFileRepository.save(postFile);
+            postCacheService.evict(postId);
             return PostFileResponse.from(savedPostFile);
         } catch (IOException e) {
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPostsByCursor(String cursor, int size) {
+        return getLatestByCursor(cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getRecentPostsByCursor(String cursor, int size) {
+        return getLatestByCursor(cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPopularPostsByCursor(String cursor, int size) {
+        Pageable limit = cursorPage(size);
+        Slice<PostListRow> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = postRepository.findPopularSlice(limit);
+        } else {
+            PostCursor position = PostCursor.decodeViewCount(cursor);
+            slice = postRepository.findPopularSliceBefore(position.getViewCount(), position.getId(), limit);
+        }
+        // 커서는 DB 에 저장된 조회수 기준이어야 하므로 대기 중인 증가분을 더하기 전에 만듦
+        String nextCursor = nextCursor(slice, row -> PostCursor.encodeViewCount(row.getViewCount(), row.getId()));
+        return toCursorResponse(slice, limit.getPageSize(), nextCursor, this::withPendingViews);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getRecentPostsByCategoryByCursor(String categoryName, String cursor,
+            int size) {
+        CategoryInfo category = findCategory(categoryName);
+        Pageable limit = cursorPage(size);
+        Slice<PostListRow> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = postRepository.findLatestSliceByCategory(category.getId(), limit);
+        } else {
+            PostCursor position = PostCursor.decodeCreatedAt(cursor);
+            slice = postRepository.findLatestSliceByCategoryBefore(
+                    category.getId(), position.getCreatedAt(), position.getId(), limit);
+        }
+        String nextCursor = nextCursor(slice, row -> PostCursor.encodeCreatedAt(row.getCreatedAt(), row.getId()));
+        return toCursorResponse(slice, limit.getPageSize(), nextCursor, response -> response);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> getPostsByUsernameByCursor(String username, String cursor, int size) {
+        Long userId = resolveUserId(username);
+        Pageable limit = cursorPage(size);
+        Slice<PostListRow> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = postRepository.findLatestSliceByUser(userId, limit);
+        } else {
+            PostCursor position = PostCursor.decodeCreatedAt(cursor);
+            slice = postRepository.findLatestSliceByUserBefore(
+                    userId, position.getCreatedAt(), position.getId(), limit);
+        }
+        String nextCursor = nextCursor(slice, row -> PostCursor.encodeCreatedAt(row.getCreatedAt(), row.getId()));
+        return toCursorResponse(slice, limit.getPageSize(), nextCursor, response -> response);
+    }
+
+    /**
+     * 작성자 이메일을 2차 캐시의 이메일 -> ID 매핑으로 확인합니다. 사용자 엔티티는 적재하지 않습니다.
+     */
+    private Long resolveUserId(String email) {
+        return userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 카테고리 ID 를 CategoryRegistry 에서 확인하고 SELECT 없이 연관관계용 참조를 반환합니다.
+     */
+    private Category resolveCategory(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return categoryRepository.getReferenceById(findCategory(categoryId).getId());
+    }
+
+    private CategoryInfo findCategory(Long categoryId) {
+        return categoryRegistry.findById(categoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+
+    private CategoryInfo findCategory(String categoryName) {
+        return categoryRegistry.findByName(categoryName)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+
+    private CursorResponse<PostResponse> getLatestByCursor(String cursor, int size) {
+        Pageable limit = cursorPage(size);
+        Slice<PostListRow> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = postRepository.findLatestSlice(limit);
+        } else {
+            PostCursor position = PostCursor.decodeCreatedAt(cursor);
+            slice = postRepository.findLatestSliceBefore(position.getCreatedAt(), position.getId(), limit);
+        }
+        String nextCursor = nextCursor(slice, row -> PostCursor.encodeCreatedAt(row.getCreatedAt(), row.getId()));
+        return toCursorResponse(slice, limit.getPageSize(), nextCursor, response -> response);
+    }
+
+    private Pageable cursorPage(int size) {
+        // 항상 첫 페이지(offset 0)만 조회하고 위치는 커서 조건으로 지정
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private String nextCursor(Slice<PostListRow> slice, Function<PostListRow, String> cursorOf) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
+        }
+        return cursorOf.apply(slice.getContent().get(slice.getContent().size() - 1));
+    }
+
+    private CursorResponse<PostResponse> toCursorResponse(Slice<PostListRow> slice, int size, String nextCursor,
+            UnaryOperator<PostResponse> decorator) {
+        List<PostResponse> content = toViewerResponses(slice.getContent()).stream()
+                .map(decorator)
+                .toList();
+        return CursorResponse.<PostResponse>builder()
+                .content(content)
+                .size(size)
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private Page<PostResponse> toResponsePage(Page<PostListRow> page) {
+        return new PageImpl<>(toViewerResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    /**
+     * 검색 색인이 반환한 관련도 순서를 유지하며 게시글 행을 한 번의 IN 쿼리로 조회합니다.
+     */
+    private Page<PostResponse> toSearchResultPage(Page<Long> hits) {
+        return new PageImpl<>(toViewerResponses(findRowsInOrder(hits.getContent())), hits.getPageable(),
+                hits.getTotalElements());
+    }
+
+    /**
+     * ID 목록 순서대로 게시글 행을 조회합니다. 없는 게시글은 건너뜁니다.
+     */
+    private List<PostListRow> findRowsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostListRow> rowsById = new HashMap<>();
+        postRepository.findRowsByIdIn(postIds).forEach(row -> rowsById.put(row.getId(), row));
+        return postIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 목록 행을 현재 사용자 기준 응답(좋아요 여부 포함)으로 변환합니다.
+     */
+    private List<PostResponse> toViewerResponses(List<PostListRow> rows) {
+        return withLikedByMe(toResponses(rows));
+    }
+
+    /**
+     * 현재 사용자가 좋아요한 게시글에 likedByMe 를 표시합니다. 캐시된 응답은 사용자와 무관하므로 복사본에 표시합니다.
+     */
+    private List<PostResponse> withLikedByMe(List<PostResponse> responses) {
+        Long userId = SecurityUtil.findCurrentUserId().orElse(null);
+        if (userId == null || responses.isEmpty()) {
+            return responses;
+        }
+        Set<Long> liked = postLikerIndex.findLikedPostIds(userId, responses.stream().map(PostResponse::getId).toList());
+        if (liked.isEmpty()) {
+            return responses;
+        }
+        return responses.stream()
+                .map(response -> liked.contains(response.getId())
+                        ? response.toBuilder().likedByMe(true).build()
+                        : response)
+                .toList();
+    }
+
+    /**
+     * 목록 행을 응답으로 변환합니다. 첨부파일 URL 은 페이지 전체에 대해 한 번의 IN 쿼리로 조회합니다.
+     */
+    private List<PostResponse> toResponses(List<PostListRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> fileUrls = new HashMap<>();
+        for (PostFileUrlRow file : postFileRepository.findUrlsByPostIdIn(rows.stream().map(PostListRow::getId).toList())) {
+            fileUrls.computeIfAbsent(file.getPostId(), id -> new ArrayList<>()).add(file.getUrl());
+        }
+        return rows.stream()
+                .map(row -> PostResponse.from(row, fileUrls.get(row.getId())))
+                .toList();
+    }
+}
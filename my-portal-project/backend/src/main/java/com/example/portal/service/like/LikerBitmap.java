@@ -0,0 +1,262 @@
+package com.example.portal.service.like;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 한 게시글에 좋아요한 사용자 ID 집합을 담는 Roaring 방식의 압축 비트맵
+ *
+ * 사용자 ID 의 상위 16비트로 컨테이너를 나누고, 컨테이너마다 원소가 적으면 정렬된 char 배열,
+ * 많아지면(4096개 초과) 65536비트 비트셋을 사용합니다. 좋아요가 몇 개뿐인 게시글은 수십 바이트,
+ * 좋아요가 몰린 게시글도 사용자 6만 5천 명당 최대 8KB 만 사용합니다.
+ * 32비트 범위를 넘는 ID 는 별도 집합에 보관합니다. 스레드 안전하지 않으므로 호출하는 쪽에서 동기화합니다.
+ */
+class LikerBitmap {
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITSET_WORDS = 1 << 10;
+    private static final long MAX_BITMAP_ID = 0xFFFFFFFFL;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int containerCount;
+    private Set<Long> overflow;
+    private long cardinality;
+
+    boolean add(long userId) {
+        if (userId < 0 || userId > MAX_BITMAP_ID) {
+            if (overflow == null) {
+                overflow = new HashSet<>();
+            }
+            return countIf(overflow.add(userId), 1);
+        }
+        char key = high(userId);
+        int index = indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        if (!container.add(low(userId))) {
+            return false;
+        }
+        if (container instanceof ArrayContainer array && array.size > ARRAY_MAX_SIZE) {
+            containers[index] = array.toBitSet();
+        }
+        cardinality++;
+        return true;
+    }
+
+    boolean remove(long userId) {
+        if (userId < 0 || userId > MAX_BITMAP_ID) {
+            return overflow != null && countIf(overflow.remove(userId), -1);
+        }
+        int index = indexOf(high(userId));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        if (!container.remove(low(userId))) {
+            return false;
+        }
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else if (container instanceof BitSetContainer bitSet && bitSet.cardinality <= ARRAY_MAX_SIZE) {
+            containers[index] = bitSet.toArray();
+        }
+        cardinality--;
+        return true;
+    }
+
+    boolean contains(long userId) {
+        if (userId < 0 || userId > MAX_BITMAP_ID) {
+            return overflow != null && overflow.contains(userId);
+        }
+        int index = indexOf(high(userId));
+        return index >= 0 && containers[index].contains(low(userId));
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 대략적인 메모리 사용량(바이트)
+     */
+    long sizeInBytes() {
+        long size = 48L + keys.length * 2L + containers.length * 8L;
+        for (int i = 0; i < containerCount; i++) {
+            size += containers[i].sizeInBytes();
+        }
+        if (overflow != null) {
+            size += 48L + overflow.size() * 48L;
+        }
+        return size;
+    }
+
+    private boolean countIf(boolean changed, int delta) {
+        if (changed) {
+            cardinality += delta;
+        }
+        return changed;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (containerCount == keys.length) {
+            int capacity = Math.max(4, containerCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    private static char high(long userId) {
+        return (char) (userId >>> 16);
+    }
+
+    private static char low(long userId) {
+        return (char) userId;
+    }
+
+    private interface Container {
+        boolean add(char value);
+
+        boolean remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        long sizeInBytes();
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return false;
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_MAX_SIZE + 1));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            if (values.length > 16 && size < values.length / 4) {
+                // 취소가 몰린 뒤 남는 빈 공간 회수
+                values = Arrays.copyOf(values, values.length / 2);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 24L + values.length * 2L;
+        }
+
+        BitSetContainer toBitSet() {
+            BitSetContainer bitSet = new BitSetContainer();
+            for (int i = 0; i < size; i++) {
+                bitSet.add(values[i]);
+            }
+            return bitSet;
+        }
+    }
+
+    private static final class BitSetContainer implements Container {
+        private final long[] words = new long[BITSET_WORDS];
+        private int cardinality;
+
+        @Override
+        public boolean add(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            words[value >>> 6] = after;
+            return countIf(before != after, 1);
+        }
+
+        @Override
+        public boolean remove(char value) {
+            long before = words[value >>> 6];
+            long after = before & ~(1L << value);
+            words[value >>> 6] = after;
+            return countIf(before != after, -1);
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return 24L + BITSET_WORDS * 8L;
+        }
+
+        ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(4, cardinality)];
+            for (int word = 0; word < BITSET_WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    array.values[array.size++] = (char) (word * 64 + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+
+        private boolean countIf(boolean changed, int delta) {
+            if (changed) {
+                cardinality += delta;
+            }
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.portal.service.like;
+
+import com.example.portal.config.LikeIndexConfig;
+import com.example.portal.dto.post.PostLikerRow;
+import com.example.portal.event.PostChangedEvent;
+import com.example.portal.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 게시글별 좋아요 사용자 비트맵 색인 - 목록 화면의 "내가 좋아요한 글" 표시용
+ *
+ * 처음 조회되는 게시글은 post_likes 를 한 번의 IN 쿼리로 읽어 비트맵을 만들고,
+ * 이후에는 좋아요/취소 시 비트맵만 갱신하므로 쿼리 없이 답할 수 있습니다.
+ * 전체 비트맵 크기가 설정값을 넘으면 가장 오래 사용하지 않은 게시글부터 제거합니다.
+ * 비트맵을 읽는 동안 같은 게시글에 좋아요 변경이 커밋되면 읽은 비트맵은 오래된 값일 수 있으므로 보관하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLikerIndex {
+    private static final int STAMP_SLOTS = 1 << 12;
+
+    private final LikeIndexConfig config;
+    private final PostLikeRepository postLikeRepository;
+
+    private final LinkedHashMap<Long, LikerBitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Long> bitmapBytes = new HashMap<>();
+    private final AtomicLongArray mutationStamps = new AtomicLongArray(STAMP_SLOTS);
+    private long totalBytes;
+    private long hits;
+    private long loads;
+    private long discardedLoads;
+    private long evictions;
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요한 게시글 ID 를 반환합니다.
+     */
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> liked = new HashSet<>();
+        List<Long> missing = new ArrayList<>();
+        synchronized (this) {
+            for (Long postId : postIds) {
+                LikerBitmap bitmap = config.isEnabled() ? bitmaps.get(postId) : null;
+                if (bitmap == null) {
+                    missing.add(postId);
+                } else {
+                    hits++;
+                    if (bitmap.contains(userId)) {
+                        liked.add(postId);
+                    }
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            load(missing).forEach((postId, bitmap) -> {
+                if (bitmap.contains(userId)) {
+                    liked.add(postId);
+                }
+            });
+        }
+        return liked;
+    }
+
+    /**
+     * 좋아요가 커밋된 뒤 호출합니다.
+     */
+    public void liked(Long postId, Long userId) {
+        mutationStamps.incrementAndGet(slot(postId));
+        update(postId, bitmap -> bitmap.add(userId));
+    }
+
+    /**
+     * 좋아요 취소가 커밋된 뒤 호출합니다.
+     */
+    public void unliked(Long postId, Long userId) {
+        mutationStamps.incrementAndGet(slot(postId));
+        update(postId, bitmap -> bitmap.remove(userId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.ChangeType.DELETED) {
+            mutationStamps.incrementAndGet(slot(event.getPostId()));
+            synchronized (this) {
+                if (bitmaps.remove(event.getPostId()) != null) {
+                    totalBytes -= bitmapBytes.remove(event.getPostId());
+                }
+            }
+        }
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("posts", bitmaps.size());
+        stats.put("bytes", totalBytes);
+        stats.put("maxBytes", config.getMaxBytes());
+        stats.put("hits", hits);
+        stats.put("loads", loads);
+        stats.put("discardedLoads", discardedLoads);
+        stats.put("evictions", evictions);
+        return stats;
+    }
+
+    private Map<Long, LikerBitmap> load(List<Long> postIds) {
+        long[] stamps = new long[postIds.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            stamps[i] = mutationStamps.get(slot(postIds.get(i)));
+        }
+
+        Map<Long, LikerBitmap> loaded = new HashMap<>();
+        postIds.forEach(postId -> loaded.put(postId, new LikerBitmap()));
+        for (PostLikerRow row : postLikeRepository.findLikersByPostIdIn(postIds)) {
+            loaded.get(row.getPostId()).add(row.getUserId());
+        }
+        if (!config.isEnabled()) {
+            return loaded;
+        }
+
+        synchronized (this) {
+            loads += postIds.size();
+            for (int i = 0; i < stamps.length; i++) {
+                Long postId = postIds.get(i);
+                if (mutationStamps.get(slot(postId)) != stamps[i] || bitmaps.containsKey(postId)) {
+                    discardedLoads++;
+                    continue;
+                }
+                LikerBitmap bitmap = loaded.get(postId);
+                long bytes = bitmap.sizeInBytes();
+                bitmaps.put(postId, bitmap);
+                bitmapBytes.put(postId, bytes);
+                totalBytes += bytes;
+            }
+            evictOverflow();
+        }
+        return loaded;
+    }
+
+    private synchronized void update(Long postId, Consumer<LikerBitmap> change) {
+        LikerBitmap bitmap = bitmaps.get(postId);
+        if (bitmap == null) {
+            return;
+        }
+        change.accept(bitmap);
+        long bytes = bitmap.sizeInBytes();
+        totalBytes += bytes - bitmapBytes.put(postId, bytes);
+        evictOverflow();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, LikerBitmap>> eldest = bitmaps.entrySet().iterator();
+        while (totalBytes > config.getMaxBytes() && eldest.hasNext()) {
+            Long postId = eldest.next().getKey();
+            eldest.remove();
+            totalBytes -= bitmapBytes.remove(postId);
+            evictions++;
+        }
+    }
+
+    private static int slot(Long postId) {
+        return (int) ((postId * 0x9E3779B97F4A7C15L) >>> 52);
+    }
+}
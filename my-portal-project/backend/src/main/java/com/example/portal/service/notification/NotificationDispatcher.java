@@ -0,0 +1,246 @@
+package com.example.portal.service.notification;
+
+import com.example.portal.config.NotificationDispatchConfig;
+import com.example.portal.dto.notification.OwnerRow;
+import com.example.portal.entity.Notification;
+import com.example.portal.enums.NotificationType;
+import com.example.portal.event.CommentAddedEvent;
+import com.example.portal.event.PostLikedEvent;
+import com.example.portal.repository.CommentRepository;
+import com.example.portal.repository.NotificationRepository;
+import com.example.portal.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 활동 알림 발송
+ *
+ * 댓글/답글/좋아요 이벤트를 커밋 후에 크기가 제한된 대기열에 넣기만 하고, 작업 스레드가 모아서 알림을 기록합니다.
+ * 따라서 원래 트랜잭션(SQLite 에서는 쓰기 잠금)은 알림 수와 관계없이 길어지지 않습니다.
+ * 작업 스레드는 대기열에 쌓인 활동을 batchSize 개까지 한 번에 꺼내 수신자를 IN 조회로 찾고,
+ * 같은 수신자/게시글/종류의 활동은 알림 하나로 묶은 뒤 saveAll 로 기록합니다. 알림 ID 는 미리 할당되므로 JDBC 배치 INSERT 로 실행됩니다.
+ *
+ * 전달 보장
+ * - 커밋된 활동만 알립니다. 롤백된 트랜잭션의 이벤트는 대기열에 들어가지 않습니다.
+ * - 대기열이 가득 차면 offerTimeout 만큼 기다린 뒤 요청 스레드에서 직접 기록하므로, 실행 중에는 활동을 버리지 않고 생산자의 속도를 늦춥니다.
+ * - 대기열은 메모리에만 있어 최대 한 번(at-most-once) 전달됩니다. 정상 종료 시에는 남은 활동을 기록하지만,
+ *   프로세스가 비정상 종료되거나 기록이 실패하면 해당 묶음의 알림은 다시 시도하지 않습니다.
+ * - 기록 시점에 삭제된 게시글/댓글과 자기 자신의 활동은 알리지 않습니다. 묶음 안에서만 합치므로 순서와 묶이는 범위는 부하에 따라 달라집니다.
+ */
+@Slf4j
+@Service
+public class NotificationDispatcher {
+    private final NotificationDispatchConfig config;
+    private final NotificationRepository notificationRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Activity> queue;
+    private final Thread worker;
+    private volatile boolean running;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public NotificationDispatcher(NotificationDispatchConfig config, NotificationRepository notificationRepository,
+            PostRepository postRepository, CommentRepository commentRepository,
+            PlatformTransactionManager transactionManager) {
+        this.config = config;
+        this.notificationRepository = notificationRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        // 커밋 후 리스너에서 요청 스레드가 직접 기록할 때도 원래 트랜잭션과 분리
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity()));
+        this.worker = new Thread(this::drainLoop, "notification-dispatcher");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 새 활동을 받지 않고, shutdownTimeout 안에서 대기열에 남은 활동을 기록합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(config.getShutdownTimeout());
+        if (!queue.isEmpty()) {
+            log.warn("Notification dispatcher stopped with {} activities left", queue.size());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentAdded(CommentAddedEvent event) {
+        submit(new Activity(event.getParentId() == null ? NotificationType.COMMENT : NotificationType.REPLY,
+                event.getPostId(), event.getParentId(), event.getAuthorId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        submit(new Activity(NotificationType.LIKE, event.getPostId(), null, event.getUserId()));
+    }
+
+    void submit(Activity activity) {
+        submitted.incrementAndGet();
+        boolean queued;
+        try {
+            queued = running && queue.offer(activity, config.getOfferTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            callerRuns.incrementAndGet();
+            dispatch(List.of(activity));
+        }
+    }
+
+    private void drainLoop() {
+        List<Activity> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Activity first = queue.poll(config.getPollTimeout(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, Math.max(1, config.getBatchSize()) - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 활동 묶음의 수신자를 찾아 알림으로 합친 뒤 기록하고, 기록한 알림 수를 반환합니다.
+     * 실패하면 묶음 전체를 버리고 0 을 반환합니다.
+     */
+    int dispatch(List<Activity> activities) {
+        batches.incrementAndGet();
+        try {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Notification> notifications = coalesce(activities);
+                notificationRepository.saveAll(notifications);
+                return notifications.size();
+            });
+            written.addAndGet(count);
+            return count;
+        } catch (RuntimeException e) {
+            failed.addAndGet(activities.size());
+            log.error("Failed to write notifications for {} activities", activities.size(), e);
+            return 0;
+        }
+    }
+
+    private List<Notification> coalesce(List<Activity> activities) {
+        Map<Long, Long> postOwners = owners(activities.stream().map(Activity::getPostId).collect(Collectors.toSet()),
+                postRepository::findOwnerRowsByIdIn);
+        Map<Long, Long> commentOwners = owners(activities.stream().map(Activity::getParentId)
+                .filter(Objects::nonNull).collect(Collectors.toSet()), commentRepository::findOwnerRowsByIdIn);
+
+        Map<Key, Integer> counts = new LinkedHashMap<>();
+        for (Activity activity : activities) {
+            Long postOwner = postOwners.get(activity.getPostId());
+            if (postOwner == null) {
+                continue;
+            }
+            Long parentOwner = activity.getParentId() == null ? null : commentOwners.get(activity.getParentId());
+            if (activity.getType() == NotificationType.REPLY && parentOwner != null
+                    && !parentOwner.equals(activity.getActorId())) {
+                counts.merge(new Key(parentOwner, NotificationType.REPLY, activity.getPostId()), 1, Integer::sum);
+            }
+            // 게시글 작성자가 답글 대상이면 답글 알림만 보냄
+            NotificationType postOwnerType = activity.getType() == NotificationType.LIKE
+                    ? NotificationType.LIKE : NotificationType.COMMENT;
+            if (!postOwner.equals(activity.getActorId()) && !postOwner.equals(parentOwner)) {
+                counts.merge(new Key(postOwner, postOwnerType, activity.getPostId()), 1, Integer::sum);
+            }
+        }
+
+        List<Notification> notifications = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> notifications.add(Notification.builder()
+                .userId(key.getRecipientId())
+                .title(key.getType().getTitle())
+                .content(key.getType().content(count))
+                .type(key.getType().name())
+                .read(false)
+                .link("/posts/" + key.getPostId())
+                .build()));
+        return notifications;
+    }
+
+    private Map<Long, Long> owners(Set<Long> ids, Function<Collection<Long>, List<OwnerRow>> finder) {
+        Map<Long, Long> owners = new HashMap<>();
+        if (!ids.isEmpty()) {
+            finder.apply(ids).forEach(row -> owners.put(row.getId(), row.getOwnerId()));
+        }
+        return owners;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("queueSize", queue.size());
+        stats.put("queueCapacity", config.getQueueCapacity());
+        stats.put("submitted", submitted.get());
+        stats.put("callerRuns", callerRuns.get());
+        stats.put("batches", batches.get());
+        stats.put("written", written.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static final class Activity {
+        private final NotificationType type;
+        private final Long postId;
+        private final Long parentId;
+        private final Long actorId;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final Long recipientId;
+        private final NotificationType type;
+        private final Long postId;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.portal.service.schema;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 조회 성능을 위해 반드시 존재해야 하는 인덱스
+ *
+ * 인덱스 이름이 아니라 선행 컬럼 순서로 판단하므로, 유니크 제약조건이 만든 인덱스나
+ * 더 많은 컬럼을 가진 복합 인덱스도 요구사항을 충족합니다.
+ */
+@Getter
+public final class ExpectedIndex {
+
+    /** 목록/커서/작성자별 목록/댓글/댓글 트리/알림/좋아요/토큰 조회가 사용하는 인덱스 */
+    public static final List<ExpectedIndex> HOT_QUERY_INDEXES = List.of(
+            new ExpectedIndex("posts", "created_at"),
+            new ExpectedIndex("posts", "category_id", "created_at"),
+            new ExpectedIndex("posts", "view_count"),
+            new ExpectedIndex("posts", "user_id", "created_at"),
+            new ExpectedIndex("comments", "post_id", "created_at", "id"),
+            new ExpectedIndex("comments", "post_id", "path"),
+            new ExpectedIndex("notifications", "user_id", "read", "created_at"),
+            new ExpectedIndex("post_likes", "post_id", "user_id"),
+            new ExpectedIndex("refresh_tokens", "token"));
+
+    private final String table;
+    private final List<String> columns;
+
+    public ExpectedIndex(String table, String... columns) {
+        this.table = table;
+        this.columns = List.of(columns);
+    }
+
+    boolean isCoveredBy(List<String> indexColumns) {
+        if (indexColumns.size() < columns.size()) {
+            return false;
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (!columns.get(i).equalsIgnoreCase(indexColumns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return table + "(" + String.join(", ", columns) + ")";
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.portal.service.schema;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC 메타데이터로 테이블의 인덱스 컬럼 구성을 읽어 필수 인덱스 존재 여부를 확인합니다.
+ */
+public final class IndexVerifier {
+
+    private IndexVerifier() {
+    }
+
+    /**
+     * expected 중 어떤 인덱스로도 충족되지 않는 항목을 반환합니다.
+     */
+    public static List<ExpectedIndex> findMissing(Connection connection, Collection<ExpectedIndex> expected)
+            throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        List<ExpectedIndex> missing = new ArrayList<>();
+        for (ExpectedIndex index : expected) {
+            boolean covered = readIndexColumns(connection, metaData, index.getTable()).values().stream()
+                    .anyMatch(index::isCoveredBy);
+            if (!covered) {
+                missing.add(index);
+            }
+        }
+        return missing;
+    }
+
+    private static Map<String, List<String>> readIndexColumns(Connection connection, DatabaseMetaData metaData,
+            String table) throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+        // 인덱스 이름별로 (컬럼 순번 -> 컬럼명) 을 모아 순서대로 정렬
+        Map<String, TreeMap<Integer, String>> byIndex = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName,
+                false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue; // 테이블 통계 행
+                }
+                byIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put((int) rs.getShort("ORDINAL_POSITION"), columnName);
+            }
+        }
+        Map<String, List<String>> result = new TreeMap<>();
+        byIndex.forEach((name, columns) -> result.put(name, new ArrayList<>(columns.values())));
+        return result;
+    }
+}
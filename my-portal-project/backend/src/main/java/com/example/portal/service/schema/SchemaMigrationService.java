@@ -0,0 +1,178 @@
+package com.example.portal.service.schema;
+
+import com.example.portal.config.SchemaMigrationConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 버전 기반 스키마 마이그레이션
+ *
+ * 테이블/컬럼은 Hibernate(ddl-auto)가 만들고, 그 위에 필요한 인덱스 등은
+ * db/migration/{vendor}/V{버전}__{설명}.sql 스크립트로 관리합니다.
+ * 적용한 버전과 체크섬은 schema_migrations 테이블에 기록하며, 이미 적용된 스크립트가
+ * 변경되었거나 필수 인덱스가 없으면 예외를 던져 애플리케이션 시작을 중단합니다.
+ */
+@Slf4j
+@Service
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SchemaMigrationService {
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+(?:_\\d+)*)__(\\w+)\\.sql");
+    private static final String INSERT_SQL = "INSERT INTO schema_migrations "
+            + "(version, description, checksum, installed_at, execution_time_ms) VALUES (?, ?, ?, ?, ?)";
+
+    private final SchemaMigrationConfig config;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile String vendor;
+    private final List<String> appliedOnStartup = new ArrayList<>();
+
+    @PostConstruct
+    public void migrate() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        vendor = detectVendor();
+        if (vendor == null) {
+            log.warn("Schema migrations skipped: unsupported database");
+            return;
+        }
+
+        Map<String, Long> applied = new HashMap<>();
+        RowCallbackHandler collectApplied = rs -> applied.put(rs.getString(1), rs.getLong(2));
+        jdbcTemplate.query("SELECT version, checksum FROM schema_migrations", collectApplied);
+
+        for (Migration migration : findMigrations()) {
+            Long checksum = applied.get(migration.version);
+            if (checksum == null) {
+                apply(migration);
+            } else if (checksum != migration.checksum) {
+                throw new IllegalStateException("Applied migration V" + migration.version + " ("
+                        + migration.resource.getFilename() + ") has been modified");
+            }
+        }
+
+        if (config.isVerifyIndexes()) {
+            verifyIndexes();
+        }
+    }
+
+    private void apply(Migration migration) {
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            new ResourceDatabasePopulator(migration.resource).execute(dataSource);
+            jdbcTemplate.update(INSERT_SQL, migration.version, migration.description, migration.checksum,
+                    LocalDateTime.now(), System.currentTimeMillis() - start);
+        });
+        appliedOnStartup.add(migration.version);
+        log.info("Applied schema migration V{} ({}) in {}ms", migration.version, migration.description,
+                System.currentTimeMillis() - start);
+    }
+
+    private void verifyIndexes() {
+        List<ExpectedIndex> missing = jdbcTemplate.execute((Connection connection) ->
+                IndexVerifier.findMissing(connection, ExpectedIndex.HOT_QUERY_INDEXES));
+        if (missing == null || !missing.isEmpty()) {
+            throw new IllegalStateException("Missing required indexes: " + missing);
+        }
+        log.info("Verified {} required indexes", ExpectedIndex.HOT_QUERY_INDEXES.size());
+    }
+
+    private String detectVendor() {
+        String product = jdbcTemplate.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName());
+        if (product == null) {
+            return null;
+        }
+        String name = product.toLowerCase(Locale.ROOT);
+        if (name.contains("sqlite")) {
+            return "sqlite";
+        }
+        if (name.contains("oracle")) {
+            return "oracle";
+        }
+        return null;
+    }
+
+    private List<Migration> findMigrations() {
+        String pattern = config.getLocation().replace("{vendor}", vendor) + "V*__*.sql";
+        try {
+            List<Migration> migrations = new ArrayList<>();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(pattern)) {
+                migrations.add(Migration.of(resource));
+            }
+            migrations.sort(Comparator.comparing(m -> m.versionParts, Arrays::compare));
+            return migrations;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read migrations from " + pattern, e);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("vendor", vendor);
+        stats.put("appliedVersions", vendor == null ? List.of()
+                : jdbcTemplate.queryForList("SELECT version FROM schema_migrations ORDER BY installed_at", String.class));
+        stats.put("appliedOnStartup", List.copyOf(appliedOnStartup));
+        stats.put("requiredIndexes", ExpectedIndex.HOT_QUERY_INDEXES.stream().map(Object::toString).toList());
+        return stats;
+    }
+
+    private static final class Migration {
+        private final Resource resource;
+        private final String version;
+        private final int[] versionParts;
+        private final String description;
+        private final long checksum;
+
+        private Migration(Resource resource, String version, String description, long checksum) {
+            this.resource = resource;
+            this.version = version;
+            this.versionParts = Arrays.stream(version.split("\\.")).mapToInt(Integer::parseInt).toArray();
+            this.description = description;
+            this.checksum = checksum;
+        }
+
+        static Migration of(Resource resource) throws IOException {
+            Matcher matcher = FILE_NAME.matcher(String.valueOf(resource.getFilename()));
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid migration file name: " + resource.getFilename());
+            }
+            CRC32 crc = new CRC32();
+            try (InputStream in = resource.getInputStream()) {
+                crc.update(StreamUtils.copyToByteArray(in));
+            }
+            return new Migration(resource, matcher.group(1).replace('_', '.'),
+                    matcher.group(2).replace('_', ' '), crc.getValue());
+        }
+    }
+}
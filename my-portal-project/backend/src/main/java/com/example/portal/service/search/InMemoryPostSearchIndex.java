@@ -0,0 +1,285 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import com.example.portal.service.search.PostTokenizer.QueryTerm;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 역색인 기반 게시글 검색
+ *
+ * 토큰별 게시글 목록(posting)을 정렬된 사전(TreeMap)에 유지하고, 모든 질의 토큰을 포함하는 게시글을
+ * BM25 점수 순으로 반환합니다. 제목 토큰은 빈도에 가중치를 더 줍니다.
+ * 접두어 질의 토큰은 사전에서 해당 접두어로 시작하는 토큰들로 확장합니다.
+ * 교집합은 가장 짧은 posting 부터 시작하고, 정렬은 요청한 페이지까지만 힙으로 유지합니다.
+ * 전용 검색 엔진이 없는 DB(H2, Oracle 등)에서 사용하는 기본 구현입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPostSearchIndex implements PostSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostTokenizer tokenizer;
+    private final SearchConfig config;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+
+    public InMemoryPostSearchIndex(PostTokenizer tokenizer, SearchConfig config) {
+        this.tokenizer = tokenizer;
+        this.config = config;
+    }
+
+    @Override
+    public boolean initialize() {
+        // 메모리 색인은 항상 시작 시 DB 에서 다시 만든다
+        return true;
+    }
+
+    @Override
+    public void index(PostSearchDocument document) {
+        Map<String, Integer> frequencies = analyze(document);
+        lock.writeLock().lock();
+        try {
+            state.remove(document.getId());
+            state.add(document, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public PostSearchHits search(String keyword, Long categoryId, int offset, int limit) {
+        List<QueryTerm> queryTerms = tokenizer.queryTerms(keyword);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return PostSearchHits.empty();
+        }
+
+        int wanted = offset + limit;
+        PriorityQueue<ScoredPost> top = new PriorityQueue<>(Comparator.comparingDouble((ScoredPost p) -> p.score)
+                .thenComparing(p -> p.postId));
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            List<List<Map<Long, Integer>>> groups = new ArrayList<>(queryTerms.size());
+            for (QueryTerm queryTerm : queryTerms) {
+                List<Map<Long, Integer>> group = state.postingsFor(queryTerm, config.getMaxPrefixExpansions());
+                if (group.isEmpty()) {
+                    return PostSearchHits.empty();
+                }
+                groups.add(group);
+            }
+            groups.sort(Comparator.comparingLong(InMemoryPostSearchIndex::postingSize));
+
+            int documentCount = state.documents.size();
+            double averageLength = documentCount == 0 ? 1 : (double) state.totalLength / documentCount;
+            List<Map<Long, Integer>> firstGroup = groups.get(0);
+            Set<Long> seen = firstGroup.size() > 1 ? new HashSet<>() : null;
+            for (Map<Long, Integer> candidates : firstGroup) {
+                for (Long postId : candidates.keySet()) {
+                    if (seen != null && !seen.add(postId)) {
+                        continue;
+                    }
+                    IndexedPost post = state.documents.get(postId);
+                    if (categoryId != null && !categoryId.equals(post.categoryId)) {
+                        continue;
+                    }
+                    double score = score(groups, postId, post.length, documentCount, averageLength);
+                    if (Double.isNaN(score)) {
+                        continue;
+                    }
+                    total++;
+                    top.add(new ScoredPost(postId, score));
+                    if (top.size() > wanted) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ScoredPost> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingDouble((ScoredPost p) -> p.score).reversed()
+                .thenComparing(p -> p.postId, Comparator.reverseOrder()));
+        List<Long> ids = ranked.subList(Math.min(offset, ranked.size()), ranked.size()).stream()
+                .map(p -> p.postId)
+                .toList();
+        return new PostSearchHits(ids, total);
+    }
+
+    @Override
+    public int rebuild(Consumer<Consumer<PostSearchDocument>> documents) {
+        // 새 색인은 잠금 없이 만들고 교체할 때만 쓰기 잠금을 잡는다
+        IndexState rebuilt = new IndexState();
+        documents.accept(document -> {
+            rebuilt.remove(document.getId());
+            rebuilt.add(document, analyze(document));
+        });
+        lock.writeLock().lock();
+        try {
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return rebuilt.documents.size();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("engine", "memory");
+            stats.put("tokenizer", config.getTokenizer());
+            stats.put("documents", state.documents.size());
+            stats.put("terms", state.postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        return stats;
+    }
+
+    /**
+     * 토큰별 빈도. 제목 토큰은 TITLE_WEIGHT 만큼 더한다.
+     */
+    private Map<String, Integer> analyze(PostSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenizer.indexTerms(document.getTitle()).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenizer.indexTerms(document.getContent()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    /**
+     * 모든 질의 토큰 그룹의 BM25 점수 합. 한 그룹이라도 일치하지 않으면 NaN.
+     * 접두어로 확장된 그룹은 그중 가장 높은 점수를 사용합니다.
+     */
+    private static double score(List<List<Map<Long, Integer>>> groups, Long postId, int length,
+            int documentCount, double averageLength) {
+        double score = 0;
+        for (List<Map<Long, Integer>> group : groups) {
+            double best = Double.NaN;
+            for (Map<Long, Integer> postingList : group) {
+                Integer frequency = postingList.get(postId);
+                if (frequency == null) {
+                    continue;
+                }
+                int documentFrequency = postingList.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                double termScore = idf * frequency * (K1 + 1)
+                        / (frequency + K1 * (1 - B + B * length / averageLength));
+                if (Double.isNaN(best) || termScore > best) {
+                    best = termScore;
+                }
+            }
+            if (Double.isNaN(best)) {
+                return Double.NaN;
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private static long postingSize(List<Map<Long, Integer>> group) {
+        long size = 0;
+        for (Map<Long, Integer> postingList : group) {
+            size += postingList.size();
+        }
+        return size;
+    }
+
+    private static final class IndexState {
+        private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        private final Map<Long, IndexedPost> documents = new HashMap<>();
+        private long totalLength;
+
+        void add(PostSearchDocument document, Map<String, Integer> frequencies) {
+            int length = Math.max(1, frequencies.values().stream().mapToInt(Integer::intValue).sum());
+            documents.put(document.getId(),
+                    new IndexedPost(document.getCategoryId(), frequencies.keySet().toArray(String[]::new), length));
+            totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.getId(), frequency));
+        }
+
+        void remove(Long postId) {
+            IndexedPost removed = documents.remove(postId);
+            if (removed == null) {
+                return;
+            }
+            totalLength -= removed.length;
+            for (String term : removed.terms) {
+                Map<Long, Integer> postingList = postings.get(term);
+                if (postingList != null) {
+                    postingList.remove(postId);
+                    if (postingList.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        List<Map<Long, Integer>> postingsFor(QueryTerm queryTerm, int maxExpansions) {
+            String term = queryTerm.getTerm();
+            if (!queryTerm.isPrefix()) {
+                Map<Long, Integer> postingList = postings.get(term);
+                return postingList == null ? List.of() : List.of(postingList);
+            }
+            List<Map<Long, Integer>> expanded = new ArrayList<>();
+            for (Map<Long, Integer> postingList : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                expanded.add(postingList);
+                if (expanded.size() >= maxExpansions) {
+                    break;
+                }
+            }
+            return expanded;
+        }
+    }
+
+    private static final class IndexedPost {
+        private final Long categoryId;
+        private final String[] terms;
+        private final int length;
+
+        IndexedPost(Long categoryId, String[] terms, int length) {
+            this.categoryId = categoryId;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    private static final class ScoredPost {
+        private final Long postId;
+        private final double score;
+
+        ScoredPost(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.portal.service.search;
+
+import com.example.portal.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인에 저장되는 게시글 문서
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchDocument {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final Long categoryId;
+
+    public static PostSearchDocument from(Post post) {
+        return new PostSearchDocument(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getCategory() != null ? post.getCategory().getId() : null);
+    }
+}
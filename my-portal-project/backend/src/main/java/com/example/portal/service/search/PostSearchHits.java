@@ -0,0 +1,20 @@
+package com.example.portal.service.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 결과 - 관련도 순으로 정렬된 한 페이지 분량의 게시글 ID 와 전체 일치 건수
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchHits {
+    private final List<Long> ids;
+    private final long total;
+
+    public static PostSearchHits empty() {
+        return new PostSearchHits(List.of(), 0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.portal.service.search;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 전문 검색 색인
+ *
+ * 구현체는 app.search.engine 설정으로 선택합니다.
+ * 색인 갱신은 PostSearchService 가 트랜잭션 커밋 후에 호출합니다.
+ */
+public interface PostSearchIndex {
+
+    /**
+     * 색인 저장소를 준비하고, 전체 재색인이 필요하면 true 를 반환합니다.
+     */
+    boolean initialize();
+
+    /**
+     * 문서를 추가하거나 이미 있으면 교체합니다.
+     */
+    void index(PostSearchDocument document);
+
+    void remove(Long postId);
+
+    /**
+     * 관련도 순으로 검색합니다. categoryId 가 null 이면 전체 카테고리를 검색합니다.
+     */
+    PostSearchHits search(String keyword, Long categoryId, int offset, int limit);
+
+    /**
+     * 새 색인을 별도로 만든 뒤 교체합니다. 재색인 중에도 기존 색인으로 검색할 수 있습니다.
+     *
+     * @param documents 전체 문서를 전달받은 Consumer 로 차례로 넘겨주는 원본
+     * @return 색인한 문서 수
+     */
+    int rebuild(Consumer<Consumer<PostSearchDocument>> documents);
+
+    Map<String, Object> getStatistics();
+}
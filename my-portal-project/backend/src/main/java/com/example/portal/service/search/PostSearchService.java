@@ -0,0 +1,212 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import com.example.portal.entity.Post;
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+import com.example.portal.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 검색 색인 관리
+ *
+ * 게시글 생성/수정/삭제 시 트랜잭션 커밋 후 색인을 갱신하고, 검색 요청을 색인 구현체로 위임합니다.
+ * 온라인 재색인 중 변경된 게시글은 기록해 두었다가 새 색인으로 교체된 뒤 DB 에서 다시 읽어 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+    private static final String DOCUMENT_SQL = "SELECT id, title, content, category_id, is_deleted FROM posts";
+
+    private static final RowMapper<PostSearchDocument> DOCUMENT_MAPPER = (rs, rowNum) -> {
+        long categoryId = rs.getLong("category_id");
+        boolean uncategorized = rs.wasNull();
+        return new PostSearchDocument(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("content"),
+                uncategorized ? null : categoryId);
+    };
+
+    private final PostSearchIndex searchIndex;
+    private final TitleSuggester titleSuggester;
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchConfig config;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final AtomicLong rebuildCount = new AtomicLong();
+    private volatile long lastRebuildMillis;
+
+    /**
+     * 색인을 준비하고 제목 제안용 트라이를 채웁니다.
+     * 영속 색인(sqlite-fts)은 재시작 시 다시 만들지 않지만, 트라이는 메모리에만 있으므로 재색인 여부와 관계없이 항상 DB 에서 읽습니다.
+     * 색인 저장소(posts_fts 테이블 등)를 만들지 못하면 모든 검색이 실패하므로 예외를 던져 애플리케이션 시작을 중단합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        boolean needsRebuild;
+        try {
+            needsRebuild = searchIndex.initialize();
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("게시글 검색 색인을 준비할 수 없습니다.", e);
+        }
+        if (needsRebuild && config.isRebuildOnStartup()) {
+            try {
+                int indexed = rebuild();
+                log.info("Built post search index with {} documents", indexed);
+                return;
+            } catch (DataAccessException e) {
+                // 색인 저장소는 준비되었으므로 애플리케이션은 시작하고, 이후 재색인 API 로 복구한다
+                log.error("Failed to build post search index", e);
+            }
+        }
+        loadTitles();
+    }
+
+    public void indexPost(Post post) {
+        PostSearchDocument document = PostSearchDocument.from(post);
+        TransactionUtils.afterCommit(() -> {
+            markChanged(document.getId());
+            try {
+                searchIndex.index(document);
+            } catch (RuntimeException e) {
+                // 게시글은 이미 커밋되었으므로 요청을 실패시키지 않고, 재색인으로 복구한다
+                log.error("Failed to index post {}", document.getId(), e);
+            }
+            titleSuggester.add(document.getId(), document.getTitle());
+        });
+    }
+
+    public void removePost(Long postId) {
+        TransactionUtils.afterCommit(() -> {
+            markChanged(postId);
+            try {
+                searchIndex.remove(postId);
+            } catch (RuntimeException e) {
+                log.error("Failed to remove post {} from search index", postId, e);
+            }
+            titleSuggester.remove(postId);
+        });
+    }
+
+    /**
+     * 관련도 순으로 정렬된 게시글 ID 페이지를 반환합니다.
+     */
+    public Page<Long> search(String keyword, Long categoryId, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            return Page.empty(pageable);
+        }
+        PostSearchHits hits = searchIndex.search(keyword, categoryId, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(hits.getIds(), pageable, hits.getTotal());
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는(오타 허용) 게시글 제목을 제안합니다.
+     */
+    public List<String> suggest(String query, int limit) {
+        return titleSuggester.suggest(query, Math.min(Math.max(limit, 1), config.getSuggestLimit()));
+    }
+
+    /**
+     * 전체 게시글로 색인을 다시 만들고 색인한 문서 수를 반환합니다.
+     */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 검색 색인을 재생성하고 있습니다.");
+        }
+        long started = System.currentTimeMillis();
+        try {
+            changedDuringRebuild.clear();
+            TitleSuggester.TitleTrie titles = new TitleSuggester.TitleTrie();
+            int indexed = searchIndex.rebuild(consumer -> forEachDocument(document -> {
+                titles.add(document.getId(), document.getTitle());
+                consumer.accept(document);
+            }));
+            titleSuggester.replace(titles);
+            replayChangedDocuments();
+            rebuildCount.incrementAndGet();
+            lastRebuildMillis = System.currentTimeMillis() - started;
+            return indexed;
+        } finally {
+            rebuilding.set(false);
+            changedDuringRebuild.clear();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>(searchIndex.getStatistics());
+        stats.put("suggestTitles", titleSuggester.size());
+        stats.put("rebuilding", rebuilding.get());
+        stats.put("rebuildCount", rebuildCount.get());
+        stats.put("lastRebuildMillis", lastRebuildMillis);
+        return stats;
+    }
+
+    private void loadTitles() {
+        try {
+            TitleSuggester.TitleTrie titles = new TitleSuggester.TitleTrie();
+            forEachDocument(document -> titles.add(document.getId(), document.getTitle()));
+            titleSuggester.replace(titles);
+            log.info("Loaded {} post titles for suggestions", titleSuggester.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to load post titles for suggestions", e);
+        }
+    }
+
+    private void forEachDocument(Consumer<PostSearchDocument> consumer) {
+        jdbcTemplate.query(DOCUMENT_SQL, rs -> {
+            if (!rs.getBoolean("is_deleted")) {
+                consumer.accept(DOCUMENT_MAPPER.mapRow(rs, 0));
+            }
+        });
+    }
+
+    private void markChanged(Long postId) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(postId);
+        }
+    }
+
+    /**
+     * 재색인 도중 커밋된 변경은 새 색인에 빠졌을 수 있으므로 DB 의 현재 상태로 다시 반영
+     */
+    private void replayChangedDocuments() {
+        while (!changedDuringRebuild.isEmpty()) {
+            List<Long> postIds = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(postIds);
+            for (Long postId : postIds) {
+                List<PostSearchDocument> documents = jdbcTemplate.query(
+                        DOCUMENT_SQL + " WHERE id = ? AND is_deleted = ?", DOCUMENT_MAPPER, postId, false);
+                if (documents.isEmpty()) {
+                    searchIndex.remove(postId);
+                    titleSuggester.remove(postId);
+                } else {
+                    searchIndex.index(documents.get(0));
+                    titleSuggester.add(postId, documents.get(0).getTitle());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색용 토크나이저
+ *
+ * word 모드는 문자/숫자 연속 구간을 소문자 단어로 나눕니다.
+ * ngram 모드는 한글 구간을 2-gram/3-gram 으로 나누어 띄어쓰기 없이 붙여 쓴 복합어도 부분 문자열로 찾을 수 있게 하고,
+ * 그 밖의 구간(영문, 숫자 등)은 단어 단위로 색인합니다.
+ */
+@Component
+public class PostTokenizer {
+    public static final String MODE_WORD = "word";
+    public static final String MODE_NGRAM = "ngram";
+
+    private static final int BIGRAM = 2;
+    private static final int TRIGRAM = 3;
+
+    private final boolean ngram;
+
+    public PostTokenizer(SearchConfig config) {
+        this.ngram = MODE_NGRAM.equalsIgnoreCase(config.getTokenizer());
+    }
+
+    /**
+     * 색인할 토큰 목록 (중복 포함, 빈도 계산에 사용)
+     */
+    public List<String> indexTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            if (!ngram || !isHangul(word.charAt(0)) || word.length() <= BIGRAM) {
+                terms.add(word);
+                continue;
+            }
+            for (int n = BIGRAM; n <= TRIGRAM; n++) {
+                for (int i = 0; i + n <= word.length(); i++) {
+                    terms.add(word.substring(i, i + n));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어를 질의 토큰으로 변환합니다.
+     * 마지막 단어와 한 글자 한글 단어는 접두어로 검색해 입력 중인 검색어도 찾을 수 있게 합니다.
+     */
+    public List<QueryTerm> queryTerms(String text) {
+        List<String> words = words(text);
+        List<QueryTerm> terms = new ArrayList<>();
+        for (int w = 0; w < words.size(); w++) {
+            String word = words.get(w);
+            boolean last = w == words.size() - 1;
+            if (!ngram || !isHangul(word.charAt(0))) {
+                terms.add(new QueryTerm(word, last));
+            } else if (word.length() == 1) {
+                terms.add(new QueryTerm(word, true));
+            } else if (word.length() == BIGRAM) {
+                terms.add(new QueryTerm(word, last));
+            } else {
+                // 3-gram 만으로 단어 전체를 덮을 수 있으므로 2-gram 은 질의에 쓰지 않음
+                for (int i = 0; i + TRIGRAM <= word.length(); i++) {
+                    terms.add(new QueryTerm(word.substring(i, i + TRIGRAM), false));
+                }
+            }
+        }
+        return terms.stream().distinct().toList();
+    }
+
+    /**
+     * 문자/숫자 연속 구간을 소문자로 나누고, 한글과 그 밖의 문자가 붙어 있으면 경계에서 나눕니다.
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            int start = 0;
+            for (int i = 1; i <= token.length(); i++) {
+                if (i == token.length() || isHangul(token.charAt(i)) != isHangul(token.charAt(start))) {
+                    if (i > start) {
+                        words.add(token.substring(start, i));
+                    }
+                    start = i;
+                }
+            }
+        }
+        return words;
+    }
+
+    static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static final class QueryTerm {
+        private final String term;
+        private final boolean prefix;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * SQLite FTS5 기반 게시글 검색
+ *
+ * posts_fts 가상 테이블(rowid = 게시글 ID)에 제목/본문을 trigram 토크나이저로 색인합니다.
+ * trigram 은 공백이 없는 한국어 복합어도 부분 문자열로 찾을 수 있고, bm25() 로 관련도 순 정렬이 가능합니다.
+ * 3글자 미만 검색어는 trigram 으로 찾을 수 없어 LIKE 조건으로 거르고, 3글자 이상 검색어가 함께 있으면 그 bm25 순으로,
+ * 짧은 검색어만 있으면 제목에 포함된 검색어 수 순으로 정렬합니다.
+ * 재색인은 posts_fts_rebuild 테이블을 새로 채운 뒤 이름을 바꿔 교체합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "sqlite-fts")
+public class SqliteFtsPostSearchIndex implements PostSearchIndex {
+    static final String TABLE = "posts_fts";
+    private static final String REBUILD_TABLE = "posts_fts_rebuild";
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+    // 컬럼별 bm25 가중치 (title, content, category_id)
+    private static final String RANK = "bm25(" + TABLE + ", 10.0, 1.0, 0.0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchConfig config;
+    // 게시글 변경 후(afterCommit) 호출될 때 원래 트랜잭션의 커넥션이 아직 묶여 있으므로 새 트랜잭션에서 기록
+    private final TransactionTemplate writeTemplate;
+
+    public SqliteFtsPostSearchIndex(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            SearchConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+        this.writeTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean initialize() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = ?", Integer.class, TABLE);
+        if (existing != null && existing > 0) {
+            return false;
+        }
+        jdbcTemplate.execute(createTableSql(TABLE));
+        return true;
+    }
+
+    @Override
+    public void index(PostSearchDocument document) {
+        writeTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE rowid = ?", document.getId());
+            jdbcTemplate.update(insertSql(TABLE), insertArgs(document));
+        });
+    }
+
+    @Override
+    public void remove(Long postId) {
+        writeTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE rowid = ?", postId));
+    }
+
+    @Override
+    public PostSearchHits search(String keyword, Long categoryId, int offset, int limit) {
+        List<String> terms = PostTokenizer.words(keyword).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return PostSearchHits.empty();
+        }
+
+        List<String> trigramTerms = terms.stream().filter(term -> term.length() >= MIN_TRIGRAM_LENGTH).toList();
+        List<String> shortTerms = terms.stream().filter(term -> term.length() < MIN_TRIGRAM_LENGTH).toList();
+
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (!trigramTerms.isEmpty()) {
+            where.append(TABLE).append(" MATCH ?");
+            args.add(toMatchQuery(trigramTerms));
+        }
+        for (String term : shortTerms) {
+            if (!args.isEmpty()) {
+                where.append(" AND ");
+            }
+            where.append("(title LIKE ? ESCAPE '\\' OR content LIKE ? ESCAPE '\\')");
+            String pattern = likePattern(term);
+            args.add(pattern);
+            args.add(pattern);
+        }
+        if (categoryId != null) {
+            where.append(" AND category_id = ?");
+            args.add(categoryId);
+        }
+
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " WHERE " + where, Long.class, args.toArray());
+        if (total == null || total == 0 || offset >= total) {
+            return new PostSearchHits(List.of(), total == null ? 0 : total);
+        }
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        String orderBy;
+        if (!trigramTerms.isEmpty()) {
+            orderBy = RANK;
+        } else {
+            // bm25 를 쓸 수 없으므로 제목에 포함된 검색어가 많은 게시글을 먼저, 같으면 최신 글을 먼저
+            List<String> titleMatches = new ArrayList<>(shortTerms.size());
+            for (String term : shortTerms) {
+                titleMatches.add("(title LIKE ? ESCAPE '\\')");
+                pageArgs.add(likePattern(term));
+            }
+            orderBy = "(" + String.join(" + ", titleMatches) + ") DESC, rowid DESC";
+        }
+        pageArgs.add(limit);
+        pageArgs.add(offset);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT rowid FROM " + TABLE + " WHERE " + where + " ORDER BY " + orderBy + " LIMIT ? OFFSET ?",
+                Long.class, pageArgs.toArray());
+        return new PostSearchHits(ids, total);
+    }
+
+    @Override
+    public int rebuild(Consumer<Consumer<PostSearchDocument>> documents) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + REBUILD_TABLE);
+        jdbcTemplate.execute(createTableSql(REBUILD_TABLE));
+
+        List<Object[]> batch = new ArrayList<>();
+        int[] count = { 0 };
+        int batchSize = Math.max(1, config.getRebuildBatchSize());
+        documents.accept(document -> {
+            batch.add(insertArgs(document));
+            count[0]++;
+            if (batch.size() >= batchSize) {
+                flushBatch(batch);
+            }
+        });
+        flushBatch(batch);
+
+        // 검색은 교체 직전까지 기존 테이블을 사용
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+            jdbcTemplate.execute("ALTER TABLE " + REBUILD_TABLE + " RENAME TO " + TABLE);
+        });
+        jdbcTemplate.execute("INSERT INTO " + TABLE + "(" + TABLE + ") VALUES('optimize')");
+        return count[0];
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("engine", "sqlite-fts");
+        stats.put("documents", jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class));
+        return stats;
+    }
+
+    private void flushBatch(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(insertSql(REBUILD_TABLE), batch));
+        batch.clear();
+    }
+
+    private static String createTableSql(String table) {
+        return "CREATE VIRTUAL TABLE " + table
+                + " USING fts5(title, content, category_id UNINDEXED, tokenize = 'trigram')";
+    }
+
+    private static String insertSql(String table) {
+        return "INSERT INTO " + table + "(rowid, title, content, category_id) VALUES (?, ?, ?, ?)";
+    }
+
+    private static Object[] insertArgs(PostSearchDocument document) {
+        return new Object[] { document.getId(), document.getTitle(), document.getContent(), document.getCategoryId() };
+    }
+
+    /**
+     * 각 토큰을 FTS5 구문(phrase)으로 감싸 AND 조건으로 연결합니다. 큰따옴표는 두 번 써서 이스케이프합니다.
+     */
+    private static String toMatchQuery(List<String> terms) {
+        List<String> phrases = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            phrases.add("\"" + term.replace("\"", "\"\"") + "\"");
+        }
+        return String.join(" AND ", phrases);
+    }
+
+    private static String likePattern(String term) {
+        return "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목 자동완성
+ *
+ * 정규화한 제목(소문자, 연속 공백 하나로)을 메모리 trie 에 저장하고, 입력값과 편집 거리(Levenshtein)가
+ * 허용 범위 안인 접두어를 가진 제목을 찾습니다. trie 를 따라 내려가며 편집 거리 표의 한 행씩만 계산하고,
+ * 행의 최솟값이 허용 범위를 넘는 가지는 더 내려가지 않습니다.
+ * 결과는 편집 거리, 같은 제목의 게시글 수, 제목 길이 순으로 정렬합니다.
+ */
+@Component
+public class TitleSuggester {
+    // 한 번의 요청에서 모을 후보 수와 방문할 노드 수의 상한
+    private static final int CANDIDATE_FACTOR = 20;
+    private static final int MAX_VISITED_NODES = 50_000;
+
+    private final SearchConfig config;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private TitleTrie trie = new TitleTrie();
+
+    public TitleSuggester(SearchConfig config) {
+        this.config = config;
+    }
+
+    public void add(Long postId, String title) {
+        lock.writeLock().lock();
+        try {
+            trie.remove(postId);
+            trie.add(postId, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            trie.remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재색인 시 새로 만든 trie 로 교체합니다.
+     */
+    public void replace(TitleTrie rebuilt) {
+        lock.writeLock().lock();
+        try {
+            trie = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.titlesByPost.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> suggest(String input, int limit) {
+        String query = normalize(input);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int maxEdits = maxEditsFor(query.length());
+
+        List<Candidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int[] firstRow = new int[query.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+            Search search = new Search(query, maxEdits, limit * CANDIDATE_FACTOR, candidates);
+            search.visit(trie.root, firstRow, firstRow[query.length()]);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidates.sort(Comparator.comparingInt((Candidate c) -> c.distance)
+                .thenComparing(c -> c.count, Comparator.reverseOrder())
+                .thenComparingInt(c -> c.title.length()));
+        return candidates.stream()
+                .limit(limit)
+                .map(c -> c.title)
+                .toList();
+    }
+
+    /**
+     * 짧은 입력에서는 오타 허용 범위를 줄여 엉뚱한 제안을 막는다
+     */
+    private int maxEditsFor(int length) {
+        if (length <= 1) {
+            return 0;
+        }
+        if (length <= 4) {
+            return Math.min(1, config.getSuggestMaxEdits());
+        }
+        return config.getSuggestMaxEdits();
+    }
+
+    static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        return title.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 제목 trie. 재색인 시에는 잠금 없이 새로 채운 뒤 replace 로 교체합니다.
+     */
+    public static final class TitleTrie {
+        private final Node root = new Node();
+        private final Map<Long, String> titlesByPost = new HashMap<>();
+
+        public void add(Long postId, String title) {
+            String key = normalize(title);
+            if (key.isEmpty()) {
+                return;
+            }
+            titlesByPost.put(postId, key);
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            if (node.count == 0) {
+                node.title = title.trim();
+            }
+            node.count++;
+        }
+
+        void remove(Long postId) {
+            String key = titlesByPost.remove(postId);
+            if (key == null) {
+                return;
+            }
+            removePath(root, key, 0);
+        }
+
+        // 자식이 없고 제목도 없는 노드는 정리
+        private boolean removePath(Node node, String key, int depth) {
+            if (depth == key.length()) {
+                node.count = Math.max(0, node.count - 1);
+                if (node.count == 0) {
+                    node.title = null;
+                }
+            } else {
+                Node child = node.children.get(key.charAt(depth));
+                if (child != null && removePath(child, key, depth + 1)) {
+                    node.children.remove(key.charAt(depth));
+                }
+            }
+            return node.count == 0 && node.children.isEmpty();
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private String title;
+        private int count;
+    }
+
+    private static final class Candidate {
+        private final String title;
+        private final int count;
+        private final int distance;
+
+        Candidate(String title, int count, int distance) {
+            this.title = title;
+            this.count = count;
+            this.distance = distance;
+        }
+    }
+
+    private static final class Search {
+        private final String query;
+        private final int maxEdits;
+        private final int maxCandidates;
+        private final List<Candidate> candidates;
+        private int visited;
+
+        Search(String query, int maxEdits, int maxCandidates, List<Candidate> candidates) {
+            this.query = query;
+            this.maxEdits = maxEdits;
+            this.maxCandidates = maxCandidates;
+            this.candidates = candidates;
+        }
+
+        /**
+         * @param row          루트부터 현재 노드까지의 문자열과 query 각 접두어 사이의 편집 거리
+         * @param prefixDistance 현재 경로의 접두어 중 query 전체와 가장 가까운 거리
+         */
+        void visit(Node node, int[] row, int prefixDistance) {
+            if (candidates.size() >= maxCandidates || ++visited > MAX_VISITED_NODES) {
+                return;
+            }
+            if (node.count > 0 && prefixDistance <= maxEdits) {
+                candidates.add(new Candidate(node.title, node.count, prefixDistance));
+            }
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                int[] next = nextRow(row, child.getKey());
+                int distance = Math.min(prefixDistance, next[query.length()]);
+                // 이미 일치한 접두어가 있거나, 이후 문자로 거리가 줄어들 여지가 있을 때만 내려감
+                if (distance <= maxEdits || min(next) <= maxEdits) {
+                    visit(child.getValue(), next, distance);
+                }
+            }
+        }
+
+        private int[] nextRow(int[] previous, char c) {
+            int[] row = new int[previous.length];
+            row[0] = previous[0] + 1;
+            for (int i = 1; i < row.length; i++) {
+                int substitution = previous[i - 1] + (query.charAt(i - 1) == c ? 0 : 1);
+                row[i] = Math.min(Math.min(row[i - 1] + 1, previous[i] + 1), substitution);
+            }
+            return row;
+        }
+
+        private static int min(int[] row) {
+            int min = Integer.MAX_VALUE;
+            for (int value : row) {
+                min = Math.min(min, value);
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- 목록/커서 페이지네이션 (최신순, 카테고리별 최신순, 인기순)
+CREATE INDEX idx_posts_created_at ON posts (created_at);
+CREATE INDEX idx_posts_category_created_at ON posts (category_id, created_at);
+CREATE INDEX idx_posts_view_count ON posts (view_count);
+
+-- 게시글별 댓글 목록
+CREATE INDEX idx_comments_post_created_at ON comments (post_id, created_at);
+
+-- 사용자별 알림 목록 / 읽지 않은 알림 수
+CREATE INDEX idx_notif_user_read_created ON notifications (user_id, read, created_at);
+
+-- post_likes(post_id, user_id), refresh_tokens(token) 은 유니크 제약조건의 인덱스를 사용합니다.
+-- (같은 컬럼 구성으로 인덱스를 다시 만들면 ORA-01408 오류가 발생)
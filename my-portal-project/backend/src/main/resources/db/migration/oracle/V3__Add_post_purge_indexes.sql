@@ -0,0 +1,7 @@
+-- Oracle 은 부분 인덱스를 지원하지 않으므로 목록용 인덱스는 V2 의 것을 그대로 사용합니다.
+-- 모든 키가 NULL 인 행은 인덱스에 저장되지 않으므로, 삭제 표시된 게시글만 deleted_at 이 채워져
+-- 이 인덱스는 정리 대상 행만 담습니다.
+CREATE INDEX idx_posts_purge ON posts (deleted_at);
+
+-- 정리 작업이 답글 없는 댓글부터 삭제할 때 사용
+CREATE INDEX idx_comments_parent ON comments (parent_id);
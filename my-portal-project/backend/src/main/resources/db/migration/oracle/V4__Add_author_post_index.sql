@@ -0,0 +1,2 @@
+-- 작성자별 게시글 목록(오프셋/커서)의 user_id 조건과 created_at, id 역순 정렬용 복합 인덱스
+CREATE INDEX idx_posts_user_created_at ON posts (user_id, created_at, id);
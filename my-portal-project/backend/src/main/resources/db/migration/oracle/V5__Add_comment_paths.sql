@@ -0,0 +1,14 @@
+-- 댓글 트리 조회용 경로(루트부터 자신까지 19자리 ID 를 '/' 로 연결)를 기존 댓글에 채웁니다.
+-- 부모 댓글이 삭제된 답글은 자신을 루트로 하는 경로를 받습니다. 새 댓글의 경로는 INSERT 시 애플리케이션이 채웁니다.
+MERGE INTO comments c
+USING (
+    SELECT id, SUBSTR(SYS_CONNECT_BY_PATH(LPAD(id, 19, '0'), '/'), 2) AS path
+    FROM comments
+    START WITH parent_id IS NULL OR parent_id NOT IN (SELECT id FROM comments)
+    CONNECT BY PRIOR id = parent_id
+) t
+ON (c.id = t.id)
+WHEN MATCHED THEN UPDATE SET c.path = t.path WHERE c.path IS NULL;
+
+-- 게시글별 댓글 트리 (경로 순서 = 깊이 우선 순서)
+CREATE INDEX idx_comments_post_path ON comments (post_id, path);
@@ -0,0 +1,18 @@
+-- 목록/커서 페이지네이션 (최신순, 카테고리별 최신순, 인기순)
+CREATE INDEX IF NOT EXISTS idx_posts_created_at ON posts (created_at);
+CREATE INDEX IF NOT EXISTS idx_posts_category_created_at ON posts (category_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_posts_view_count ON posts (view_count);
+
+-- 게시글별 댓글 목록
+CREATE INDEX IF NOT EXISTS idx_comments_post_created_at ON comments (post_id, created_at);
+
+-- 사용자별 알림 목록 / 읽지 않은 알림 수
+CREATE INDEX IF NOT EXISTS idx_notifications_user_read_created_at ON notifications (user_id, read, created_at);
+
+-- 게시글별 좋아요 / 좋아요 여부 확인
+-- SQLite 방언은 테이블 단위 @UniqueConstraint 를 생성하지 않으므로 유니크 인덱스로 대신합니다.
+-- 중복 행은 가장 먼저 생성된 것만 남기고, 좋아요 수는 카운터 보정 작업이 다시 맞춥니다.
+DELETE FROM post_likes WHERE id NOT IN (SELECT MIN(id) FROM post_likes GROUP BY post_id, user_id);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_post_likes_post_user ON post_likes (post_id, user_id);
+
+-- refresh_tokens(token) 은 컬럼 유니크 제약조건의 인덱스를 사용합니다.
@@ -0,0 +1,14 @@
+-- 게시글 삭제는 is_deleted 플래그만 바꾸고 목록 쿼리는 모두 is_deleted = 0 조건을 포함하므로
+-- 삭제되지 않은 게시글만 담는 부분 인덱스로 교체합니다. (id 는 커서 페이지네이션의 동률 정렬용)
+DROP INDEX IF EXISTS idx_posts_created_at;
+DROP INDEX IF EXISTS idx_posts_category_created_at;
+DROP INDEX IF EXISTS idx_posts_view_count;
+CREATE INDEX IF NOT EXISTS idx_posts_live_created_at ON posts (created_at, id) WHERE is_deleted = 0;
+CREATE INDEX IF NOT EXISTS idx_posts_live_category_created_at ON posts (category_id, created_at, id) WHERE is_deleted = 0;
+CREATE INDEX IF NOT EXISTS idx_posts_live_view_count ON posts (view_count, id) WHERE is_deleted = 0;
+
+-- 정리 작업의 대상 게시글 조회 (삭제 표시된 행만 포함)
+CREATE INDEX IF NOT EXISTS idx_posts_purge ON posts (deleted_at) WHERE is_deleted = 1;
+
+-- 정리 작업이 답글 없는 댓글부터 삭제할 때 사용
+CREATE INDEX IF NOT EXISTS idx_comments_parent ON comments (parent_id);
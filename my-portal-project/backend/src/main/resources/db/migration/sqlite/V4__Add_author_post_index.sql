@@ -0,0 +1,3 @@
+-- 작성자별 게시글 목록(오프셋/커서)은 user_id 로 거른 뒤 created_at, id 역순으로 정렬하므로
+-- 삭제되지 않은 게시글만 담는 복합 부분 인덱스로 정렬 없이 바로 읽습니다.
+CREATE INDEX IF NOT EXISTS idx_posts_live_user_created_at ON posts (user_id, created_at, id) WHERE is_deleted = 0;
@@ -0,0 +1,3 @@
+-- 댓글 커서 조회/스트리밍은 (created_at, id) 순서로 읽으므로 동률 정렬용 id 를 인덱스에 포함합니다.
+CREATE INDEX IF NOT EXISTS idx_comments_post_created_id ON comments (post_id, created_at, id);
+DROP INDEX IF EXISTS idx_comments_post_created_at;
@@ -3,6 +3,9 @@ package com.example.portal.controller;
 import com.example.portal.dto.comment.CommentRequestDto;
 import com.example.portal.dto.comment.CommentResponse;
 import com.example.portal.service.CommentService;
+import com.example.portal.service.CommentBulkService;
+import com.example.portal.service.CommentStreamService;
+import com.example.portal.service.comment.CommentFloodDetector;
 import com.example.portal.service.RefreshTokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +48,15 @@ class CommentControllerTest {
         @MockBean
         private CommentService commentService;
 
+        @MockBean
+        private CommentStreamService commentStreamService;
+
+        @MockBean
+        private CommentBulkService commentBulkService;
+
+        @MockBean
+        private CommentFloodDetector commentFloodDetector;
+
         @MockBean
         private JwtTokenProvider jwtTokenProvider;
 
@@ -0,0 +1,77 @@
+package com.example.portal.controller;
+
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.enums.TrendingWindow;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import com.example.portal.security.user.UserPrincipal;
+import com.example.portal.service.TrendingService;
+import com.example.portal.service.ViewCountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        // 예약 반영은 사실상 끄고 반영 전 조회수로 확인
+        "app.view-count.flush-interval=3600000"
+})
+class PostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("ETag 가 같아 304 로 응답한 조회도 조회수와 인기 게시글 점수에 반영한다")
+    void notModifiedStillCountsView() throws Exception {
+        String email = "etag-" + System.nanoTime() + "@example.com";
+        User writer = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+        Long postId = postRepository.save(Post.builder()
+                .title("title").content("content").author("writer").user(writer).build()).getId();
+        UserPrincipal viewer = UserPrincipal.create(writer);
+
+        String eTag = mockMvc.perform(get("/api/posts/{id}", postId).with(user(viewer)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+        assertThat(viewCountService.getPendingCount(postId)).isEqualTo(1);
+        double scoreAfterFirstView = trendingService.getScore(TrendingWindow.WEEK, postId);
+
+        mockMvc.perform(get("/api/posts/{id}", postId).with(user(viewer)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        assertThat(viewCountService.getPendingCount(postId)).isEqualTo(2);
+        assertThat(trendingService.getScore(TrendingWindow.WEEK, postId)).isGreaterThan(scoreAfterFirstView);
+    }
+}
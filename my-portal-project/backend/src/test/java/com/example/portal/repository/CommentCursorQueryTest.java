@@ -0,0 +1,129 @@
+package com.example.portal.repository;
+
+import com.example.portal.dto.CursorResponse;
+import com.example.portal.dto.comment.CommentResponse;
+import com.example.portal.entity.Comment;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.enums.CursorDirection;
+import com.example.portal.enums.Role;
+import com.example.portal.service.CommentService;
+import com.example.portal.service.CommentStreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false"
+})
+class CommentCursorQueryTest {
+    private static final int COMMENTS = 7;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentStreamService commentStreamService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Post post;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String email = "cursor-" + System.nanoTime() + "@example.com";
+        user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+        post = postRepository.save(Post.builder()
+                .title("title").content("content").author("writer").user(user).build());
+        for (int i = 0; i < COMMENTS; i++) {
+            save("c" + i);
+        }
+    }
+
+    private void save(String content) {
+        commentRepository.save(Comment.builder().content(content).post(post).user(user).build());
+    }
+
+    @Test
+    @DisplayName("BEFORE 커서는 최신순으로 끝까지 이어지고 AFTER 커서는 이후 작성된 댓글만 작성순으로 조회한다")
+    void pagesInBothDirections() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<CommentResponse> page = commentService.getCommentsByCursor(
+                    post.getId(), cursor, CursorDirection.BEFORE, 3);
+            page.getContent().forEach(comment -> seen.add(comment.getContent()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(seen).containsExactly("c6", "c5", "c4", "c3", "c2", "c1", "c0");
+
+        String newest = commentService.getCommentsByCursor(post.getId(), null, CursorDirection.AFTER, COMMENTS)
+                .getNextCursor();
+        CursorResponse<CommentResponse> idle = commentService.getCommentsByCursor(
+                post.getId(), newest, CursorDirection.AFTER, 10);
+        assertThat(idle.getContent()).isEmpty();
+        assertThat(idle.getNextCursor()).isEqualTo(newest);
+
+        save("new1");
+        save("new2");
+        CursorResponse<CommentResponse> fresh = commentService.getCommentsByCursor(
+                post.getId(), newest, CursorDirection.AFTER, 10);
+        assertThat(fresh.getContent()).extracting(CommentResponse::getContent).containsExactly("new1", "new2");
+        assertThat(fresh.getContent()).extracting(CommentResponse::getAuthor).containsOnly("writer");
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림은 커서 위치부터 한 줄에 댓글 하나씩 내보낸다")
+    void streamsFromCursor() throws IOException {
+        List<CommentResponse> all = stream(null, CursorDirection.BEFORE, null);
+        assertThat(all).extracting(CommentResponse::getContent)
+                .containsExactly("c6", "c5", "c4", "c3", "c2", "c1", "c0");
+        assertThat(all).extracting(CommentResponse::getPostId).containsOnly(post.getId());
+
+        String cursor = commentService.getCommentsByCursor(post.getId(), null, CursorDirection.BEFORE, 2)
+                .getNextCursor();
+        assertThat(stream(cursor, CursorDirection.BEFORE, 3)).extracting(CommentResponse::getContent)
+                .containsExactly("c4", "c3", "c2");
+        assertThat(stream(cursor, CursorDirection.AFTER, null)).extracting(CommentResponse::getContent)
+                .containsExactly("c6");
+    }
+
+    private List<CommentResponse> stream(String cursor, CursorDirection direction, Integer limit) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        commentStreamService.open(post.getId(), cursor, direction, limit).writeTo(out);
+        List<CommentResponse> comments = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                comments.add(objectMapper.readValue(line, CommentResponse.class));
+            }
+        }
+        return comments;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.portal.repository;
+
+import com.example.portal.dto.comment.CommentNodeResponse;
+import com.example.portal.dto.comment.CommentRow;
+import com.example.portal.dto.comment.CommentTreeResponse;
+import com.example.portal.entity.Comment;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.entity.common.MaterializedPaths;
+import com.example.portal.enums.Role;
+import com.example.portal.service.CommentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CommentTreeQueryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long postId;
+    // 루트 r1(답글 a(답글 b), c), 루트 r2(답글 d), 루트 r3 순서로 작성
+    private Comment r1, a, b, c, r2, d, r3;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String email = "tree-" + System.nanoTime() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+        Post post = postRepository.save(Post.builder()
+                .title("title").content("content").author("writer").user(user).build());
+        postId = post.getId();
+
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            r1 = save(post, user, null, "r1");
+            a = save(post, user, r1, "a");
+            b = save(post, user, a, "b");
+            c = save(post, user, r1, "c");
+            r2 = save(post, user, null, "r2");
+            d = save(post, user, r2, "d");
+            r3 = save(post, user, null, "r3");
+        });
+    }
+
+    private Comment save(Post post, User user, Comment parent, String content) {
+        return commentRepository.save(Comment.builder()
+                .content(content).post(post).user(user).parent(parent).build());
+    }
+
+    @Test
+    @DisplayName("경로는 INSERT 시 부모 경로와 자신의 ID 로 채워지고 추가 UPDATE 가 실행되지 않는다")
+    void pathIsWrittenOnInsert() {
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(r1.getPath()).isEqualTo(MaterializedPaths.segment(r1.getId()));
+        assertThat(b.getPath()).isEqualTo(MaterializedPaths.append(a.getPath(), b.getId()));
+
+        Comment stored = commentRepository.findById(b.getId()).orElseThrow();
+        assertThat(stored.getPath()).isEqualTo(b.getPath());
+        assertThat(MaterializedPaths.depth(stored.getPath())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 트리는 깊이 우선 순서로 한 번에 조회된다")
+    void treeRowsInDepthFirstOrder() {
+        statistics.clear();
+        List<CommentRow> rows = commentRepository.findTreeRows(postId);
+
+        assertThat(rows).extracting(CommentRow::getContent).containsExactly("r1", "a", "b", "c", "r2", "d", "r3");
+        assertThat(rows).extracting(CommentRow::getAuthor).containsOnly("writer");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스레드 페이지는 최신 루트 댓글과 스레드별 앞쪽 답글만 조회하고 더 있는지 표시한다")
+    void threadPageLimitsReplies() {
+        CommentTreeResponse first = commentService.getCommentThreads(postId, 0, 2, 1);
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getThreads()).extracting(CommentNodeResponse::getContent).containsExactly("r3", "r2");
+        assertThat(first.getThreads().get(1).getReplies()).extracting(CommentNodeResponse::getContent)
+                .containsExactly("d");
+        assertThat(first.getThreads().get(1).isHasMoreReplies()).isFalse();
+
+        CommentTreeResponse second = commentService.getCommentThreads(postId, 1, 2, 1);
+
+        assertThat(second.isHasNext()).isFalse();
+        CommentNodeResponse thread = second.getThreads().get(0);
+        assertThat(thread.getContent()).isEqualTo("r1");
+        assertThat(thread.isHasMoreReplies()).isTrue();
+        assertThat(thread.getReplies()).extracting(CommentNodeResponse::getContent).containsExactly("a");
+        assertThat(thread.getReplies().get(0).getReplies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 트리 조회는 답글을 부모 아래에 작성 순으로 묶는다")
+    void fullTree() {
+        CommentTreeResponse tree = commentService.getCommentTree(postId);
+
+        assertThat(tree.getThreads()).extracting(CommentNodeResponse::getContent).containsExactly("r3", "r2", "r1");
+        CommentNodeResponse root = tree.getThreads().get(2);
+        assertThat(root.getReplies()).extracting(CommentNodeResponse::getContent).containsExactly("a", "c");
+        assertThat(root.getReplies().get(0).getReplies()).extracting(CommentNodeResponse::getDepth).containsExactly(2);
+    }
+}
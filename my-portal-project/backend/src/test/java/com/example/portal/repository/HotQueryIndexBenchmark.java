@@ -0,0 +1,205 @@
+package com.example.portal.repository;
+
+import com.example.portal.service.schema.ExpectedIndex;
+import com.example.portal.service.schema.IndexVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인덱스 마이그레이션(V2~V6) 적용 전/후의 주요 조회 쿼리 수행 시간 비교
+ *
+ * 스키마는 엔티티가 만드는 컬럼과 같게 두고(ID 는 rowid 별칭이 아닌 bigint), 쿼리는 애플리케이션과 같은 조건/정렬을 사용합니다.
+ *
+ * 기본 빌드에서는 제외되며 다음과 같이 실행합니다.
+ * mvn test -Dgroups=benchmark -DexcludedGroups= -Dtest=HotQueryIndexBenchmark
+ */
+@Tag("benchmark")
+class HotQueryIndexBenchmark {
+    private static final int POSTS = 100_000;
+    private static final int COMMENTS = 200_000;
+    private static final int NOTIFICATIONS = 200_000;
+    private static final int USERS = 1_000;
+    private static final int CATEGORIES = 20;
+    private static final int REPEAT = 50;
+
+    private static final List<String> MIGRATIONS = List.of(
+            "V2__Add_hot_query_indexes.sql",
+            "V3__Add_live_post_partial_indexes.sql",
+            "V4__Add_author_post_index.sql",
+            "V5__Add_comment_paths.sql",
+            "V6__Add_comment_cursor_index.sql");
+
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("latest posts",
+                "SELECT id FROM posts WHERE is_deleted = 0 ORDER BY created_at DESC, id DESC LIMIT 20");
+        QUERIES.put("latest posts by category",
+                "SELECT id FROM posts WHERE is_deleted = 0 AND category_id = 7 "
+                        + "ORDER BY created_at DESC, id DESC LIMIT 20");
+        QUERIES.put("popular posts",
+                "SELECT id FROM posts WHERE is_deleted = 0 ORDER BY view_count DESC, id DESC LIMIT 20");
+        QUERIES.put("posts by author",
+                "SELECT id FROM posts WHERE is_deleted = 0 AND user_id = 42 ORDER BY created_at DESC, id DESC LIMIT 20");
+        QUERIES.put("comments of post",
+                "SELECT id FROM comments WHERE post_id = 4242 ORDER BY created_at, id");
+        QUERIES.put("comment tree of post",
+                "SELECT id FROM comments WHERE post_id = 4242 ORDER BY path");
+        QUERIES.put("unread notifications",
+                "SELECT id FROM notifications WHERE user_id = 77 AND read = 0 ORDER BY created_at DESC");
+    }
+
+    @Test
+    @DisplayName("인덱스 마이그레이션 후 주요 조회 쿼리가 인덱스를 사용하고 더 빨라진다")
+    void queryTimingBeforeAndAfterMigration() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            createSchema(connection);
+            seed(connection);
+
+            Map<String, Long> before = new LinkedHashMap<>();
+            for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+                before.put(query.getKey(), time(connection, query.getValue()));
+            }
+
+            for (String migration : MIGRATIONS) {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/sqlite/" + migration));
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+            assertThat(IndexVerifier.findMissing(connection, ExpectedIndex.HOT_QUERY_INDEXES)).isEmpty();
+
+            System.out.printf("hot queries, %d runs each (posts=%,d comments=%,d notifications=%,d)%n",
+                    REPEAT, POSTS, COMMENTS, NOTIFICATIONS);
+            long totalBefore = 0;
+            long totalAfter = 0;
+            for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+                long after = time(connection, query.getValue());
+                long previous = before.get(query.getKey());
+                totalBefore += previous;
+                totalAfter += after;
+                System.out.printf("  %-26s before %8.2f ms  after %6.3f ms  (x%.0f)%n", query.getKey(),
+                        previous / 1e6 / REPEAT, after / 1e6 / REPEAT, (double) previous / Math.max(1, after));
+                assertThat(queryPlan(connection, query.getValue())).containsPattern("USING (COVERING )?INDEX idx_");
+            }
+
+            assertThat(totalAfter).isLessThan(totalBefore);
+        }
+    }
+
+    private void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE posts (id bigint NOT NULL, user_id bigint NOT NULL, category_id bigint, "
+                    + "title VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL, view_count INTEGER NOT NULL, "
+                    + "is_deleted BOOLEAN NOT NULL, deleted_at TIMESTAMP, PRIMARY KEY (id))");
+            statement.execute("CREATE TABLE comments (id bigint NOT NULL, post_id bigint NOT NULL, parent_id bigint, "
+                    + "path VARCHAR(1000), created_at TIMESTAMP NOT NULL, PRIMARY KEY (id))");
+            statement.execute("CREATE TABLE notifications (id INTEGER PRIMARY KEY, user_id INTEGER NOT NULL, "
+                    + "read BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE post_likes (id INTEGER PRIMARY KEY, post_id INTEGER NOT NULL, "
+                    + "user_id INTEGER NOT NULL, UNIQUE (post_id, user_id))");
+            statement.execute("CREATE TABLE refresh_tokens (id INTEGER PRIMARY KEY, token VARCHAR(255) NOT NULL UNIQUE)");
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        Random random = new Random(16);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        connection.setAutoCommit(false);
+        try (PreparedStatement posts = connection.prepareStatement(
+                "INSERT INTO posts (id, user_id, category_id, title, created_at, view_count, is_deleted, deleted_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement comments = connection.prepareStatement(
+                     "INSERT INTO comments (id, post_id, parent_id, created_at) VALUES (?, ?, ?, ?)");
+             PreparedStatement notifications = connection.prepareStatement(
+                     "INSERT INTO notifications (user_id, read, created_at) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= POSTS; i++) {
+                // 약 5% 는 삭제 표시된 게시글
+                boolean deleted = random.nextInt(20) == 0;
+                LocalDateTime createdAt = base.plusSeconds(random.nextInt(30_000_000));
+                posts.setLong(1, i);
+                posts.setLong(2, 1 + random.nextInt(USERS));
+                posts.setLong(3, 1 + random.nextInt(CATEGORIES));
+                posts.setString(4, "post " + i);
+                posts.setTimestamp(5, Timestamp.valueOf(createdAt));
+                posts.setInt(6, random.nextInt(100_000));
+                posts.setBoolean(7, deleted);
+                posts.setTimestamp(8, deleted ? Timestamp.valueOf(createdAt.plusDays(1)) : null);
+                posts.addBatch();
+            }
+            posts.executeBatch();
+            for (int i = 1; i <= COMMENTS; i++) {
+                // 약 30% 는 앞서 작성된 댓글에 대한 답글 (경로는 V5 가 채움)
+                comments.setLong(1, i);
+                comments.setLong(2, 1 + random.nextInt(POSTS));
+                if (i > 1 && random.nextInt(10) < 3) {
+                    comments.setLong(3, 1 + random.nextInt(i - 1));
+                } else {
+                    comments.setNull(3, Types.BIGINT);
+                }
+                comments.setTimestamp(4, Timestamp.valueOf(base.plusSeconds(random.nextInt(30_000_000))));
+                comments.addBatch();
+            }
+            comments.executeBatch();
+            for (int i = 0; i < NOTIFICATIONS; i++) {
+                notifications.setInt(1, 1 + random.nextInt(USERS));
+                notifications.setBoolean(2, random.nextInt(4) == 0);
+                notifications.setTimestamp(3, Timestamp.valueOf(base.plusSeconds(random.nextInt(30_000_000))));
+                notifications.addBatch();
+            }
+            notifications.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private long time(Connection connection, String sql) throws SQLException {
+        drain(connection, sql); // 워밍업
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            drain(connection, sql);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void drain(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                rs.getLong(1);
+            }
+        }
+    }
+
+    private String queryPlan(Connection connection, String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN QUERY PLAN " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
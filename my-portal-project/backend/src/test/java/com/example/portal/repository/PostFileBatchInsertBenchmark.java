@@ -0,0 +1,118 @@
+package com.example.portal.repository;
+
+import com.example.portal.entity.Post;
+import com.example.portal.entity.PostFile;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostFileRepository.saveAll 의 INSERT 배치 효과 측정
+ *
+ * 기본 빌드에서는 제외되며 다음과 같이 실행합니다.
+ * mvn test -Dgroups=benchmark -DexcludedGroups= -Dtest=PostFileBatchInsertBenchmark
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostFileBatchInsertBenchmark {
+    private static final int FILES_PER_ROUND = 2000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFileRepository postFileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("JDBC 배치를 켜면 saveAll 의 INSERT 처리량이 늘어난다")
+    void saveAllThroughput() {
+        User user = userRepository.save(User.builder()
+                .email("bench@example.com").password("password").name("bench").nickname("bench")
+                .role(Role.ROLE_USER).build());
+        Post post = postRepository.save(Post.builder()
+                .author("bench").title("bench").content("bench").user(user).build());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        insertRound(post.getId(), 1); // 워밍업
+        insertRound(post.getId(), 50);
+
+        long unbatchedNanos = 0;
+        long batchedNanos = 0;
+        long unbatchedStatements = 0;
+        long batchedStatements = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            statistics.clear();
+            unbatchedNanos += insertRound(post.getId(), 1);
+            unbatchedStatements += statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            batchedNanos += insertRound(post.getId(), 50);
+            batchedStatements += statistics.getPrepareStatementCount();
+        }
+
+        double unbatchedRate = FILES_PER_ROUND * ROUNDS / (unbatchedNanos / 1e9);
+        double batchedRate = FILES_PER_ROUND * ROUNDS / (batchedNanos / 1e9);
+        System.out.printf("saveAll %d rows x %d rounds%n", FILES_PER_ROUND, ROUNDS);
+        System.out.printf("  batch_size=1  : %,.0f rows/s, %d prepared statements%n", unbatchedRate, unbatchedStatements);
+        System.out.printf("  batch_size=50 : %,.0f rows/s, %d prepared statements (x%.1f)%n",
+                batchedRate, batchedStatements, batchedRate / unbatchedRate);
+
+        assertThat(batchedStatements).isLessThan(unbatchedStatements / 10);
+    }
+
+    private long insertRound(Long postId, int batchSize) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            Post post = postRepository.getReferenceById(postId);
+            List<PostFile> files = new ArrayList<>(FILES_PER_ROUND);
+            for (int i = 0; i < FILES_PER_ROUND; i++) {
+                PostFile file = PostFile.builder()
+                        .originalName("file-" + i + ".png")
+                        .storedName("stored-" + i)
+                        .url("/")
+                        .fileType("image/png")
+                        .fileSize(1024L)
+                        .build();
+                file.setPost(post);
+                files.add(file);
+            }
+            postFileRepository.saveAll(files);
+        });
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.portal.repository;
+
+import com.example.portal.dto.user.UserUpdateRequest;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String email = "cache-" + System.nanoTime() + "@example.com";
+        user = userRepository.save(User.builder()
+                .email(email).password("password").name("before").nickname(email)
+                .role(Role.ROLE_USER).build());
+        // IDENTITY 로 INSERT 한 엔티티는 캐시에 바로 저장되지 않으므로 한 번 읽어 캐시를 채움
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId()));
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("ID 와 이메일 조회는 2차 캐시에서 처리되어 SQL 을 실행하지 않는다")
+    void loadsFromCache() {
+        User byId = transactionTemplate.execute(status -> userRepository.findById(user.getId()).orElseThrow());
+        User byEmail = transactionTemplate.execute(status -> userRepository.findByEmail(user.getEmail()).orElseThrow());
+
+        assertThat(byId.getName()).isEqualTo("before");
+        assertThat(byEmail.getId()).isEqualTo(user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(2);
+        assertThat(statistics.getNaturalIdStatistics(User.class.getName()).getCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이메일로 ID 만 확인할 때는 이메일 캐시만 사용하고 사용자 엔티티를 읽지 않는다")
+    void resolvesIdFromNaturalIdCache() {
+        Long id = transactionTemplate.execute(status -> userRepository.findIdByEmail(user.getEmail()).orElseThrow());
+
+        assertThat(id).isEqualTo(user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isZero();
+        assertThat(statistics.getNaturalIdStatistics(User.class.getName()).getCacheHitCount()).isEqualTo(1);
+        assertThat(userRepository.findIdByEmail("missing-" + user.getEmail())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 수정은 캐시에 반영되고 삭제하면 ID/이메일 캐시에서 모두 사라진다")
+    void invalidatesOnUpdateAndDelete() {
+        userService.updateUser(user.getId(), UserUpdateRequest.builder().name("after").bio("bio").build());
+
+        User updated = transactionTemplate.execute(status -> userRepository.findById(user.getId()).orElseThrow());
+        assertThat(updated.getName()).isEqualTo("after");
+        assertThat(updated.getBio()).isEqualTo("bio");
+
+        userService.deleteUser(user.getId());
+
+        assertThat(userRepository.findByEmail(user.getEmail())).isEmpty();
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+    }
+}
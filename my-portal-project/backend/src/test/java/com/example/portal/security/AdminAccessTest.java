@@ -0,0 +1,81 @@
+package com.example.portal.security;
+
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.repository.UserRepository;
+import com.example.portal.security.user.UserPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false"
+})
+class AdminAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserPrincipal principal(Role role) {
+        String email = "admin-access-" + System.nanoTime() + "@example.com";
+        return UserPrincipal.create(userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(role).build()));
+    }
+
+    @Test
+    @DisplayName("일반 사용자는 댓글 일괄 작업, 도배 판정 댓글, 검색 색인 재생성 API 를 호출할 수 없다")
+    void userIsForbiddenFromAdminApis() throws Exception {
+        UserPrincipal user = principal(Role.ROLE_USER);
+        String ids = "{\"ids\":[1]}";
+
+        mockMvc.perform(post("/api/comments/bulk").with(user(user))
+                .contentType(MediaType.APPLICATION_JSON).content("{\"comments\":[]}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/comments/bulk/delete").with(user(user))
+                .contentType(MediaType.APPLICATION_JSON).content(ids))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/comments/bulk/soft-delete").with(user(user))
+                .contentType(MediaType.APPLICATION_JSON).content(ids))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/comments/shadowed").with(user(user)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/search-index/rebuild").with(user(user)))
+                .andExpect(status().isForbidden());
+        // 관리자 전용이 아닌 API 는 그대로 호출할 수 있음
+        mockMvc.perform(get("/api/search-index").with(user(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("관리자는 관리자 API 를 호출할 수 있다")
+    void adminCanCallAdminApis() throws Exception {
+        UserPrincipal admin = principal(Role.ROLE_ADMIN);
+
+        mockMvc.perform(post("/api/comments/bulk/soft-delete").with(user(admin))
+                .contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[-1]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missingIds[0]").value(-1));
+        mockMvc.perform(get("/api/comments/shadowed").with(user(admin)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/search-index/rebuild").with(user(admin)))
+                .andExpect(status().isOk());
+    }
+}
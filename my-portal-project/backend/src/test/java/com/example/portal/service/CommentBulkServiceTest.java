@@ -0,0 +1,175 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.comment.CommentBulkCreateRequest;
+import com.example.portal.dto.comment.CommentBulkResponse;
+import com.example.portal.dto.comment.CommentNodeResponse;
+import com.example.portal.dto.comment.CommentRow;
+import com.example.portal.dto.comment.CommentTreeResponse;
+import com.example.portal.entity.Comment;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.entity.common.MaterializedPaths;
+import com.example.portal.enums.Role;
+import com.example.portal.repository.CommentRepository;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import com.example.portal.security.user.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        "app.comment-bulk.batch-size=7"
+})
+class CommentBulkServiceTest {
+
+    @Autowired
+    private CommentBulkService commentBulkService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        String email = "bulk-" + System.nanoTime() + "@example.com";
+        user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+        post = postRepository.save(Post.builder()
+                .title("title").content("content").author("writer").user(user).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private CommentBulkCreateRequest.Item item(Long parentId, String content, LocalDateTime createdAt) {
+        return new CommentBulkCreateRequest.Item(post.getId(), user.getId(), parentId, content, createdAt);
+    }
+
+    private int commentCount() {
+        return postRepository.findById(post.getId()).orElseThrow().getCommentCount();
+    }
+
+    @Test
+    @DisplayName("일괄 작성은 배치 크기를 넘는 댓글도 경로와 작성 시각을 채워 저장하고 댓글 수를 한 번에 올린다")
+    void createsCommentsInBatches() {
+        Comment root = commentRepository.save(Comment.builder().content("root").post(post).user(user).build());
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<CommentBulkCreateRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(item(i % 2 == 0 ? root.getId() : null, "imported" + i, base.plusMinutes(i)));
+        }
+
+        CommentBulkResponse response = commentBulkService.create(items);
+
+        assertThat(response.getAffected()).isEqualTo(20);
+        assertThat(response.getIds()).hasSize(20).doesNotHaveDuplicates().doesNotContain(root.getId());
+        assertThat(commentCount()).isEqualTo(20);
+
+        Comment reply = commentRepository.findById(response.getIds().get(0)).orElseThrow();
+        assertThat(reply.getPath()).isEqualTo(MaterializedPaths.append(root.getPath(), reply.getId()));
+        assertThat(reply.getCreatedAt()).isEqualTo(base);
+        Comment top = commentRepository.findById(response.getIds().get(1)).orElseThrow();
+        assertThat(top.getPath()).isEqualTo(MaterializedPaths.segment(top.getId()));
+
+        List<CommentRow> tree = commentRepository.findTreeRows(post.getId());
+        assertThat(tree).hasSize(21);
+        assertThat(tree.get(0).getContent()).isEqualTo("root");
+
+        // 일괄 작성 후 엔티티로 저장한 댓글도 ID 가 겹치지 않는다
+        Comment after = commentRepository.save(Comment.builder().content("after").post(post).user(user).build());
+        assertThat(response.getIds()).doesNotContain(after.getId());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 표시는 내용을 가리고 댓글 수에서 빼며, 일괄 삭제는 답글까지 함께 지운다")
+    void softDeleteAndSubtreeDelete() {
+        List<Long> roots = commentBulkService.create(List.of(
+                item(null, "r1", null), item(null, "r2", null))).getIds();
+        Long reply = commentBulkService.create(List.of(item(roots.get(0), "a", null))).getIds().get(0);
+        commentBulkService.create(List.of(item(reply, "b", null)));
+        assertThat(commentCount()).isEqualTo(4);
+
+        CommentBulkResponse softDeleted = commentBulkService.softDelete(List.of(roots.get(1), roots.get(1), -1L));
+        assertThat(softDeleted.getAffected()).isEqualTo(1);
+        assertThat(softDeleted.getMissingIds()).containsExactly(-1L);
+        assertThat(commentCount()).isEqualTo(3);
+        assertThat(commentService.getCommentCount(post.getId())).isEqualTo(3);
+        assertThat(commentBulkService.softDelete(List.of(roots.get(1))).getAffected()).isZero();
+
+        CommentTreeResponse tree = commentService.getCommentTree(post.getId());
+        CommentNodeResponse masked = tree.getThreads().stream()
+                .filter(node -> node.getId().equals(roots.get(1))).findFirst().orElseThrow();
+        assertThat(masked.isDeleted()).isTrue();
+        assertThat(masked.getContent()).isEqualTo(CommentRow.DELETED_CONTENT);
+
+        CommentBulkResponse deleted = commentBulkService.delete(List.of(roots.get(0)));
+        assertThat(deleted.getAffected()).isEqualTo(3);
+        assertThat(deleted.getMissingIds()).isEmpty();
+        assertThat(commentRepository.findTreeRows(post.getId())).extracting(CommentRow::getId)
+                .containsExactly(roots.get(1));
+        assertThat(commentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("단건 삭제는 답글이 있는 댓글을 삭제 표시만 해서 답글을 스레드에 남기고, 답글이 없는 댓글은 지운다")
+    void deleteKeepsRepliesAttached() {
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        Long root = commentBulkService.create(List.of(item(null, "root", null))).getIds().get(0);
+        Long reply = commentBulkService.create(List.of(item(root, "reply", null))).getIds().get(0);
+        Long leaf = commentBulkService.create(List.of(item(null, "leaf", null))).getIds().get(0);
+        assertThat(commentCount()).isEqualTo(3);
+
+        commentService.deleteComment(root);
+
+        assertThat(commentCount()).isEqualTo(2);
+        assertThat(commentRepository.findTreeRows(post.getId())).extracting(CommentRow::getId)
+                .containsExactlyInAnyOrder(root, reply, leaf);
+        List<CommentNodeResponse> threads = commentService.getCommentThreads(post.getId(), 0, 10, 10).getThreads();
+        assertThat(threads).extracting(CommentNodeResponse::getId).containsExactlyInAnyOrder(root, leaf);
+        CommentNodeResponse masked = threads.stream()
+                .filter(node -> node.getId().equals(root)).findFirst().orElseThrow();
+        assertThat(masked.isDeleted()).isTrue();
+        assertThat(masked.getContent()).isEqualTo(CommentRow.DELETED_CONTENT);
+        assertThat(masked.getReplies()).extracting(CommentNodeResponse::getId).containsExactly(reply);
+
+        // 이미 삭제 표시된 댓글을 다시 지워도 댓글 수는 한 번만 줄어든다
+        commentService.deleteComment(root);
+        assertThat(commentCount()).isEqualTo(2);
+
+        commentService.deleteComment(leaf);
+        assertThat(commentRepository.findById(leaf)).isEmpty();
+        assertThat(commentCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.portal.service;
+
+import com.example.portal.entity.Comment;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.PostLike;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.repository.CommentRepository;
+import com.example.portal.repository.PostLikeRepository;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        // 예약 실행은 끄고 직접 호출, 게시글 ID 범위를 여러 번 나누도록 작은 배치 사용
+        "app.counter-reconciliation.enabled=false",
+        "app.counter-reconciliation.batch-size=2"
+})
+class CounterReconciliationServiceTest {
+
+    @Autowired
+    private CounterReconciliationService counterReconciliationService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = user();
+        // 다른 테스트가 남긴 어긋난 카운터를 먼저 정리해 보정 건수를 이 테스트의 게시글로 한정
+        counterReconciliationService.reconcile();
+    }
+
+    private User user() {
+        String email = "counter-" + System.nanoTime() + "@example.com";
+        return userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+    }
+
+    private Post post() {
+        return postRepository.save(Post.builder().title("title").content("content").author("writer").user(user).build());
+    }
+
+    private Comment comment(Post post) {
+        return commentRepository.save(Comment.builder().content("comment").post(post).user(user).build());
+    }
+
+    private void setCounters(Post post, int likeCount, int commentCount) {
+        jdbcTemplate.update("UPDATE posts SET like_count = ?, comment_count = ? WHERE id = ?",
+                likeCount, commentCount, post.getId());
+    }
+
+    private int storedLikeCount(Post post) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Integer.class, post.getId());
+    }
+
+    private int storedCommentCount(Post post) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = ?", Integer.class, post.getId());
+    }
+
+    private int update(ToIntFunction<Long> query, Post post) {
+        return transactionTemplate.execute(status -> query.applyAsInt(post.getId()));
+    }
+
+    @Test
+    @DisplayName("어긋난 좋아요/댓글 수를 실제 행 수로 보정하고, 삭제 표시된 댓글은 세지 않는다")
+    void repairsDriftedCounters() {
+        Post drifted = post();
+        postLikeRepository.save(PostLike.builder().post(drifted).user(user).build());
+        postLikeRepository.save(PostLike.builder().post(drifted).user(user()).build());
+        comment(drifted);
+        comment(drifted);
+        Comment removed = comment(drifted);
+        jdbcTemplate.update("UPDATE comments SET deleted = 1 WHERE id = ?", removed.getId());
+        setCounters(drifted, 7, 9);
+        // 캐시에 어긋난 값을 올려 두고 보정 후 캐시도 비우는지 확인
+        assertThat(postService.getPost(drifted.getId()).getLikeCount()).isEqualTo(7);
+
+        Post negative = post();
+        comment(negative);
+        setCounters(negative, -3, 0);
+
+        Post consistent = post();
+        postLikeRepository.save(PostLike.builder().post(consistent).user(user).build());
+        comment(consistent);
+        setCounters(consistent, 1, 1);
+
+        assertThat(counterReconciliationService.reconcile()).isEqualTo(2);
+
+        assertThat(storedLikeCount(drifted)).isEqualTo(2);
+        assertThat(storedCommentCount(drifted)).isEqualTo(2);
+        assertThat(storedLikeCount(negative)).isZero();
+        assertThat(storedCommentCount(negative)).isEqualTo(1);
+        assertThat(storedLikeCount(consistent)).isEqualTo(1);
+        assertThat(storedCommentCount(consistent)).isEqualTo(1);
+        assertThat(postService.getPost(drifted.getId()).getLikeCount()).isEqualTo(2);
+        assertThat(postService.getPost(drifted.getId()).getCommentCount()).isEqualTo(2);
+
+        assertThat(counterReconciliationService.reconcile()).isZero();
+        assertThat(counterReconciliationService.getStatistics()).containsEntry("enabled", false);
+    }
+
+    @Test
+    @DisplayName("카운터 증감 쿼리는 원자적으로 더하고 빼며 0 아래로 내려가지 않는다")
+    void decrementsStopAtZero() {
+        Post post = post();
+
+        assertThat(update(postRepository::incrementLikeCount, post)).isEqualTo(1);
+        assertThat(update(postRepository::incrementCommentCount, post)).isEqualTo(1);
+        assertThat(storedLikeCount(post)).isEqualTo(1);
+        assertThat(storedCommentCount(post)).isEqualTo(1);
+
+        assertThat(update(postRepository::decrementLikeCount, post)).isEqualTo(1);
+        assertThat(update(postRepository::decrementCommentCount, post)).isEqualTo(1);
+        assertThat(update(postRepository::decrementLikeCount, post)).isZero();
+        assertThat(update(postRepository::decrementCommentCount, post)).isZero();
+
+        assertThat(storedLikeCount(post)).isZero();
+        assertThat(storedCommentCount(post)).isZero();
+    }
+}
@@ -41,6 +41,14 @@ class FileManagementServiceTest {
                                                 file.getContentType(), file.getSize(), "/test");
                         }
 
+                        @Override
+                        public FileMetadata storeFile(java.nio.file.Path source, String originalFileName,
+                                        String contentType) throws IOException {
+                                fileIdCounter++;
+                                return FileMetadata.of("test-file-id-" + fileIdCounter, originalFileName,
+                                                contentType, 0L, "/test");
+                        }
+
                         @Override
                         public org.springframework.core.io.Resource loadFileAsResource(String fileId)
                                         throws IOException {
@@ -0,0 +1,72 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.MainPageResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MainPageSnapshotServiceTest {
+
+    @Mock
+    private MainPageService mainPageService;
+
+    @Mock
+    private PostCacheService postCacheService;
+
+    private MainPageSnapshotService snapshotService;
+    private ContentVersionService contentVersionService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new MainPageSnapshotService(mainPageService, new ObjectMapper().findAndRegisterModules());
+        contentVersionService = new ContentVersionService(postCacheService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotService.shutdown();
+    }
+
+    private static MainPageResponseDto page(int viewCount) {
+        return MainPageResponseDto.builder()
+                .recentPosts(List.of(MainPageResponseDto.PostSummaryDto.builder()
+                        .id(1L).title("공지").author("admin").viewCount(viewCount).likeCount(0).build()))
+                .popularPosts(List.of())
+                .notices(List.of())
+                .categories(List.of())
+                .build();
+    }
+
+    private String eTag() {
+        return contentVersionService.mainPageETag(snapshotService.getSnapshot().getVersion());
+    }
+
+    @Test
+    @DisplayName("다시 만든 내용이 같으면 스냅샷 버전과 ETag 를 유지하고, 바뀌면 새 버전을 만든다")
+    void keepsVersionWhenBytesAreUnchanged() {
+        when(mainPageService.getMainPageData()).thenReturn(page(10), page(10), page(11));
+
+        MainPageSnapshotService.Snapshot first = snapshotService.refresh();
+        String firstETag = eTag();
+
+        assertThat(snapshotService.refresh()).isSameAs(first);
+        assertThat(eTag()).isEqualTo(firstETag);
+
+        assertThat(snapshotService.refresh().getVersion()).isGreaterThan(first.getVersion());
+        assertThat(eTag()).isNotEqualTo(firstETag);
+        assertThat(snapshotService.getStatistics())
+                .containsEntry("refreshCount", 3L)
+                .containsEntry("unchangedRefreshCount", 1L);
+    }
+}
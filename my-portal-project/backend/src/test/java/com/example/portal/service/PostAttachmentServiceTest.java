@@ -0,0 +1,239 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.FileMetadata;
+import com.example.portal.dto.post.PostAttachmentResponse;
+import com.example.portal.dto.post.PostRequest;
+import com.example.portal.dto.post.PostResponse;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.enums.AttachmentStatus;
+import com.example.portal.enums.Role;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import com.example.portal.security.user.UserPrincipal;
+import com.example.portal.service.PostAttachmentService.SpooledFile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        // 작업 스레드 하나와 대기열 하나로 대기열이 가득 찬 상황을 만듦
+        "app.attachment.workers=1",
+        "app.attachment.queue-capacity=1"
+})
+class PostAttachmentServiceTest {
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private PostAttachmentService postAttachmentService;
+
+    @Autowired
+    private PostService postService;
+
+    @SpyBean
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private User user;
+    // 이름이 blocked 로 시작하는 파일은 release 가 열릴 때까지 저장을 미룸
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final List<FileMetadata> storedFiles = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String email = "attach-" + System.nanoTime() + "@example.com";
+        user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        doAnswer(invocation -> {
+            String name = invocation.getArgument(1);
+            if (name.startsWith("blocked")) {
+                blocked.countDown();
+                release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            if (name.startsWith("broken")) {
+                throw new IOException("disk full");
+            }
+            FileMetadata stored = (FileMetadata) invocation.callRealMethod();
+            storedFiles.add(stored);
+            return stored;
+        }).when(fileStorageService).storeFile(any(Path.class), anyString(), any());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        SecurityContextHolder.clearContext();
+        for (FileMetadata stored : storedFiles) {
+            if (fileStorageService.exists(stored.getFileId())) {
+                fileStorageService.deleteFile(stored.getFileId());
+            }
+        }
+    }
+
+    private static MultipartFile upload(String name) {
+        return new MockMultipartFile("files", name, "text/plain", ("content of " + name).getBytes());
+    }
+
+    private Long post() {
+        return postRepository.save(Post.builder()
+                .title("title").content("content").author("writer").user(user).build()).getId();
+    }
+
+    private long linkedFiles(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_files WHERE post_id = ?", Long.class, postId);
+    }
+
+    private List<PostAttachmentResponse> awaitProcessed(Long postId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            List<PostAttachmentResponse> statuses = postAttachmentService.findStatus(postId).orElseThrow();
+            boolean pending = statuses.stream().anyMatch(s -> s.getStatus() == AttachmentStatus.PENDING);
+            if (!pending || System.currentTimeMillis() > deadline) {
+                return statuses;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 작성 응답은 PENDING 이고, 저장이 끝나면 상태 API 가 READY 와 URL 을 돌려준다")
+    void createPostReturnsPendingThenReady() throws Exception {
+        PostRequest request = objectMapper.convertValue(Map.of("title", "title", "content", "content"),
+                PostRequest.class);
+
+        PostResponse created = postService.createPost(request, List.of(upload("blocked-a.txt"), upload("blocked-b.txt")));
+
+        assertThat(created.getAttachments()).extracting(PostAttachmentResponse::getStatus)
+                .containsExactly(AttachmentStatus.PENDING, AttachmentStatus.PENDING);
+        mockMvc.perform(get("/api/posts/{id}/attachments", created.getId()).with(user(UserPrincipal.create(user))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PENDING"));
+
+        release.countDown();
+        awaitProcessed(created.getId());
+
+        mockMvc.perform(get("/api/posts/{id}/attachments", created.getId()).with(user(UserPrincipal.create(user))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].originalName").value("blocked-a.txt"))
+                .andExpect(jsonPath("$[0].status").value("READY"))
+                .andExpect(jsonPath("$[0].url").isNotEmpty())
+                .andExpect(jsonPath("$[1].status").value("READY"));
+        assertThat(linkedFiles(created.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 첨부파일은 FAILED 가 되고 스풀 파일을 지운다")
+    void failedStoreMarksFailedAndRemovesSpool() throws InterruptedException {
+        Long postId = post();
+        List<SpooledFile> spooled = postAttachmentService.spool(List.of(upload("broken.txt"), upload("ok.txt")));
+        assertThat(spooled).allMatch(file -> Files.exists(file.getPath()));
+
+        postAttachmentService.submit(postId, spooled);
+
+        assertThat(awaitProcessed(postId)).extracting(PostAttachmentResponse::getStatus)
+                .containsExactly(AttachmentStatus.FAILED, AttachmentStatus.READY);
+        assertThat(spooled).noneMatch(file -> Files.exists(file.getPath()));
+        assertThat(linkedFiles(postId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결 전에 게시글이 삭제되면 post_files 행을 만들지 않고 저장한 파일도 지운다")
+    void deletedPostLeavesNoAttachments() throws InterruptedException {
+        Long postId = post();
+        List<SpooledFile> spooled = postAttachmentService.spool(List.of(upload("blocked.txt")));
+        postAttachmentService.submit(postId, spooled);
+
+        jdbcTemplate.update("UPDATE posts SET is_deleted = 1 WHERE id = ?", postId);
+        release.countDown();
+
+        assertThat(awaitProcessed(postId)).extracting(PostAttachmentResponse::getStatus)
+                .containsExactly(AttachmentStatus.FAILED);
+        assertThat(linkedFiles(postId)).isZero();
+        assertThat(storedFiles).hasSize(1);
+        assertThat(fileStorageService.exists(storedFiles.get(0).getFileId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업 풀과 대기열이 가득 차면 요청 스레드에서 직접 처리한다")
+    void callerRunsWhenQueueIsFull() throws InterruptedException {
+        long callerRuns = (long) postAttachmentService.getStatistics().get("callerRuns");
+        Long busy = post();
+        Long queued = post();
+        Long overflow = post();
+
+        // 작업 스레드가 첫 게시글에 묶인 뒤에 두 번째 게시글로 대기열을 채움
+        postAttachmentService.submit(busy, postAttachmentService.spool(List.of(upload("blocked-busy.txt"))));
+        assertThat(blocked.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+        postAttachmentService.submit(queued, postAttachmentService.spool(List.of(upload("queued.txt"))));
+        List<PostAttachmentResponse> overflowStatuses = postAttachmentService.submit(overflow,
+                postAttachmentService.spool(List.of(upload("overflow.txt"))));
+
+        // 요청 스레드에서 처리했으므로 반환 시점에 이미 끝나 있음
+        assertThat(overflowStatuses).extracting(PostAttachmentResponse::getStatus)
+                .containsExactly(AttachmentStatus.READY);
+        assertThat(linkedFiles(overflow)).isEqualTo(1);
+        assertThat(postAttachmentService.getStatistics().get("callerRuns")).isEqualTo(callerRuns + 1);
+
+        release.countDown();
+        assertThat(awaitProcessed(busy)).extracting(PostAttachmentResponse::getStatus)
+                .containsExactly(AttachmentStatus.READY);
+        assertThat(awaitProcessed(queued)).extracting(PostAttachmentResponse::getStatus)
+                .containsExactly(AttachmentStatus.READY);
+    }
+}
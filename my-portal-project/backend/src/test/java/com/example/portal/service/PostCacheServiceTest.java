@@ -0,0 +1,129 @@
+package com.example.portal.service;
+
+import com.example.portal.config.PostCacheConfig;
+import com.example.portal.dto.post.PostResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostCacheServiceTest {
+
+    private PostCacheConfig config;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        config = new PostCacheConfig();
+        config.setMaxSize(2);
+        config.setSegments(1);
+        config.setTtl(Duration.ofMinutes(1));
+        loadCount = new AtomicInteger();
+    }
+
+    private PostResponse load(Long postId) {
+        loadCount.incrementAndGet();
+        return PostResponse.builder().id(postId).title("제목 " + postId).build();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환된다")
+    void readThrough() {
+        PostCacheService cache = new PostCacheService(config);
+
+        PostResponse first = cache.get(1L, this::load);
+        PostResponse second = cache.get(1L, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        Map<String, Object> stats = cache.getStatistics();
+        assertThat(stats.get("hits")).isEqualTo(1L);
+        assertThat(stats.get("misses")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목이 제거된다")
+    void evictsLeastRecentlyUsed() {
+        PostCacheService cache = new PostCacheService(config);
+
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+        cache.get(3L, this::load);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getStatistics().get("evictions")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 다시 로딩된다")
+    void expiresAfterTtl() {
+        config.setTtl(Duration.ZERO);
+        PostCacheService cache = new PostCacheService(config);
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.getStatistics().get("expirations")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("무효화된 항목은 다음 조회 때 다시 로딩된다")
+    void evictInvalidates() {
+        PostCacheService cache = new PostCacheService(config);
+
+        cache.get(1L, this::load);
+        cache.evict(1L);
+        cache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화되면 로딩된 값은 캐시되지 않는다")
+    void doesNotCacheValueLoadedBeforeInvalidation() {
+        PostCacheService cache = new PostCacheService(config);
+
+        cache.get(1L, postId -> {
+            cache.evict(postId);
+            return load(postId);
+        });
+        cache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 ID 만 모아 한 번에 로딩한다")
+    void getAllLoadsOnlyMisses() {
+        config.setMaxSize(10);
+        PostCacheService cache = new PostCacheService(config);
+        cache.get(1L, this::load);
+        loadCount.set(0);
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        Map<Long, PostResponse> result = cache.getAll(List.of(1L, 2L, 3L), ids -> {
+            loaderCalls.incrementAndGet();
+            assertThat(ids).containsExactly(2L, 3L);
+            Map<Long, PostResponse> loaded = new HashMap<>();
+            loaded.put(2L, load(2L)); // 3 은 존재하지 않는 게시글
+            return loaded;
+        });
+
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        cache.get(2L, this::load);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+}
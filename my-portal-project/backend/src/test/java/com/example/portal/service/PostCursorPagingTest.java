@@ -0,0 +1,153 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.CursorResponse;
+import com.example.portal.dto.post.PostCursor;
+import com.example.portal.dto.post.PostResponse;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false"
+})
+class PostCursorPagingTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String email = "cursor-" + System.nanoTime() + "@example.com";
+        user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+    }
+
+    private List<Long> posts(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(postRepository.save(Post.builder()
+                    .title("title" + i).content("content").author("writer").user(user).build()).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * 커서가 없어질 때까지 모든 페이지를 읽어 ID 를 순서대로 모읍니다.
+     */
+    private List<Long> readAll(Function<String, CursorResponse<PostResponse>> page, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<PostResponse> response = page.apply(cursor);
+            assertThat(response.getContent()).hasSizeLessThanOrEqualTo(pageSize);
+            assertThat(response.isHasNext()).isEqualTo(response.getNextCursor() != null);
+            response.getContent().forEach(post -> ids.add(post.getId()));
+            cursor = response.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    @Test
+    @DisplayName("작성 시각이 모두 같아도 ID 로 이어서 중복/누락 없이 읽고, 마지막 페이지의 다음 커서는 null 이다")
+    void latestPagesTieBreakOnId() {
+        List<Long> ids = posts(5);
+        // 저장된 표현을 그대로 복사해 작성 시각을 완전히 같게 만듦
+        jdbcTemplate.update("UPDATE posts SET created_at = (SELECT created_at FROM posts WHERE id = ?) "
+                + "WHERE user_id = ?", ids.get(0), user.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT created_at) FROM posts WHERE user_id = ?",
+                Long.class, user.getId())).isEqualTo(1);
+        List<Long> expected = ids.stream().sorted(Comparator.reverseOrder()).toList();
+
+        CursorResponse<PostResponse> first = postService.getPostsByUsernameByCursor(user.getEmail(), null, 2);
+        assertThat(first.getContent()).extracting(PostResponse::getId).containsExactlyElementsOf(expected.subList(0, 2));
+        assertThat(first.isHasNext()).isTrue();
+
+        assertThat(readAll(cursor -> postService.getPostsByUsernameByCursor(user.getEmail(), cursor, 2), 2))
+                .containsExactlyElementsOf(expected);
+        // 페이지 크기로 나누어떨어져도 마지막 페이지에서 끝남
+        assertThat(readAll(cursor -> postService.getPostsByUsernameByCursor(user.getEmail(), cursor, 5), 5))
+                .containsExactlyElementsOf(expected);
+
+        CursorResponse<PostResponse> last = postService.getPostsByUsernameByCursor(user.getEmail(),
+                PostCursor.encodeCreatedAt(LocalDateTime.of(2000, 1, 1, 0, 0), Long.MAX_VALUE), 10);
+        assertThat(last.getContent()).isEmpty();
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회수가 같은 게시글은 ID 내림차순으로 페이지를 나누고 삭제 표시된 게시글은 건너뛴다")
+    void popularPagesTieBreakOnId() {
+        List<Long> ids = posts(5);
+        int viewCount = 1_000_000 + (int) (System.nanoTime() % 1000);
+        jdbcTemplate.update("UPDATE posts SET view_count = ? WHERE user_id = ?", viewCount, user.getId());
+        jdbcTemplate.update("UPDATE posts SET is_deleted = 1 WHERE id = ?", ids.get(2));
+        List<Long> expected = ids.stream()
+                .filter(id -> !id.equals(ids.get(2)))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        long active = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE is_deleted = 0", Long.class);
+
+        List<Long> all = readAll(cursor -> postService.getPopularPostsByCursor(cursor, 2), 2);
+
+        assertThat(all).hasSize((int) active).doesNotHaveDuplicates();
+        assertThat(all.subList(0, expected.size())).containsExactlyElementsOf(expected);
+        assertThat(all).doesNotContain(ids.get(2));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 다른 정렬용 커서는 INVALID_INPUT_VALUE 로 거부한다")
+    void rejectsMalformedCursor() {
+        posts(1);
+        String otherKind = PostCursor.encodeViewCount(3, 1L);
+        String badDate = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("c:yesterday:1".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v:3:abc".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("not a cursor!", otherKind, badDate)) {
+            assertThatThrownBy(() -> postService.getPostsByCursor(cursor, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        assertThatThrownBy(() -> postService.getPopularPostsByCursor(badId, 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.post.PostLikeResponse;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.exception.BusinessException;
+import com.example.portal.exception.ErrorCode;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        // 동시 요청이 각자 커넥션으로 경쟁하도록 커넥션을 여러 개 사용
+        "spring.datasource.hikari.maximum-pool-size=4"
+})
+@DirtiesContext
+class PostLikeServiceTest {
+
+    /**
+     * 메모리 DB 는 커넥션마다 별도 DB 이므로 커넥션끼리 공유하는 임시 파일 DB 를 사용합니다.
+     */
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("post-like-test-", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database.toAbsolutePath());
+    }
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        user = user();
+        postId = postRepository.save(Post.builder()
+                .title("title").content("content").author("writer").user(user).build()).getId();
+    }
+
+    private User user() {
+        String email = "like-" + System.nanoTime() + "@example.com";
+        return userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+    }
+
+    private int storedLikeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Integer.class, postId);
+    }
+
+    private long likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes WHERE post_id = ?", Long.class, postId);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 두 번 좋아요해도 행은 하나이고 좋아요 수는 1이다")
+    void likeTwiceKeepsSingleRow() {
+        PostLikeResponse first = postLikeService.like(postId, user.getId());
+        PostLikeResponse second = postLikeService.like(postId, user.getId());
+
+        assertThat(first.isLiked()).isTrue();
+        assertThat(first.getLikeCount()).isEqualTo(1);
+        assertThat(second.isLiked()).isTrue();
+        assertThat(second.getLikeCount()).isEqualTo(1);
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(storedLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 게시글을 취소해도 다른 사용자의 좋아요 수를 줄이지 않는다")
+    void unlikeWithoutLikeDoesNotDecrement() {
+        User other = user();
+        postLikeService.like(postId, other.getId());
+
+        PostLikeResponse response = postLikeService.unlike(postId, user.getId());
+
+        assertThat(response.isLiked()).isFalse();
+        assertThat(response.getLikeCount()).isEqualTo(1);
+        assertThat(storedLikeCount()).isEqualTo(1);
+
+        postLikeService.unlike(postId, other.getId());
+        postLikeService.unlike(postId, other.getId());
+        assertThat(storedLikeCount()).isZero();
+        assertThat(likeRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시글에는 좋아요할 수 없다")
+    void likeDeletedPostIsRejected() {
+        jdbcTemplate.update("UPDATE posts SET is_deleted = 1 WHERE id = ?", postId);
+
+        assertThatThrownBy(() -> postLikeService.like(postId, user.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.POST_NOT_FOUND);
+        assertThat(likeRows()).isZero();
+        assertThat(storedLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 좋아요는 행 하나만 남기고 모두 좋아요 상태를 돌려준다")
+    void concurrentLikesKeepSingleRow() throws Exception {
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<PostLikeResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    }
+                    return postLikeService.like(postId, user.getId());
+                }, executor));
+            }
+            start.countDown();
+
+            for (CompletableFuture<PostLikeResponse> response : responses) {
+                assertThat(response.get().isLiked()).isTrue();
+                assertThat(response.get().getLikeCount()).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(storedLikeCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.FileMetadata;
+import com.example.portal.entity.Comment;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.PostFile;
+import com.example.portal.entity.PostLike;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.repository.CommentRepository;
+import com.example.portal.repository.PostFileRepository;
+import com.example.portal.repository.PostLikeRepository;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        // 예약 실행은 끄고 직접 호출, 배치 경계를 여러 번 넘도록 작은 배치 사용
+        "app.post-purge.enabled=false",
+        "app.post-purge.grace-period=1h",
+        "app.post-purge.batch-size=2",
+        "app.post-purge.batch-pause=0"
+})
+class PostPurgeServiceTest {
+    private static final Duration GRACE_PERIOD = Duration.ofHours(1);
+
+    @Autowired
+    private PostPurgeService postPurgeService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private PostFileRepository postFileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // SQLite 방언은 외래키 제약조건을 만들지 않으므로, 운영 DB 처럼 참조 중인 행을 먼저 지우면 실패하도록 트리거로 대신함
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS fk_comments_parent BEFORE DELETE ON comments "
+                + "WHEN EXISTS (SELECT 1 FROM comments WHERE parent_id = OLD.id) "
+                + "BEGIN SELECT RAISE(ABORT, 'FOREIGN KEY constraint failed: comments.parent_id'); END");
+        jdbcTemplate.execute("CREATE TRIGGER IF NOT EXISTS fk_posts BEFORE DELETE ON posts "
+                + "WHEN EXISTS (SELECT 1 FROM comments WHERE post_id = OLD.id) "
+                + "OR EXISTS (SELECT 1 FROM post_likes WHERE post_id = OLD.id) "
+                + "OR EXISTS (SELECT 1 FROM post_files WHERE post_id = OLD.id) "
+                + "BEGIN SELECT RAISE(ABORT, 'FOREIGN KEY constraint failed: posts.id'); END");
+
+        String email = "purge-" + System.nanoTime() + "@example.com";
+        user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+    }
+
+    private Post post(String title) {
+        return postRepository.save(Post.builder().title(title).content("content").author("writer").user(user).build());
+    }
+
+    private Comment comment(Post post, Comment parent) {
+        return commentRepository.save(Comment.builder().content("comment").post(post).user(user).parent(parent).build());
+    }
+
+    private String storedFile(Post post) throws IOException {
+        Path source = Files.createTempFile("purge-", ".txt");
+        Files.writeString(source, "attachment");
+        FileMetadata stored = fileStorageService.storeFile(source, "attachment.txt", "text/plain");
+        PostFile file = PostFile.builder()
+                .originalName("attachment.txt").storedName(stored.getFileId()).url("/files/" + stored.getFileId())
+                .fileType("text/plain").fileSize(stored.getFileSize()).build();
+        file.setPost(post);
+        postFileRepository.save(file);
+        return stored.getFileId();
+    }
+
+    private void markDeleted(Post post, LocalDateTime deletedAt) {
+        jdbcTemplate.update("UPDATE posts SET is_deleted = 1, deleted_at = ? WHERE id = ?",
+                Timestamp.valueOf(deletedAt), post.getId());
+    }
+
+    private boolean exists(Post post) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE id = ?", Long.class, post.getId()) > 0;
+    }
+
+    private long count(String table, Post post) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE post_id = ?", Long.class,
+                post.getId());
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 삭제 게시글만 답글부터 댓글, 좋아요, 첨부파일 행과 저장 파일까지 정리한다")
+    void purgesExpiredDeletedPosts() throws IOException {
+        Post expired = post("expired");
+        Comment root = comment(expired, null);
+        Comment reply = comment(expired, root);
+        comment(expired, reply);
+        comment(expired, reply);
+        comment(expired, null);
+        postLikeRepository.save(PostLike.builder().post(expired).user(user).build());
+        String expiredFile = storedFile(expired);
+        markDeleted(expired, LocalDateTime.now().minus(GRACE_PERIOD).minusMinutes(1));
+
+        Post recent = post("recently deleted");
+        comment(recent, null);
+        String recentFile = storedFile(recent);
+        markDeleted(recent, LocalDateTime.now().minusMinutes(1));
+
+        Post live = post("live");
+        comment(live, null);
+
+        // 답글이 남은 댓글은 먼저 지울 수 없음
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM comments WHERE id = ?", root.getId())))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("FOREIGN KEY");
+
+        assertThat(postPurgeService.purge()).isEqualTo(1);
+
+        assertThat(exists(expired)).isFalse();
+        assertThat(count("comments", expired)).isZero();
+        assertThat(count("post_likes", expired)).isZero();
+        assertThat(count("post_files", expired)).isZero();
+        assertThat(fileStorageService.exists(expiredFile)).isFalse();
+
+        assertThat(exists(recent)).isTrue();
+        assertThat(count("comments", recent)).isEqualTo(1);
+        assertThat(count("post_files", recent)).isEqualTo(1);
+        assertThat(fileStorageService.exists(recentFile)).isTrue();
+        assertThat(exists(live)).isTrue();
+        assertThat(count("comments", live)).isEqualTo(1);
+
+        assertThat(postPurgeService.getStatistics())
+                .containsEntry("purgedComments", 5L)
+                .containsEntry("purgedLikes", 1L)
+                .containsEntry("purgedFiles", 1L);
+        assertThat(postPurgeService.purge()).isZero();
+
+        fileStorageService.deleteFile(recentFile);
+    }
+}
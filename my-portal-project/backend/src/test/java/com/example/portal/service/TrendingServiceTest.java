@@ -0,0 +1,55 @@
+package com.example.portal.service;
+
+import com.example.portal.config.TrendingConfig;
+import com.example.portal.enums.TrendingWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingServiceTest {
+
+    private TrendingConfig config;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        config = new TrendingConfig();
+        config.setTopK(2);
+        trendingService = new TrendingService(config, null);
+    }
+
+    @Test
+    @DisplayName("오래된 활동은 짧은 구간일수록 더 많이 감쇠된다")
+    void decaysByWindow() {
+        long now = System.currentTimeMillis();
+        long threeHoursAgo = now - Duration.ofHours(3).toMillis();
+        trendingService.record(1L, 20, threeHoursAgo);
+        trendingService.record(2L, 5, now);
+
+        assertThat(trendingService.getTopPostIds(TrendingWindow.HOUR, 10)).containsExactly(2L, 1L);
+        assertThat(trendingService.getTopPostIds(TrendingWindow.WEEK, 10)).containsExactly(1L, 2L);
+        assertThat(trendingService.getScore(TrendingWindow.HOUR, 1L)).isCloseTo(20 / 8.0, within(0.1));
+    }
+
+    @Test
+    @DisplayName("상위 목록은 topK 개로 제한되고 삭제된 자리는 다음 순위로 채워진다")
+    void keepsBoundedTopK() {
+        long now = System.currentTimeMillis();
+        trendingService.record(1L, 3, now);
+        trendingService.record(2L, 2, now);
+        trendingService.record(3L, 1, now);
+
+        assertThat(trendingService.getTopPostIds(TrendingWindow.DAY, 10)).containsExactly(1L, 2L);
+
+        trendingService.record(3L, 5, now);
+        assertThat(trendingService.getTopPostIds(TrendingWindow.DAY, 10)).containsExactly(3L, 1L);
+
+        trendingService.remove(3L);
+        assertThat(trendingService.getTopPostIds(TrendingWindow.DAY, 10)).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.portal.service;
+
+import com.example.portal.dto.post.PostResponse;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        // 예약 반영은 사실상 끄고 직접 호출, 배치 경계를 넘도록 작은 배치 사용
+        "app.view-count.flush-interval=3600000",
+        "app.view-count.batch-size=2"
+})
+class ViewCountServiceTest {
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCacheService postCacheService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String email = "views-" + System.nanoTime() + "@example.com";
+        user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+        viewCountService.flush();
+    }
+
+    private Long post() {
+        return postRepository.save(Post.builder()
+                .title("title").content("content").author("writer").user(user).build()).getId();
+    }
+
+    private int storedViews(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM posts WHERE id = ?", Integer.class, postId);
+    }
+
+    @Test
+    @DisplayName("반영 중에 들어온 조회도 잃거나 두 번 더하지 않는다")
+    void concurrentViewsDuringFlush() throws Exception {
+        List<Long> hot = List.of(post(), post(), post(), post());
+        // 드물게 조회되어 반영 사이에 유휴 카운터로 정리되는 게시글
+        Long sparse = post();
+        int threads = 8;
+        int viewsPerThread = 2000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        AtomicInteger flushes = new AtomicInteger();
+        try {
+            CompletableFuture<Void> flusher = CompletableFuture.runAsync(() -> {
+                while (recording.get()) {
+                    viewCountService.flush();
+                    flushes.incrementAndGet();
+                }
+            }, executor);
+            List<CompletableFuture<Void>> recorders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                recorders.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        viewCountService.recordView(hot.get(i % hot.size()));
+                        if (i % 250 == 0) {
+                            viewCountService.recordView(sparse);
+                            Thread.yield();
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(recorders.toArray(new CompletableFuture[0])).get();
+            recording.set(false);
+            flusher.get();
+        } finally {
+            executor.shutdown();
+        }
+        viewCountService.flush();
+
+        assertThat(flushes.get()).isPositive();
+        for (Long postId : hot) {
+            assertThat(storedViews(postId)).isEqualTo(threads * viewsPerThread / hot.size());
+            assertThat(viewCountService.getPendingCount(postId)).isZero();
+        }
+        assertThat(storedViews(sparse)).isEqualTo(threads * (viewsPerThread / 250));
+    }
+
+    @Test
+    @DisplayName("게시글 조회 응답은 아직 반영되지 않은 조회수를 포함한다")
+    void getPostIncludesPendingViews() {
+        Long postId = post();
+
+        assertThat(postService.getPost(postId).getViewCount()).isEqualTo(1);
+        assertThat(postService.getPost(postId).getViewCount()).isEqualTo(2);
+        assertThat(storedViews(postId)).isZero();
+
+        viewCountService.flush();
+
+        assertThat(storedViews(postId)).isEqualTo(2);
+        assertThat(postService.getPost(postId).getViewCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 크기를 넘는 게시글도 한 번에 반영하고 반영한 게시글의 캐시를 비운다")
+    void flushesInBatchesAndEvictsCache() {
+        List<Long> postIds = List.of(post(), post(), post(), post(), post());
+        for (Long postId : postIds) {
+            postService.getPost(postId);
+        }
+        for (int i = 0; i < postIds.size(); i++) {
+            for (int v = 0; v < i; v++) {
+                viewCountService.recordView(postIds.get(i));
+            }
+        }
+        AtomicInteger reloads = new AtomicInteger();
+        postCacheService.get(postIds.get(0), id -> reload(id, reloads));
+        assertThat(reloads.get()).isZero();
+
+        assertThat(viewCountService.flush()).isEqualTo(postIds.size());
+
+        for (int i = 0; i < postIds.size(); i++) {
+            assertThat(storedViews(postIds.get(i))).isEqualTo(1 + i);
+            postCacheService.get(postIds.get(i), id -> reload(id, reloads));
+        }
+        assertThat(reloads.get()).isEqualTo(postIds.size());
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 조회수를 모두 반영한다")
+    void drainsOnShutdown() {
+        Long postId = post();
+        for (int i = 0; i < 3; i++) {
+            viewCountService.recordView(postId);
+        }
+
+        viewCountService.drainOnShutdown();
+
+        assertThat(storedViews(postId)).isEqualTo(3);
+        assertThat(viewCountService.getPendingCount(postId)).isZero();
+    }
+
+    private static PostResponse reload(Long postId, AtomicInteger reloads) {
+        reloads.incrementAndGet();
+        return PostResponse.builder().id(postId).title("title").build();
+    }
+}
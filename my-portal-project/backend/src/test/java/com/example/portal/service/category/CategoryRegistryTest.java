@@ -0,0 +1,79 @@
+package com.example.portal.service.category;
+
+import com.example.portal.entity.Category;
+import com.example.portal.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryRegistryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CategoryRegistry(categoryRepository);
+    }
+
+    private static Category category(long id, String name, int displayOrder, boolean active) {
+        return Category.builder()
+                .id(id).name(name).description(name + " 게시판")
+                .displayOrder(displayOrder).isActive(active)
+                .createdAt(NOW).updatedAt(NOW)
+                .build();
+    }
+
+    @Test
+    @DisplayName("적재한 카테고리를 ID/이름으로 찾고, 활성 카테고리는 표시 순서로 정렬한다")
+    void indexesByIdAndName() {
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                category(1, "자유게시판", 2, true),
+                category(2, "공지사항", 1, true),
+                category(3, "보관함", 0, false)));
+
+        registry.load();
+
+        assertThat(registry.getVersion()).isEqualTo(1);
+        assertThat(registry.findById(2L)).map(CategoryInfo::getName).contains("공지사항");
+        assertThat(registry.findByName("자유게시판")).map(CategoryInfo::getId).contains(1L);
+        assertThat(registry.findById(99L)).isEmpty();
+        assertThat(registry.findByName(null)).isEmpty();
+        assertThat(registry.getAll()).extracting(CategoryInfo::getId).containsExactly(1L, 2L, 3L);
+        assertThat(registry.getActive()).extracting(CategoryInfo::getName).containsExactly("공지사항", "자유게시판");
+    }
+
+    @Test
+    @DisplayName("내용이 바뀌면 새 버전의 스냅샷으로 교체하고, 같으면 버전을 유지한다")
+    void rebuildBumpsVersionOnlyOnChange() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1, "자유게시판", 1, true)));
+        registry.load();
+        CategorySnapshot first = registry.getSnapshot();
+
+        assertThat(registry.rebuild()).isSameAs(first);
+
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                category(1, "자유게시판", 1, true),
+                category(2, "질문게시판", 2, true)));
+        CategorySnapshot second = registry.rebuild();
+
+        assertThat(second.getVersion()).isEqualTo(2);
+        assertThat(registry.findByName("질문게시판")).isPresent();
+        // 이전 스냅샷을 읽던 쪽은 그대로 이전 내용을 봄
+        assertThat(first.getAll()).hasSize(1);
+        assertThat(first.findByName("질문게시판")).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.portal.service.comment;
+
+import com.example.portal.config.CommentFloodConfig;
+import com.example.portal.dto.comment.ShadowedComment;
+import com.example.portal.enums.CommentFloodVerdict;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentFloodDetectorTest {
+    private static final String SPAM = "지금 바로 가입하면 포인트 만원 지급! 링크를 확인하세요";
+
+    private CommentFloodConfig config;
+    private CommentFloodDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        config = new CommentFloodConfig();
+        config.setUserLimit(3);
+        config.setPostLimit(5);
+        config.setShadowQueueSize(2);
+        detector = new CommentFloodDetector(config);
+    }
+
+    @Test
+    @DisplayName("사용자별 작성 횟수가 윈도 안에서 한도를 넘으면 차단되고 윈도가 지나면 다시 허용된다")
+    void limitsPerUserWithinWindow() {
+        long now = 1_000_000L;
+        for (int i = 0; i < 3; i++) {
+            assertThat(detector.check(1L, 10L + i, "comment " + i, now + i * 1000L))
+                    .isEqualTo(CommentFloodVerdict.ALLOWED);
+        }
+        assertThat(detector.check(1L, 20L, "one more", now + 3000)).isEqualTo(CommentFloodVerdict.USER_RATE);
+        assertThat(detector.check(2L, 20L, "other user", now + 3000)).isEqualTo(CommentFloodVerdict.ALLOWED);
+
+        long later = now + config.getWindowMillis() + config.getWindowMillis() / config.getBuckets();
+        assertThat(detector.check(1L, 20L, "after window", later)).isEqualTo(CommentFloodVerdict.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("게시글 하나에 여러 사용자가 몰리면 게시글 한도로 차단된다")
+    void limitsPerPost() {
+        long now = 1_000_000L;
+        for (long user = 1; user <= 5; user++) {
+            assertThat(detector.check(user, 7L, "reply " + user, now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+        }
+        assertThat(detector.check(6L, 7L, "reply 6", now)).isEqualTo(CommentFloodVerdict.POST_RATE);
+        assertThat(detector.check(6L, 8L, "reply 6", now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("사용자 한도에 걸린 시도는 게시글 횟수와 지문에 남지 않아 다른 사용자를 막지 않는다")
+    void blockedUserDoesNotBlockOthers() {
+        long now = 1_000_000L;
+        for (int i = 0; i < 3; i++) {
+            assertThat(detector.check(1L, 7L, "first " + i, now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(detector.check(1L, 7L, SPAM, now)).isEqualTo(CommentFloodVerdict.USER_RATE);
+        }
+
+        assertThat(detector.check(2L, 7L, "second user", now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+        assertThat(detector.check(3L, 7L, SPAM, now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기나 기호만 바꾼 같은 내용이 반복되면 중복으로 차단되고 짧은 내용은 검사하지 않는다")
+    void detectsNearDuplicates() {
+        config.setUserLimit(100);
+        config.setPostLimit(100);
+        long now = 1_000_000L;
+        assertThat(detector.check(1L, 1L, SPAM, now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+        assertThat(detector.check(1L, 2L, SPAM.replace(" ", "  ") + "!!", now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+        assertThat(detector.check(1L, 3L, SPAM.toUpperCase() + " ~", now)).isEqualTo(CommentFloodVerdict.DUPLICATE);
+        // 다른 사용자가 다른 게시글에 쓴 같은 내용은 비교 대상이 아님
+        assertThat(detector.check(2L, 4L, SPAM, now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+        // 오래된 지문은 비교하지 않음
+        assertThat(detector.check(1L, 5L, SPAM, now + config.getDuplicateTtl() + 1))
+                .isEqualTo(CommentFloodVerdict.ALLOWED);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(detector.check(3L, 9L, "감사합니다", now)).isEqualTo(CommentFloodVerdict.ALLOWED);
+        }
+    }
+
+    @Test
+    @DisplayName("SimHash 는 거의 같은 내용에 가까운 지문을, 다른 내용에 먼 지문을 만든다")
+    void simHashDistance() {
+        long base = ContentFingerprint.simHash(ContentFingerprint.normalize(SPAM));
+        long edited = ContentFingerprint.simHash(ContentFingerprint.normalize(SPAM + " 지금"));
+        long other = ContentFingerprint.simHash(ContentFingerprint.normalize("오늘 점심 메뉴 추천 부탁드립니다 여러분"));
+
+        assertThat(ContentFingerprint.distance(base, edited)).isLessThan(ContentFingerprint.distance(base, other));
+        assertThat(ContentFingerprint.distance(base, other)).isGreaterThan(config.getMaxDistance());
+    }
+
+    @Test
+    @DisplayName("SHADOW 대기열은 크기를 넘으면 가장 오래된 댓글부터 버린다")
+    void shadowQueueIsBounded() {
+        for (long i = 1; i <= 3; i++) {
+            detector.shadow(i, 1L, null, "spam " + i, CommentFloodVerdict.DUPLICATE);
+        }
+        assertThat(detector.getShadowedComments()).extracting(ShadowedComment::getUserId).containsExactly(2L, 3L);
+        assertThat(detector.getStatistics()).containsEntry("shadowDropped", 1L);
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도 카운터는 동시에 증가해도 횟수를 잃지 않는다")
+    void counterIsExactUnderContention() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(60_000, 12);
+        long now = 1_000_000L;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        counter.incrementAndSum(now);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(counter.sum(now)).isEqualTo(8000);
+        assertThat(counter.sum(now + 120_000)).isZero();
+    }
+}
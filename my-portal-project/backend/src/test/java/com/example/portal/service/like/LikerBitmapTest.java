@@ -0,0 +1,77 @@
+package com.example.portal.service.like;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikerBitmapTest {
+
+    @Test
+    @DisplayName("추가/삭제한 사용자 ID 의 포함 여부와 개수가 맞다")
+    void addRemoveContains() {
+        LikerBitmap bitmap = new LikerBitmap();
+
+        assertThat(bitmap.add(1L)).isTrue();
+        assertThat(bitmap.add(1L)).isFalse();
+        assertThat(bitmap.add(70_000L)).isTrue();
+        assertThat(bitmap.add(5_000_000_000L)).isTrue();
+
+        assertThat(bitmap.contains(1L)).isTrue();
+        assertThat(bitmap.contains(2L)).isFalse();
+        assertThat(bitmap.contains(70_000L)).isTrue();
+        assertThat(bitmap.contains(5_000_000_000L)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+
+        assertThat(bitmap.remove(70_000L)).isTrue();
+        assertThat(bitmap.remove(70_000L)).isFalse();
+        assertThat(bitmap.remove(5_000_000_000L)).isTrue();
+        assertThat(bitmap.contains(70_000L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원소가 많아지면 비트셋으로, 다시 줄어들면 배열로 바뀌어도 내용이 유지된다")
+    void convertsBetweenContainers() {
+        LikerBitmap bitmap = new LikerBitmap();
+        for (long id = 0; id < 10_000; id++) {
+            bitmap.add(id * 3);
+        }
+        long denseSize = bitmap.sizeInBytes();
+        assertThat(denseSize).isLessThan(10_000L * 2);
+
+        for (long id = 0; id < 9_000; id++) {
+            bitmap.remove(id * 3);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(1_000);
+        assertThat(bitmap.contains(9_000L * 3)).isTrue();
+        assertThat(bitmap.contains(8_999L * 3)).isFalse();
+        assertThat(bitmap.sizeInBytes()).isLessThan(denseSize);
+    }
+
+    @Test
+    @DisplayName("무작위 연산 결과가 HashSet 과 같다")
+    void matchesHashSet() {
+        Random random = new Random(42);
+        LikerBitmap bitmap = new LikerBitmap();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long id = random.nextInt(300_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(bitmap.remove(id)).isEqualTo(expected.remove(id));
+            } else {
+                assertThat(bitmap.add(id)).isEqualTo(expected.add(id));
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        for (long id = 0; id < 300_000; id++) {
+            assertThat(bitmap.contains(id)).isEqualTo(expected.contains(id));
+        }
+    }
+}
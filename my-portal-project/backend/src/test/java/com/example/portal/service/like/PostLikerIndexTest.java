@@ -0,0 +1,105 @@
+package com.example.portal.service.like;
+
+import com.example.portal.config.LikeIndexConfig;
+import com.example.portal.dto.post.PostLikerRow;
+import com.example.portal.repository.PostLikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikerIndexTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    private LikeIndexConfig config;
+    private PostLikerIndex index;
+    // post_likes 테이블 대신 사용하는 게시글별 좋아요 사용자
+    private final Map<Long, Set<Long>> likes = new HashMap<>();
+    private Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() {
+        config = new LikeIndexConfig();
+        index = new PostLikerIndex(config, postLikeRepository);
+        when(postLikeRepository.findLikersByPostIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> postIds = invocation.getArgument(0);
+            List<PostLikerRow> rows = new ArrayList<>();
+            for (Long postId : postIds) {
+                likes.getOrDefault(postId, Set.of()).forEach(userId -> rows.add(new PostLikerRow(postId, userId)));
+            }
+            duringLoad.run();
+            return rows;
+        });
+    }
+
+    private void like(Long postId, Long userId) {
+        likes.computeIfAbsent(postId, id -> new LinkedHashSet<>()).add(userId);
+        index.liked(postId, userId);
+    }
+
+    @Test
+    @DisplayName("비트맵을 읽는 동안 좋아요가 커밋되면 읽은 비트맵을 보관하지 않고 다음 조회에서 다시 읽는다")
+    void discardsLoadRacingWithMutation() {
+        likes.put(1L, new LinkedHashSet<>(List.of(5L)));
+        duringLoad = () -> {
+            duringLoad = () -> { };
+            like(1L, 7L);
+        };
+
+        assertThat(index.findLikedPostIds(5L, List.of(1L))).containsExactly(1L);
+        assertThat(index.getStatistics()).containsEntry("posts", 0).containsEntry("discardedLoads", 1L);
+
+        assertThat(index.findLikedPostIds(7L, List.of(1L))).containsExactly(1L);
+        assertThat(index.findLikedPostIds(7L, List.of(1L))).containsExactly(1L);
+        assertThat(index.getStatistics()).containsEntry("posts", 1).containsEntry("hits", 1L);
+        verify(postLikeRepository, times(2)).findLikersByPostIdIn(anyCollection());
+
+        index.unliked(1L, 7L);
+        likes.get(1L).remove(7L);
+        assertThat(index.findLikedPostIds(7L, List.of(1L))).isEmpty();
+        verify(postLikeRepository, times(2)).findLikersByPostIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("전체 비트맵 크기가 한도를 넘으면 가장 오래 사용하지 않은 게시글부터 제거한다")
+    void evictsLeastRecentlyUsedOverByteCap() {
+        LikerBitmap single = new LikerBitmap();
+        single.add(1L);
+        config.setMaxBytes(single.sizeInBytes() * 2 + single.sizeInBytes() / 2);
+        for (long postId = 1; postId <= 3; postId++) {
+            likes.put(postId, new LinkedHashSet<>(List.of(1L)));
+        }
+
+        index.findLikedPostIds(1L, List.of(1L, 2L));
+        index.findLikedPostIds(1L, List.of(1L));
+        index.findLikedPostIds(1L, List.of(3L));
+
+        Map<String, Object> stats = index.getStatistics();
+        assertThat(stats).containsEntry("posts", 2).containsEntry("evictions", 1L);
+        assertThat((long) stats.get("bytes")).isLessThanOrEqualTo(config.getMaxBytes());
+        verify(postLikeRepository, times(2)).findLikersByPostIdIn(anyCollection());
+
+        // 제거된 2번만 다시 읽고, 남아 있는 1번은 비트맵으로 답한다
+        assertThat(index.findLikedPostIds(1L, List.of(1L, 2L))).containsExactlyInAnyOrder(1L, 2L);
+        verify(postLikeRepository).findLikersByPostIdIn(List.of(2L));
+    }
+}
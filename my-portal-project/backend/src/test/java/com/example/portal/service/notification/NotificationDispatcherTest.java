@@ -0,0 +1,159 @@
+package com.example.portal.service.notification;
+
+import com.example.portal.config.NotificationDispatchConfig;
+import com.example.portal.entity.Comment;
+import com.example.portal.entity.Notification;
+import com.example.portal.entity.Post;
+import com.example.portal.entity.User;
+import com.example.portal.enums.NotificationType;
+import com.example.portal.enums.Role;
+import com.example.portal.event.CommentAddedEvent;
+import com.example.portal.repository.CommentRepository;
+import com.example.portal.repository.NotificationRepository;
+import com.example.portal.repository.PostRepository;
+import com.example.portal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false"
+})
+class NotificationDispatcherTest {
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private User first;
+    private User second;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        owner = user("owner");
+        first = user("first");
+        second = user("second");
+        post = postRepository.save(Post.builder()
+                .title("title").content("content").author("owner").user(owner).build());
+    }
+
+    private User user(String name) {
+        String email = name + "-" + System.nanoTime() + "@example.com";
+        return userRepository.save(User.builder()
+                .email(email).password("password").name(name).nickname(email)
+                .role(Role.ROLE_USER).build());
+    }
+
+    private Comment comment(User author) {
+        return commentRepository.save(Comment.builder().content("comment").post(post).user(author).build());
+    }
+
+    private NotificationDispatcher.Activity activity(NotificationType type, Comment parent, User actor) {
+        return new NotificationDispatcher.Activity(type, post.getId(), parent != null ? parent.getId() : null,
+                actor.getId());
+    }
+
+    private List<Notification> notificationsOf(User user) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+    }
+
+    @Test
+    @DisplayName("한 묶음의 활동은 수신자/종류별 알림 하나로 합쳐지고 자기 활동은 알리지 않는다")
+    void coalescesPerRecipient() {
+        Comment firstComment = comment(first);
+        Comment ownerComment = comment(owner);
+
+        int written = notificationDispatcher.dispatch(List.of(
+                activity(NotificationType.COMMENT, null, first),
+                activity(NotificationType.COMMENT, null, second),
+                activity(NotificationType.COMMENT, null, owner),
+                activity(NotificationType.LIKE, null, first),
+                activity(NotificationType.LIKE, null, second),
+                activity(NotificationType.REPLY, firstComment, second),
+                activity(NotificationType.REPLY, firstComment, owner),
+                activity(NotificationType.REPLY, ownerComment, first)));
+
+        assertThat(written).isEqualTo(4);
+        assertThat(notificationsOf(owner)).extracting(Notification::getType, Notification::getContent)
+                .containsExactlyInAnyOrder(
+                        tuple("COMMENT", NotificationType.COMMENT.content(3)),
+                        tuple("LIKE", NotificationType.LIKE.content(2)),
+                        tuple("REPLY", NotificationType.REPLY.content(1)));
+        assertThat(notificationsOf(first)).extracting(Notification::getType, Notification::getContent)
+                .containsExactly(tuple("REPLY", NotificationType.REPLY.content(2)));
+        assertThat(notificationsOf(second)).isEmpty();
+        assertThat(notificationsOf(owner)).extracting(Notification::getLink).containsOnly("/posts/" + post.getId());
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트만 원래 트랜잭션이 끝난 뒤 작업 스레드에서 기록된다")
+    void deliversOnlyAfterCommit() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new CommentAddedEvent(null, post.getId(), null, first.getId()));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new CommentAddedEvent(null, post.getId(), null, second.getId()));
+            assertThat(notificationsOf(owner)).isEmpty();
+        });
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (notificationsOf(owner).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(notificationsOf(owner)).extracting(Notification::getContent)
+                .containsExactly(NotificationType.COMMENT.content(1));
+    }
+
+    @Test
+    @DisplayName("대기열에 넣을 수 없으면 활동을 버리지 않고 요청 스레드에서 직접 기록한다")
+    void callerWritesWhenQueueUnavailable() {
+        NotificationDispatchConfig config = new NotificationDispatchConfig();
+        config.setQueueCapacity(1);
+        config.setOfferTimeout(1);
+        // 시작하지 않은(또는 종료된) 발송기는 대기열을 쓰지 않음
+        NotificationDispatcher stopped = new NotificationDispatcher(config, notificationRepository,
+                postRepository, commentRepository, transactionManager);
+
+        stopped.submit(activity(NotificationType.LIKE, null, first));
+        stopped.submit(activity(NotificationType.LIKE, null, second));
+
+        assertThat(notificationsOf(owner)).hasSize(2);
+        assertThat(stopped.getStatistics()).containsEntry("callerRuns", 2L).containsEntry("written", 2L);
+    }
+}
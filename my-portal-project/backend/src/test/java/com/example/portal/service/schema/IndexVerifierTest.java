@@ -0,0 +1,82 @@
+package com.example.portal.service.schema;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexVerifierTest {
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE posts (id INTEGER PRIMARY KEY, category_id INTEGER, user_id INTEGER, "
+                    + "created_at TIMESTAMP, view_count INTEGER, is_deleted BOOLEAN, deleted_at TIMESTAMP)");
+            statement.execute("CREATE TABLE comments (id INTEGER PRIMARY KEY, post_id INTEGER, parent_id INTEGER, "
+                    + "path VARCHAR(1000), created_at TIMESTAMP)");
+            statement.execute("CREATE TABLE notifications (id INTEGER PRIMARY KEY, user_id INTEGER, "
+                    + "read BOOLEAN, created_at TIMESTAMP)");
+            statement.execute("CREATE TABLE post_likes (id INTEGER PRIMARY KEY, post_id INTEGER, user_id INTEGER, "
+                    + "UNIQUE (post_id, user_id))");
+            statement.execute("CREATE TABLE refresh_tokens (id INTEGER PRIMARY KEY, token VARCHAR(255) UNIQUE)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("유니크 제약조건이 만든 인덱스 외의 필수 인덱스는 누락으로 보고된다")
+    void reportsMissingIndexes() throws SQLException {
+        List<ExpectedIndex> missing = IndexVerifier.findMissing(connection, ExpectedIndex.HOT_QUERY_INDEXES);
+
+        assertThat(missing).extracting(Object::toString).containsExactly(
+                "posts(created_at)",
+                "posts(category_id, created_at)",
+                "posts(view_count)",
+                "posts(user_id, created_at)",
+                "comments(post_id, created_at, id)",
+                "comments(post_id, path)",
+                "notifications(user_id, read, created_at)");
+    }
+
+    @Test
+    @DisplayName("SQLite 마이그레이션 스크립트를 적용하면 필수 인덱스가 모두 존재한다")
+    void migrationCreatesAllIndexes() throws SQLException {
+        for (String script : List.of("V2__Add_hot_query_indexes.sql", "V3__Add_live_post_partial_indexes.sql",
+                "V4__Add_author_post_index.sql", "V5__Add_comment_paths.sql", "V6__Add_comment_cursor_index.sql")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/sqlite/" + script));
+        }
+
+        assertThat(IndexVerifier.findMissing(connection, ExpectedIndex.HOT_QUERY_INDEXES)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선행 컬럼이 일치하는 복합 인덱스는 충족으로, 컬럼 순서가 다르면 누락으로 판단한다")
+    void matchesByLeadingColumns() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX idx_a ON posts (created_at, id)");
+            statement.execute("CREATE INDEX idx_b ON posts (created_at, category_id)");
+        }
+
+        List<ExpectedIndex> missing = IndexVerifier.findMissing(connection, List.of(
+                new ExpectedIndex("posts", "created_at"),
+                new ExpectedIndex("posts", "category_id", "created_at")));
+
+        assertThat(missing).extracting(Object::toString).containsExactly("posts(category_id, created_at)");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPostSearchIndexTest {
+
+    private InMemoryPostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        SearchConfig config = new SearchConfig();
+        config.setTokenizer(PostTokenizer.MODE_NGRAM);
+        index = new InMemoryPostSearchIndex(new PostTokenizer(config), config);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기 없이 붙여 쓴 한국어 복합어의 일부로 검색된다")
+    void findsKoreanCompoundWords() {
+        index.index(new PostSearchDocument(1L, "서울특별시청 방문기", "내용", null));
+        index.index(new PostSearchDocument(2L, "부산 여행", "특별한 하루", null));
+
+        assertThat(index.search("특별시", null, 0, 10).getIds()).containsExactly(1L);
+        assertThat(index.search("특별", null, 0, 10).getIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("BM25 점수가 높은 게시글이 먼저 반환되고 페이지가 나뉜다")
+    void ranksWithBm25AndPages() {
+        index.index(new PostSearchDocument(1L, "일반 글", "스프링 이야기가 조금 나옵니다 " + "다른 내용 ".repeat(30), null));
+        index.index(new PostSearchDocument(2L, "스프링 정리", "스프링 스프링", null));
+        index.index(new PostSearchDocument(3L, "리액트", "컴포넌트", null));
+
+        PostSearchHits first = index.search("스프링", null, 0, 1);
+        PostSearchHits second = index.search("스프링", null, 1, 1);
+
+        assertThat(first.getTotal()).isEqualTo(2);
+        assertThat(first.getIds()).containsExactly(2L);
+        assertThat(second.getIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("마지막 영문 단어는 접두어로 검색되고 카테고리로 거를 수 있다")
+    void prefixMatchingAndCategoryFilter() {
+        index.index(new PostSearchDocument(1L, "Spring Boot 설정", "내용", 1L));
+        index.index(new PostSearchDocument(2L, "Spring Batch", "내용", 2L));
+
+        assertThat(index.search("spring bo", null, 0, 10).getIds()).containsExactly(1L);
+        assertThat(index.search("spr", 2L, 0, 10).getIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제/재색인이 반영된다")
+    void updatesRemovesAndRebuilds() {
+        index.index(new PostSearchDocument(1L, "데이터베이스", "인덱스", null));
+        index.index(new PostSearchDocument(1L, "네트워크", "프로토콜", null));
+        assertThat(index.search("데이터베이스", null, 0, 10).getTotal()).isZero();
+
+        index.remove(1L);
+        assertThat(index.search("네트워크", null, 0, 10).getTotal()).isZero();
+
+        index.rebuild(consumer -> List.of(new PostSearchDocument(5L, "네트워크 기초", "내용", null)).forEach(consumer));
+        assertThat(index.search("네트워크", null, 0, 10).getIds()).containsExactly(5L);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqliteFtsPostSearchIndexTest {
+
+    private SingleConnectionDataSource dataSource;
+    private SqliteFtsPostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:sqlite::memory:", true);
+        dataSource.setDriverClassName("org.sqlite.JDBC");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        index = new SqliteFtsPostSearchIndex(jdbcTemplate, transactionTemplate, new SearchConfig());
+        assertThat(index.initialize()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 게시글이 본문에만 있는 게시글보다 앞선다")
+    void ranksTitleMatchesFirst() {
+        index.index(new PostSearchDocument(1L, "공지", "스프링부트 설정 방법을 정리했습니다", null));
+        index.index(new PostSearchDocument(2L, "스프링부트 입문", "기초 내용", null));
+        index.index(new PostSearchDocument(3L, "리액트", "컴포넌트", null));
+
+        PostSearchHits hits = index.search("스프링부트", null, 0, 10);
+
+        assertThat(hits.getTotal()).isEqualTo(2);
+        assertThat(hits.getIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 필터와 짧은 검색어를 지원한다")
+    void filtersByCategoryAndSupportsShortKeywords() {
+        index.index(new PostSearchDocument(1L, "자바 질문", "내용", 1L));
+        index.index(new PostSearchDocument(2L, "자바 답변", "내용", 2L));
+
+        assertThat(index.search("자바", 2L, 0, 10).getIds()).containsExactly(2L);
+        assertThat(index.search("자바", null, 0, 10).getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 색인에 반영되고 재색인 후에도 검색된다")
+    void updatesRemovesAndRebuilds() {
+        index.index(new PostSearchDocument(1L, "데이터베이스", "인덱스", null));
+        index.index(new PostSearchDocument(1L, "네트워크", "프로토콜", null));
+        assertThat(index.search("데이터베이스", null, 0, 10).getTotal()).isZero();
+
+        index.remove(1L);
+        assertThat(index.search("네트워크", null, 0, 10).getTotal()).isZero();
+
+        int indexed = index.rebuild(consumer -> List.of(
+                new PostSearchDocument(5L, "네트워크 기초", "내용", null),
+                new PostSearchDocument(6L, "운영체제", "내용", null)).forEach(consumer));
+
+        assertThat(indexed).isEqualTo(2);
+        assertThat(index.search("네트워크", null, 0, 10).getIds()).containsExactly(5L);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.portal.service.search;
+
+import com.example.portal.dto.post.PostRequest;
+import com.example.portal.dto.post.PostResponse;
+import com.example.portal.entity.User;
+import com.example.portal.enums.Role;
+import com.example.portal.repository.UserRepository;
+import com.example.portal.security.user.UserPrincipal;
+import com.example.portal.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration",
+        "spring.jpa.show-sql=false",
+        "app.search.engine=sqlite-fts",
+        // 운영처럼 커넥션을 둘 이상 사용 (커밋 후 색인은 새 트랜잭션에서 별도 커넥션으로 기록)
+        "spring.datasource.hikari.maximum-pool-size=2"
+})
+@DirtiesContext
+class SqliteFtsPostSearchServiceTest {
+
+    /**
+     * 컨텍스트마다 새 임시 파일 DB 를 사용합니다.
+     * 공유 캐시 메모리 DB 는 다른 컨텍스트와 이름이 겹칠 수 있고, 잠금 충돌 시 기다리지 않고 바로 실패합니다.
+     */
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        Path database = Files.createTempFile("fts-search-test-", ".db");
+        database.toFile().deleteOnExit();
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + database.toAbsolutePath());
+    }
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostSearchService postSearchService;
+
+    @Autowired
+    private TitleSuggester titleSuggester;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        String email = "fts-" + System.nanoTime() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .email(email).password("password").name("writer").nickname(email)
+                .role(Role.ROLE_USER).build());
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private PostRequest request(String title, String content) {
+        return objectMapper.convertValue(Map.of("title", title, "content", content), PostRequest.class);
+    }
+
+    private List<Long> search(String keyword) {
+        return postSearchService.search(keyword, null, PageRequest.of(0, 10)).getContent();
+    }
+
+    @Test
+    @DisplayName("서비스로 작성/수정/삭제한 게시글이 커밋 후 FTS 색인에 바로 반영된다")
+    void indexesCommittedPostChanges() {
+        PostResponse created = postService.createPost(request("쿠버네티스 배포 가이드", "헬름 차트 정리"), null);
+        assertThat(search("쿠버네티스")).containsExactly(created.getId());
+
+        postService.updatePost(created.getId(), request("도커 컴포즈 가이드", "헬름 차트 정리"));
+        assertThat(search("쿠버네티스")).isEmpty();
+        assertThat(search("도커 컴포즈")).containsExactly(created.getId());
+
+        postService.deletePost(created.getId());
+        assertThat(search("도커 컴포즈")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시작해 기존 FTS 색인을 그대로 쓰더라도 제목 제안 트라이는 DB 에서 다시 채운다")
+    void loadsSuggestionsOnRestart() {
+        postService.createPost(request("테라폼 모듈 작성법", "변수와 출력"), null);
+        // 재시작 직후처럼 메모리 트라이만 비어 있는 상태
+        titleSuggester.replace(new TitleSuggester.TitleTrie());
+        assertThat(postSearchService.suggest("테라폼", 10)).isEmpty();
+
+        postSearchService.initialize();
+
+        assertThat(postSearchService.suggest("테라폼", 10)).containsExactly("테라폼 모듈 작성법");
+    }
+
+    @Test
+    @DisplayName("3글자 미만 검색어도 제목에 포함된 게시글을 먼저 정렬한다")
+    void ranksShortTermsByTitle() {
+        PostResponse inTitle = postService.createPost(request("뷁쉪 입문", "기초 정리"), null);
+        PostResponse inContent = postService.createPost(request("다른 주제", "본문에만 뷁쉪 등장"), null);
+
+        assertThat(search("뷁쉪")).containsExactly(inTitle.getId(), inContent.getId());
+        assertThat(search("뷁쉪 등장")).containsExactly(inContent.getId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.portal.service.search;
+
+import com.example.portal.config.SearchConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleSuggesterTest {
+
+    private TitleSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new TitleSuggester(new SearchConfig());
+        suggester.add(1L, "스프링 부트 시작하기");
+        suggester.add(2L, "스프링 시큐리티 정리");
+        suggester.add(3L, "스프링 부트 시작하기");
+        suggester.add(4L, "리액트 훅 정리");
+    }
+
+    @Test
+    @DisplayName("접두어가 일치하는 제목을 같은 제목의 게시글 수 순으로 제안한다")
+    void suggestsByPrefix() {
+        assertThat(suggester.suggest("스프링", 10))
+                .containsExactly("스프링 부트 시작하기", "스프링 시큐리티 정리");
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 비슷한 제목을 제안한다")
+    void toleratesTypos() {
+        assertThat(suggester.suggest("스프랑 부", 10)).first().isEqualTo("스프링 부트 시작하기");
+        assertThat(suggester.suggest("리엑트", 10)).containsExactly("리액트 훅 정리");
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글의 제목은 제안하지 않는다")
+    void removesTitles() {
+        suggester.remove(2L);
+
+        suggester.remove(1L);
+
+        assertThat(suggester.suggest("스프링", 10)).containsExactly("스프링 부트 시작하기");
+    }
+}